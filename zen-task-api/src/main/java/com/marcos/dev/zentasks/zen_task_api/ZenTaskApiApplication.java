@@ -2,9 +2,14 @@ package com.marcos.dev.zentasks.zen_task_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC only backs the reactive-reads profile, which builds its own connection factory
+@SpringBootApplication(exclude = { R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class })
+@EnableScheduling
 @ComponentScan(basePackages = {"com.marcos.dev.zentasks.zen_task_api.modules", "com.marcos.dev.zentasks.zen_task_api.common"})
 public class ZenTaskApiApplication {
 
@@ -0,0 +1,11 @@
+package com.marcos.dev.zentasks.zen_task_api.common.exceptions;
+
+/**
+ * Exceção lançada quando a pré-condição de uma requisição condicional
+ * (ex: o cabeçalho If-Match) não corresponde ao estado atual do recurso.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
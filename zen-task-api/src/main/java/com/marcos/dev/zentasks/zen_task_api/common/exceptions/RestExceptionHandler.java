@@ -2,6 +2,7 @@ package com.marcos.dev.zentasks.zen_task_api.common.exceptions;
 
 import com.marcos.dev.zentasks.zen_task_api.common.dtos.ErrorResponseDTO;
 import com.marcos.dev.zentasks.zen_task_api.common.dtos.ValidationErrorResponseDTO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -84,6 +85,49 @@ public class RestExceptionHandler {
                 HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handles exceptions of type PreconditionFailedException, thrown when the If-Match
+     * header of a request does not match the current version of the resource.
+     *
+     * @param ex the PreconditionFailedException instance that was thrown
+     * @return a ResponseEntity containing an ErrorResponseDTO with HTTP status 412 (PRECONDITION_FAILED)
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponseDTO> handlerPreconditionFailedException(PreconditionFailedException ex) {
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Recurso modificado!",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return new ResponseEntity<>(
+                errorResponseDTO,
+                HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles exceptions of type TooManyRequestsException, thrown when a bounded server
+     * resource such as the password hashing pool is saturated.
+     *
+     * @param ex the TooManyRequestsException instance that was thrown
+     * @return a ResponseEntity containing an ErrorResponseDTO with HTTP status 429 (TOO_MANY_REQUESTS)
+     *         and a Retry-After header
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponseDTO> handlerTooManyRequestsException(TooManyRequestsException ex) {
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Muitas requisições!",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponseDTO);
+    }
+
     /**
      * Handles exceptions of type ForbiddenAccessException and transforms them into an HTTP response
      * with a standardized error body. This method is triggered whenever a ForbiddenAccessException
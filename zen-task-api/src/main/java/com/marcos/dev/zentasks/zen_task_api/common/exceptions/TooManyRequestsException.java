@@ -0,0 +1,20 @@
+package com.marcos.dev.zentasks.zen_task_api.common.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Exceção lançada quando um recurso limitado do servidor (ex: o pool de hashing
+ * de senhas) está saturado e a requisição deve ser repetida mais tarde.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,187 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Counts the times a virtual thread blocked while pinned to its carrier, usually
+ * inside a synchronized block of a JDBC driver or a logging appender, from the
+ * JDK's own jdk.VirtualThreadPinned events. Each new pinning site is logged once
+ * with its stack; totals and the busiest sites are logged at a fixed interval.
+ * Past {@value #MAX_SITES} distinct sites, new ones are counted together under
+ * {@value #OTHER_SITES}, so code that pins from ever-changing lines cannot grow
+ * the counters without bound.
+ */
+@Component
+@Profile("virtual-threads")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+  private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private static final int LOGGED_FRAMES = 8;
+  private static final int REPORTED_SITES = 5;
+
+  static final int MAX_SITES = 200;
+  static final String OTHER_SITES = "outras origens";
+
+  private final Duration threshold;
+
+  private final LongAdder pinnedCount = new LongAdder();
+  private final LongAdder pinnedNanos = new LongAdder();
+  private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${api.threads.virtual.pinning-threshold:20ms}") Duration threshold) {
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void start() {
+    RecordingStream recording = new RecordingStream();
+    recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(PINNED_EVENT, this::record);
+    recording.startAsync();
+    stream = recording;
+
+    logger.info("[VTHREADS] Monitorando pinagem de virtual threads acima de {} ms", threshold.toMillis());
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  @Scheduled(
+      fixedDelayString = "${api.threads.virtual.pinning-report-interval:5m}",
+      initialDelayString = "${api.threads.virtual.pinning-report-interval:5m}")
+  public void report() {
+    PinningStats stats = stats();
+    if (stats.count() == 0) {
+      logger.info("[VTHREADS] Nenhuma pinagem acima de {} ms", threshold.toMillis());
+      return;
+    }
+
+    logger.info("[VTHREADS] {} pinagens somando {} ms; principais origens: {}",
+        stats.count(),
+        stats.pinnedTime().toMillis(),
+        stats.bySite().entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(REPORTED_SITES)
+            .map(entry -> entry.getKey() + "=" + entry.getValue())
+            .collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * Pinnings recorded since startup.
+   */
+  public PinningStats stats() {
+    Map<String, Long> bySite = pinnedBySite.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    return new PinningStats(pinnedCount.sum(), Duration.ofNanos(pinnedNanos.sum()), bySite);
+  }
+
+  public record PinningStats(long count, Duration pinnedTime, Map<String, Long> bySite) {
+  }
+
+  private void record(RecordedEvent event) {
+    pinnedCount.increment();
+    pinnedNanos.add(event.getDuration().toNanos());
+
+    List<RecordedFrame> frames = frames(event.getStackTrace());
+    String site = site(frames);
+
+    if (countSite(site)) {
+      logger.warn("[VTHREADS] Virtual thread fixada por {} ms em {}:{}",
+          event.getDuration().toMillis(),
+          site,
+          frames.stream()
+              .limit(LOGGED_FRAMES)
+              .map(frame -> "\n\tat " + describe(frame))
+              .collect(Collectors.joining()));
+    }
+  }
+
+  /**
+   * Counts one pinning at the site, or under {@link #OTHER_SITES} once
+   * {@link #MAX_SITES} sites are tracked. Events arrive one at a time on the
+   * recording stream's thread.
+   *
+   * @return whether the site was seen for the first time and is tracked on its own
+   */
+  boolean countSite(String site) {
+    LongAdder counter = pinnedBySite.get(site);
+    if (counter != null) {
+      counter.increment();
+      return false;
+    }
+
+    if (pinnedBySite.size() >= MAX_SITES) {
+      pinnedBySite.computeIfAbsent(OTHER_SITES, key -> {
+        logger.warn("[VTHREADS] Mais de {} origens de pinagem; as próximas serão somadas em \"{}\"",
+            MAX_SITES, OTHER_SITES);
+        return new LongAdder();
+      }).increment();
+      return false;
+    }
+
+    pinnedBySite.computeIfAbsent(site, key -> new LongAdder()).increment();
+    return true;
+  }
+
+  /**
+   * The first frame outside the JDK, usually the driver or application code that
+   * blocked while holding the monitor.
+   */
+  private static String site(List<RecordedFrame> frames) {
+    return frames.stream()
+        .filter(frame -> !isJdkFrame(frame))
+        .findFirst()
+        .or(() -> frames.stream().findFirst())
+        .map(VirtualThreadPinningMonitor::describe)
+        .orElse("desconhecida");
+  }
+
+  private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+    return stackTrace == null ? List.of() : stackTrace.getFrames().stream()
+        .filter(RecordedFrame::isJavaFrame)
+        .toList();
+  }
+
+  private static boolean isJdkFrame(RecordedFrame frame) {
+    String type = frame.getMethod().getType().getName();
+    return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+  }
+}
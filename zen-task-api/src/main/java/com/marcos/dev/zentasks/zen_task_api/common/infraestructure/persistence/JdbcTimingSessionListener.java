@@ -0,0 +1,33 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing JDBC statements and batches to {@link QueryCounter}.
+ * Hibernate creates one instance per session, so the start marks need no synchronization.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+  private long statementStart;
+  private long batchStart;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    statementStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    QueryCounter.recordJdbcTime(System.nanoTime() - statementStart);
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    batchStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    QueryCounter.recordJdbcTime(System.nanoTime() - batchStart);
+  }
+}
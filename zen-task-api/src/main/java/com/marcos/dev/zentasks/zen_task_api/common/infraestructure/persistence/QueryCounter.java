@@ -0,0 +1,59 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+/**
+ * Thread-bound counter of the SQL statements and JDBC time spent by the current unit of work
+ * (an HTTP request or a test method). Recording is a no-op while no unit of work is open,
+ * so the Hibernate hooks cost a single ThreadLocal lookup outside of it.
+ */
+public final class QueryCounter {
+
+  private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+  private QueryCounter() {
+  }
+
+  /**
+   * Opens a unit of work on the current thread, unless one is already open.
+   *
+   * @return true if this call opened it and is therefore responsible for closing it
+   */
+  public static boolean open() {
+    if (CURRENT.get() != null) {
+      return false;
+    }
+    CURRENT.set(new Counts());
+    return true;
+  }
+
+  public static void close() {
+    CURRENT.remove();
+  }
+
+  public static boolean isOpen() {
+    return CURRENT.get() != null;
+  }
+
+  public static QueryStats snapshot() {
+    Counts counts = CURRENT.get();
+    return counts == null ? QueryStats.EMPTY : new QueryStats(counts.statements, counts.jdbcNanos);
+  }
+
+  static void recordStatement() {
+    Counts counts = CURRENT.get();
+    if (counts != null) {
+      counts.statements++;
+    }
+  }
+
+  static void recordJdbcTime(long nanos) {
+    Counts counts = CURRENT.get();
+    if (counts != null) {
+      counts.jdbcNanos += nanos;
+    }
+  }
+
+  private static final class Counts {
+    private long statements;
+    private long jdbcNanos;
+  }
+}
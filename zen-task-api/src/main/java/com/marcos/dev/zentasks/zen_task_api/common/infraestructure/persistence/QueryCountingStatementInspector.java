@@ -0,0 +1,15 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares, without changing it.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    QueryCounter.recordStatement();
+    return sql;
+  }
+}
@@ -0,0 +1,23 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Plugs the statement counter into Hibernate. The hooks are always installed so
+ * integration tests can assert query budgets; the values are only exposed over
+ * HTTP by {@link QueryMetricsFilter} under the debug profile.
+ */
+@Configuration
+public class QueryMetricsConfiguration {
+
+  @Bean
+  public HibernatePropertiesCustomizer queryMetricsHibernateCustomizer() {
+    return properties -> {
+      properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+      properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+    };
+  }
+}
@@ -0,0 +1,142 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Reports the SQL statements and JDBC time of each request in the X-Query-Count and
+ * Server-Timing headers. It runs before the security filters so the user lookup of
+ * SecurityFilter is counted too. Nothing is buffered: the headers are set just before
+ * the body is first written, or when the request finishes without a body.
+ *
+ * <p>Async requests, such as the streamed export or the reactive reads, write their
+ * body on another thread after this filter has returned, so they pass through
+ * without the headers and only the statements of the initial dispatch are logged.
+ */
+@Component
+@Profile("debug")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+  public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+  private static final Logger logger = LoggerFactory.getLogger(QueryMetricsFilter.class);
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+
+    boolean opened = QueryCounter.open();
+    QueryStats start = QueryCounter.snapshot();
+    QueryMetricsResponse metricsResponse = new QueryMetricsResponse(response, start);
+
+    try {
+      filterChain.doFilter(request, metricsResponse);
+    } finally {
+      QueryStats stats = QueryCounter.snapshot().since(start);
+
+      if (request.isAsyncStarted()) {
+        metricsResponse.disable();
+        logger.debug("[QUERYMETRICS] {} {} executou {} consultas antes do processamento assíncrono",
+            request.getMethod(), request.getRequestURI(), stats.statements());
+      } else {
+        metricsResponse.writeHeaders();
+        logger.debug("[QUERYMETRICS] {} {} executou {} consultas em {} ms",
+            request.getMethod(), request.getRequestURI(), stats.statements(), stats.jdbcMillis());
+      }
+
+      if (opened) {
+        QueryCounter.close();
+      }
+    }
+  }
+
+  /**
+   * Sets the metrics headers once, before anything commits the response. Only the
+   * thread that runs the filter writes them, since the counter is bound to it.
+   */
+  private static final class QueryMetricsResponse extends HttpServletResponseWrapper {
+
+    private final QueryStats start;
+    private final Thread requestThread = Thread.currentThread();
+    private volatile boolean done;
+
+    QueryMetricsResponse(HttpServletResponse response, QueryStats start) {
+      super(response);
+      this.start = start;
+    }
+
+    void disable() {
+      done = true;
+    }
+
+    void writeHeaders() {
+      if (done || Thread.currentThread() != requestThread) {
+        return;
+      }
+      done = true;
+
+      if (isCommitted()) {
+        return;
+      }
+
+      QueryStats stats = QueryCounter.snapshot().since(start);
+      setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.statements()));
+      setHeader(SERVER_TIMING_HEADER,
+          String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d queries\"", stats.jdbcMillis(), stats.statements()));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      writeHeaders();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      writeHeaders();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      writeHeaders();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+      writeHeaders();
+      super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+      writeHeaders();
+      super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+      writeHeaders();
+      super.sendRedirect(location);
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+/**
+ * Immutable view of the statements and JDBC time recorded by {@link QueryCounter}.
+ */
+public record QueryStats(long statements, long jdbcNanos) {
+
+  public static final QueryStats EMPTY = new QueryStats(0, 0);
+
+  public QueryStats since(QueryStats start) {
+    return new QueryStats(statements - start.statements, jdbcNanos - start.jdbcNanos);
+  }
+
+  public double jdbcMillis() {
+    return jdbcNanos / 1_000_000.0;
+  }
+}
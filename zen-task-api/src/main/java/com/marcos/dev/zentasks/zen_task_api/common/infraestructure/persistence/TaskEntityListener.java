@@ -2,16 +2,31 @@ package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.suggest.TaskTitleSuggestIndex;
 
 import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.PrePersist;
 
+/**
+ * Instantiated by Hibernate through Spring's bean container. The suggestion index is
+ * looked up lazily: it depends on the repositories, which need this listener to exist,
+ * and it is absent from slice tests such as {@code @DataJpaTest}.
+ */
 public class TaskEntityListener {
 
   private static Logger log = LoggerFactory.getLogger(TaskEntityListener.class);
 
+  private final ObjectProvider<TaskTitleSuggestIndex> suggestIndex;
+
+  public TaskEntityListener(ObjectProvider<TaskTitleSuggestIndex> suggestIndex) {
+    this.suggestIndex = suggestIndex;
+  }
+
   @PrePersist
   public void prePersist(TaskModel taskModel) {
     log.debug("Preparando para salvar a task: {} ", taskModel.getTitle());
@@ -20,5 +35,21 @@ public class TaskEntityListener {
   @PostPersist
   public void postPersist(TaskModel taskModel) {
     log.debug("Task {} persistida com sucessso", taskModel.getTitle());
+    titleChanged(taskModel);
+  }
+
+  @PostUpdate
+  public void postUpdate(TaskModel taskModel) {
+    titleChanged(taskModel);
+  }
+
+  @PostRemove
+  public void postRemove(TaskModel taskModel) {
+    suggestIndex.ifAvailable(index -> index.taskRemoved(taskModel.getUser().getId(), taskModel.getId()));
+  }
+
+  private void titleChanged(TaskModel taskModel) {
+    suggestIndex.ifAvailable(index -> index.titleChanged(
+        taskModel.getUser().getId(), taskModel.getId(), taskModel.getTitle()));
   }
 }
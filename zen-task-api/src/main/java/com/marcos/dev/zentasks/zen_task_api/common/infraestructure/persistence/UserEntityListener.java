@@ -0,0 +1,53 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.availability.UserAvailabilityIndex;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.security.TokenRevocationRegistry;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Revokes the tokens of a changed or deleted user, so a new role, email or password
+ * is not bypassed by a token issued earlier, and marks its username and email as
+ * taken. Looked up lazily for the same reasons as in {@link TaskEntityListener}.
+ */
+public class UserEntityListener {
+
+  private final ObjectProvider<TokenRevocationRegistry> revocationRegistry;
+  private final ObjectProvider<UserAvailabilityIndex> availabilityIndex;
+
+  public UserEntityListener(
+      ObjectProvider<TokenRevocationRegistry> revocationRegistry,
+      ObjectProvider<UserAvailabilityIndex> availabilityIndex) {
+    this.revocationRegistry = revocationRegistry;
+    this.availabilityIndex = availabilityIndex;
+  }
+
+  @PostPersist
+  public void userCreated(UserModel userModel) {
+    identityTaken(userModel);
+  }
+
+  @PostUpdate
+  public void userUpdated(UserModel userModel) {
+    revokeTokens(userModel);
+    identityTaken(userModel);
+  }
+
+  @PostRemove
+  public void userRemoved(UserModel userModel) {
+    revokeTokens(userModel);
+  }
+
+  private void revokeTokens(UserModel userModel) {
+    revocationRegistry.ifAvailable(registry -> registry.revokeTokens(userModel.getId()));
+  }
+
+  private void identityTaken(UserModel userModel) {
+    availabilityIndex.ifAvailable(index -> index.add(userModel.getUsername(), userModel.getEmail()));
+  }
+}
@@ -0,0 +1,94 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChange;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChangeListener;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChangeSubscriber;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Keeps this node's second-level cache in step with writes made by the other API
+ * nodes. The changed ids relayed by {@link TableChangeListener} are evicted together
+ * with the table's query cache region. Local writes are already handled by
+ * Hibernate, so their notifications only evict again.
+ *
+ * <p>Whenever notifications may have been lost the whole cache is evicted. With read
+ * replicas, a load right after the eviction can read the old row from a replica that
+ * has not replayed the write yet, so the eviction is repeated once the
+ * read-your-writes window has passed. A load that races an invalidation otherwise
+ * is bounded by the region's expiry in l2cache.conf.
+ */
+@Component
+@Profile("l2cache")
+public class L2CacheInvalidationListener implements TableChangeSubscriber {
+
+  private static final Map<String, CachedTable> TABLES = Map.of(
+      "tb_users", new CachedTable(UserModel.class, UUID::fromString, UserRepository.USER_QUERIES_REGION));
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final Duration replicaLag;
+
+  public L2CacheInvalidationListener(
+      EntityManagerFactory entityManagerFactory,
+      @Value("${api.datasource.replicas.enabled:false}") boolean replicasEnabled,
+      @Value("${api.datasource.replicas.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.replicaLag = replicasEnabled ? readYourWritesWindow : Duration.ZERO;
+  }
+
+  @Override
+  public void tableChanged(TableChange change) {
+    CachedTable table = TABLES.get(change.table());
+    if (table == null) {
+      return;
+    }
+
+    evict(table, change);
+
+    if (!replicaLag.isZero()) {
+      CompletableFuture.delayedExecutor(replicaLag.toMillis(), TimeUnit.MILLISECONDS)
+          .execute(() -> evict(table, change));
+    }
+  }
+
+  @Override
+  public void changesMissed() {
+    cache().evictAllRegions();
+  }
+
+  private void evict(CachedTable table, TableChange change) {
+    Cache cache = cache();
+
+    if (change.allRows()) {
+      cache.evictEntityData(table.entity());
+    } else {
+      for (String id : change.ids()) {
+        cache.evictEntityData(table.entity(), table.parseId().apply(id));
+      }
+    }
+
+    cache.evictQueryRegion(table.queryRegion());
+  }
+
+  private Cache cache() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+  }
+
+  private record CachedTable(Class<?> entity, Function<String, Object> parseId, String queryRegion) {
+  }
+}
@@ -0,0 +1,61 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.cache;
+
+import java.util.Arrays;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Logs the hits, misses and puts of every second-level cache region since startup.
+ * The same counters are exposed per region over JMX by the Caffeine JCache provider.
+ */
+@Component
+@Profile("l2cache")
+public class L2CacheStatisticsReporter {
+  private static final Logger logger = LoggerFactory.getLogger(L2CacheStatisticsReporter.class);
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  public L2CacheStatisticsReporter(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Scheduled(
+      fixedDelayString = "${api.cache.l2.stats-interval:5m}",
+      initialDelayString = "${api.cache.l2.stats-interval:5m}")
+  public void report() {
+    Statistics statistics = statistics();
+
+    Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(region -> {
+      CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+      if (regionStatistics != null) {
+        logger.info("[L2CACHE] Região {}: {} hits, {} misses, {} puts, taxa de acerto {}",
+            region,
+            regionStatistics.getHitCount(),
+            regionStatistics.getMissCount(),
+            regionStatistics.getPutCount(),
+            hitRatio(regionStatistics.getHitCount(), regionStatistics.getMissCount()));
+      }
+    });
+  }
+
+  /**
+   * Share of lookups answered by the cache, as a percentage; "n/a" before any lookup.
+   */
+  static String hitRatio(long hits, long misses) {
+    long lookups = hits + misses;
+    return lookups == 0 ? "n/a" : String.format("%.1f%%", hits * 100.0 / lookups);
+  }
+
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+}
@@ -0,0 +1,37 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Rows of a table changed by a committed transaction, as announced by the
+ * statement triggers on {@link TableChangeListener#CHANNEL}.
+ *
+ * @param table   the table name
+ * @param ids     the primary keys of the changed rows; empty when {@code allRows}
+ * @param allRows whether too many rows changed to list them
+ */
+public record TableChange(String table, List<String> ids, boolean allRows) {
+
+  /**
+   * Parses a payload: {@code table:id,id,...}, {@code table:*} when too many rows
+   * changed to list, or {@code table:} when no row ids were sent.
+   */
+  static Optional<TableChange> parse(String payload) {
+    int separator = payload == null ? -1 : payload.indexOf(':');
+    if (separator <= 0) {
+      return Optional.empty();
+    }
+
+    String table = payload.substring(0, separator);
+    String ids = payload.substring(separator + 1);
+
+    if (ids.equals("*")) {
+      return Optional.of(new TableChange(table, List.of(), true));
+    }
+
+    return Optional.of(new TableChange(table,
+        ids.isEmpty() ? List.of() : Arrays.asList(ids.split(",")), false));
+  }
+}
@@ -0,0 +1,169 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Relays the row changes committed by every API node to the
+ * {@link TableChangeSubscriber}s of this one. Statement triggers (changeset 13)
+ * publish the changed ids on commit; this listener keeps its own connection to the
+ * primary, outside the pool, listening on the channel.
+ *
+ * <p>Subscribers are told that changes were missed every time listening starts,
+ * since whatever was announced while no connection listened is lost. On databases
+ * without LISTEN/NOTIFY nothing is relayed and each subscriber relies on its own
+ * expiry.
+ */
+@Component
+public class TableChangeListener implements SmartLifecycle {
+  private static final Logger logger = LoggerFactory.getLogger(TableChangeListener.class);
+
+  // Named after its first use; changeset 13 created it for the second-level cache
+  static final String CHANNEL = "l2_cache_invalidation";
+
+  private static final int POLL_TIMEOUT_MILLIS = 10_000;
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final DataSourceProperties dataSourceProperties;
+  private final EntityManagerFactory entityManagerFactory;
+  private final ObjectProvider<TableChangeSubscriber> subscriberProvider;
+  private final Duration reconnectDelay;
+
+  private volatile boolean running;
+  private List<TableChangeSubscriber> subscribers = List.of();
+  private Thread worker;
+
+  public TableChangeListener(
+      DataSourceProperties dataSourceProperties,
+      EntityManagerFactory entityManagerFactory,
+      ObjectProvider<TableChangeSubscriber> subscriberProvider,
+      @Value("${api.datasource.notifications.reconnect-delay:5s}") Duration reconnectDelay) {
+    this.dataSourceProperties = dataSourceProperties;
+    this.entityManagerFactory = entityManagerFactory;
+    this.subscriberProvider = subscriberProvider;
+    this.reconnectDelay = reconnectDelay;
+  }
+
+  @Override
+  public void start() {
+    boolean postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+        .getJdbcServices()
+        .getDialect() instanceof PostgreSQLDialect;
+
+    if (!postgres) {
+      logger.info("[NOTIFY] Banco sem LISTEN/NOTIFY, alterações de outros nós não serão recebidas");
+      return;
+    }
+
+    subscribers = subscriberProvider.orderedStream().toList();
+    running = true;
+    worker = new Thread(this::listen, "table-change-listener");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      worker.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Hands one notification payload to every subscriber; see {@link TableChange#parse}.
+   */
+  void dispatch(String payload) {
+    TableChange.parse(payload).ifPresentOrElse(
+        change -> notifySubscribers(subscriber -> subscriber.tableChanged(change)),
+        () -> logger.warn("[NOTIFY] Notificação desconhecida: {}", payload));
+  }
+
+  private void notifySubscribers(Consumer<TableChangeSubscriber> action) {
+    for (TableChangeSubscriber subscriber : subscribers) {
+      try {
+        action.accept(subscriber);
+      } catch (RuntimeException ex) {
+        // One failing subscriber must not keep the others stale
+        logger.error("[NOTIFY] Falha em {}: {}", subscriber.getClass().getSimpleName(), ex.getMessage(), ex);
+      }
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = DriverManager.getConnection(
+          dataSourceProperties.determineUrl(),
+          dataSourceProperties.determineUsername(),
+          dataSourceProperties.determinePassword())) {
+
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+
+        // Whatever changed before LISTEN took effect was never announced to this node
+        notifySubscribers(TableChangeSubscriber::changesMissed);
+        logger.info("[NOTIFY] Escutando alterações no canal {}", CHANNEL);
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+
+          if (notifications == null || notifications.length == 0) {
+            // A silently dropped connection would otherwise just look idle
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+              throw new SQLException("Conexão de notificações inválida");
+            }
+            continue;
+          }
+
+          for (PGNotification notification : notifications) {
+            dispatch(notification.getParameter());
+          }
+        }
+      } catch (SQLException | RuntimeException ex) {
+        if (!running) {
+          return;
+        }
+
+        logger.warn("[NOTIFY] Conexão de notificações perdida, tentando novamente em {}: {}",
+            reconnectDelay, ex.getMessage());
+        notifySubscribers(TableChangeSubscriber::changesMissed);
+        pause();
+      }
+    }
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(reconnectDelay.toMillis());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
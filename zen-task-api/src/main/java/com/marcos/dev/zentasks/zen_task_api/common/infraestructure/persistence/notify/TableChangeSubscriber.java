@@ -0,0 +1,22 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify;
+
+/**
+ * Node-local state derived from the database that has to follow writes made by
+ * the other API nodes. Called on the listener thread, so implementations must be
+ * quick and thread-safe.
+ */
+public interface TableChangeSubscriber {
+
+  /**
+   * A transaction on any node, this one included, committed changes to the table.
+   * Notifications for tables the subscriber does not track are passed too.
+   */
+  void tableChanged(TableChange change);
+
+  /**
+   * Notifications may have been lost: this node started listening, or listened
+   * again after the connection dropped. Anything derived from the tables must be
+   * treated as stale.
+   */
+  void changesMissed();
+}
@@ -0,0 +1,65 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.replica;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Remembers when each user last committed a write, so their reads stay on the
+ * primary until the replicas had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+  private final Duration window;
+  private final Clock clock;
+  private final ConcurrentMap<String, Instant> lastWrites = new ConcurrentHashMap<>();
+
+  public ReadYourWritesTracker(Duration window) {
+    this(window, Clock.systemUTC());
+  }
+
+  ReadYourWritesTracker(Duration window, Clock clock) {
+    this.window = window;
+    this.clock = clock;
+  }
+
+  public void recordWrite(String user) {
+    if (user != null) {
+      lastWrites.put(user, clock.instant());
+    }
+  }
+
+  public boolean wroteRecently(String user) {
+    if (user == null) {
+      return false;
+    }
+
+    Instant lastWrite = lastWrites.get(user);
+    return lastWrite != null && lastWrite.plus(window).isAfter(clock.instant());
+  }
+
+  public void evictExpired() {
+    Instant cutoff = clock.instant().minus(window);
+    lastWrites.values().removeIf(lastWrite -> lastWrite.isBefore(cutoff));
+  }
+
+  /**
+   * @return the name of the authenticated user of the current thread, or null for anonymous requests
+   */
+  public static String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    if (authentication == null || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+
+    return authentication.getName();
+  }
+}
@@ -0,0 +1,29 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.replica;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically validates the replicas and prunes the read-your-writes entries
+ * that are past their window.
+ */
+public class ReplicaHealthMonitor {
+
+  private final ReplicaRoutingDataSource routingDataSource;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final int timeoutSeconds;
+
+  public ReplicaHealthMonitor(
+      ReplicaRoutingDataSource routingDataSource,
+      ReadYourWritesTracker readYourWritesTracker,
+      int timeoutSeconds) {
+    this.routingDataSource = routingDataSource;
+    this.readYourWritesTracker = readYourWritesTracker;
+    this.timeoutSeconds = timeoutSeconds;
+  }
+
+  @Scheduled(fixedDelayString = "${api.datasource.replicas.health-check-interval:10s}")
+  public void check() {
+    routingDataSource.checkReplicas(timeoutSeconds);
+    readYourWritesTracker.evictExpired();
+  }
+}
@@ -0,0 +1,23 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.replica;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the optional read replicas, under {@code api.datasource.replicas}.
+ * The primary keeps using {@code spring.datasource}.
+ */
+@ConfigurationProperties(prefix = "api.datasource.replicas")
+public record ReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("5s") Duration readYourWritesWindow,
+    @DefaultValue("10s") Duration healthCheckInterval,
+    @DefaultValue("2s") Duration healthCheckTimeout,
+    @DefaultValue List<Node> nodes) {
+
+  public record Node(String url, String username, String password) {
+  }
+}
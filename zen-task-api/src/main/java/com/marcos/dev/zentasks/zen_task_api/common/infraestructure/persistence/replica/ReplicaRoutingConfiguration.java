@@ -0,0 +1,83 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.replica;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replaces the auto-configured DataSource with a primary/replica router when
+ * {@code api.datasource.replicas.enabled} is true. Every pool, primary and replicas,
+ * takes the {@code spring.datasource.hikari} settings.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "api.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+  @Bean
+  public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties properties) {
+    return new ReadYourWritesTracker(properties.readYourWritesWindow());
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      DataSourceProperties primaryProperties,
+      ReplicaProperties properties,
+      ReadYourWritesTracker readYourWritesTracker,
+      Environment environment) {
+
+    Binder binder = Binder.get(environment);
+
+    DataSource primary = withHikariSettings(binder, primaryProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build());
+
+    List<DataSource> replicas = properties.nodes().stream()
+        .map(node -> (DataSource) withHikariSettings(binder, DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(primaryProperties.determineDriverClassName())
+            .url(node.url())
+            .username(node.username())
+            .password(node.password())
+            .build()))
+        .toList();
+
+    return new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  @Bean
+  public ReplicaHealthMonitor replicaHealthMonitor(
+      ReplicaRoutingDataSource replicaRoutingDataSource,
+      ReadYourWritesTracker readYourWritesTracker,
+      ReplicaProperties properties) {
+    return new ReplicaHealthMonitor(
+        replicaRoutingDataSource,
+        readYourWritesTracker,
+        (int) Math.max(1, properties.healthCheckTimeout().toSeconds()));
+  }
+
+  private static HikariDataSource withHikariSettings(Binder binder, HikariDataSource dataSource) {
+    binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    return dataSource;
+  }
+}
@@ -0,0 +1,174 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and everything else
+ * to the primary. A user who committed a write within the read-your-writes window is
+ * kept on the primary, and a replica that refuses a connection is marked down and the
+ * read falls back to the primary.
+ *
+ * <p>Must be wrapped in a {@code LazyConnectionDataSourceProxy}: the transaction's
+ * read-only flag is only bound after the transaction manager asks for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  static final String PRIMARY = "primary";
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+  private final List<String> replicaKeys = new ArrayList<>();
+  private final Set<String> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final ReadYourWritesTracker readYourWritesTracker;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      List<DataSource> replicas,
+      ReadYourWritesTracker readYourWritesTracker) {
+    this.readYourWritesTracker = readYourWritesTracker;
+
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    for (int i = 0; i < replicas.size(); i++) {
+      String key = "replica-" + i;
+      replicaKeys.add(key);
+      targets.put(key, replicas.get(i));
+    }
+
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      trackWriteTransaction();
+      return PRIMARY;
+    }
+
+    if (readYourWritesTracker.wroteRecently(ReadYourWritesTracker.currentUser())) {
+      return PRIMARY;
+    }
+
+    return nextHealthyReplica();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    String key = (String) determineCurrentLookupKey();
+    if (PRIMARY.equals(key)) {
+      return primary().getConnection();
+    }
+
+    try {
+      return dataSourceFor(key).getConnection();
+    } catch (SQLException ex) {
+      markDown(key, ex);
+      return primary().getConnection();
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    String key = (String) determineCurrentLookupKey();
+    if (PRIMARY.equals(key)) {
+      return primary().getConnection(username, password);
+    }
+
+    try {
+      return dataSourceFor(key).getConnection(username, password);
+    } catch (SQLException ex) {
+      markDown(key, ex);
+      return primary().getConnection(username, password);
+    }
+  }
+
+  /**
+   * Validates every replica and updates its health, so that a recovered replica
+   * takes reads again and a failing one stops receiving them.
+   */
+  public void checkReplicas(int timeoutSeconds) {
+    for (String key : replicaKeys) {
+      try (Connection connection = dataSourceFor(key).getConnection()) {
+        if (connection.isValid(timeoutSeconds)) {
+          if (unhealthyReplicas.remove(key)) {
+            logger.info("[REPLICAS] Réplica {} voltou a responder", key);
+          }
+        } else {
+          markDown(key, null);
+        }
+      } catch (SQLException ex) {
+        markDown(key, ex);
+      }
+    }
+  }
+
+  boolean isHealthy(String key) {
+    return !unhealthyReplicas.contains(key);
+  }
+
+  private String nextHealthyReplica() {
+    int replicas = replicaKeys.size();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(replicas, 1));
+
+    for (int i = 0; i < replicas; i++) {
+      String key = replicaKeys.get((start + i) % replicas);
+      if (isHealthy(key)) {
+        return key;
+      }
+    }
+
+    return PRIMARY;
+  }
+
+  private void trackWriteTransaction() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+
+    String user = ReadYourWritesTracker.currentUser();
+    if (user == null) {
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        readYourWritesTracker.recordWrite(user);
+      }
+    });
+  }
+
+  private void markDown(String key, SQLException cause) {
+    if (unhealthyReplicas.add(key)) {
+      logger.warn("[REPLICAS] Réplica {} indisponível, leituras redirecionadas ao primário: {}",
+          key, cause != null ? cause.getMessage() : "conexão inválida");
+    }
+  }
+
+  private DataSource primary() {
+    return getResolvedDefaultDataSource();
+  }
+
+  private DataSource dataSourceFor(String key) {
+    return getResolvedDataSources().get(key);
+  }
+}
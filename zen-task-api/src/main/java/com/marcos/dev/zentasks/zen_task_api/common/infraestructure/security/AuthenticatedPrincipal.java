@@ -0,0 +1,37 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.enums.UserRole;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+
+/**
+ * The user behind the current request, built by SecurityFilter from the verified
+ * token claims alone. Unlike UserModel it carries no password hash or email and
+ * needs no database read.
+ */
+public record AuthenticatedPrincipal(UUID userId, String username, UserRole role) implements Principal {
+
+  private static final String ROLE_PREFIX = "ROLE_";
+
+  public static AuthenticatedPrincipal of(UserModel user) {
+    return new AuthenticatedPrincipal(user.getId(), user.getUsername(), user.getRole());
+  }
+
+  /**
+   * Same authority UserModel grants for the role.
+   */
+  public List<GrantedAuthority> authorities() {
+    return List.of(new SimpleGrantedAuthority(ROLE_PREFIX + role.getRole().toUpperCase()));
+  }
+
+  @Override
+  public String getName() {
+    return username;
+  }
+}
@@ -13,33 +13,35 @@ import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel
 public class AuthenticatedUserService {
 
   public UUID getCurrentUserId() {
-    Authentication authentication = getCurrentAuthentication();
-
-    return getUserIdFromAuthentication(authentication);
+    return getCurrentPrincipal().userId();
   }
 
   public String getCurrrentUsername() {
     return getCurrentAuthentication().getName();
   }
 
-  public Authentication getCurrentAuthentication() {
-    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+  public AuthenticatedPrincipal getCurrentPrincipal() {
+    Object principal = getCurrentAuthentication().getPrincipal();
 
-    if (authentication == null || !authentication.isAuthenticated()) {
-      throw new ForbiddenAccessException("Usuário não autenticado");
+    if (principal instanceof AuthenticatedPrincipal authenticated) {
+      return authenticated;
     }
 
-    return authentication;
+    // Authentications built from UserDetails, such as the login flow's
+    if (principal instanceof UserModel user) {
+      return AuthenticatedPrincipal.of(user);
+    }
+
+    throw new ForbiddenAccessException("Usuário não autenticado");
   }
 
-  private UUID getUserIdFromAuthentication(Authentication authentication) {
-    UserModel userAuthenticated = (UserModel) authentication.getPrincipal();
+  public Authentication getCurrentAuthentication() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-    if (userAuthenticated == null) {
+    if (authentication == null || !authentication.isAuthenticated()) {
       throw new ForbiddenAccessException("Usuário não autenticado");
-
     }
 
-    return userAuthenticated.getId();
+    return authentication;
   }
 }
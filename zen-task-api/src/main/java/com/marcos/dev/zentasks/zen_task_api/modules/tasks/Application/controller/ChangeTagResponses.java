@@ -0,0 +1,32 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Responses of the task listings, which carry the user's change tag as ETag so that
+ * a conditional GET is answered from the tag alone while the tasks are unchanged.
+ */
+final class ChangeTagResponses {
+
+  // Lets the browser keep the lists, but only reuse them after a conditional GET
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ChangeTagResponses() {
+  }
+
+  static <T> ResponseEntity<T> notModified(String tag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .cacheControl(REVALIDATE)
+        .eTag(tag)
+        .build();
+  }
+
+  static <T> ResponseEntity<T> ok(String tag, T body) {
+    return ResponseEntity.ok()
+        .cacheControl(REVALIDATE)
+        .eTag(tag)
+        .body(body);
+  }
+}
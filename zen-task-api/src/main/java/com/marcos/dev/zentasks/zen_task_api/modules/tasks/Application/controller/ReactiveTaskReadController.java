@@ -0,0 +1,94 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.DashboardTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSliceDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.ReactiveTaskReadService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * The routes of {@link TaskReadController}, with the same responses, served from
+ * R2DBC under the reactive-reads profile. The request thread goes back to Tomcat as
+ * soon as the query is issued, and the response is written when the rows arrive, so
+ * waiting clients are not capped by the worker threads or the JDBC pool.
+ */
+@RestController
+@Profile("reactive-reads")
+@RequestMapping("/v1/tasks")
+public class ReactiveTaskReadController {
+  private static final Logger logger = LoggerFactory.getLogger(ReactiveTaskReadController.class);
+
+  private final ReactiveTaskReadService reactiveTaskReadService;
+
+  public ReactiveTaskReadController(ReactiveTaskReadService reactiveTaskReadService) {
+    this.reactiveTaskReadService = reactiveTaskReadService;
+  }
+
+  @GetMapping("/dashboard")
+  public Mono<ResponseEntity<DashboardTaskDTO>> getDashboardTask(WebRequest request) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para obter as tarefas do dashboard");
+
+    // The overdue and today buckets also move with the date
+    Mono<String> tag = reactiveTaskReadService.getTasksChangeTag().map(changeTag -> changeTag + "-" + LocalDate.now());
+
+    return conditionalGet(request, tag, reactiveTaskReadService.getDashboardTasks());
+  }
+
+  @GetMapping
+  public Mono<ResponseEntity<TaskSliceDTO>> findTasksByFilter(
+      TaskFilterDTO filter,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      WebRequest request) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para obter as tarefas por filtro");
+
+    return conditionalGet(request, reactiveTaskReadService.getTasksChangeTag(),
+        reactiveTaskReadService.findTasksByFilter(filter, cursor, size));
+  }
+
+  @GetMapping("/weekly/{weekStartDate}")
+  public Mono<ResponseEntity<Map<LocalDate, List<TaskResponseDTO>>>> getWeeklyView(
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate,
+      WebRequest request) {
+
+    logger.info("[TASKCONTROLLER] Recebida a requisição para obter a visão semanal das tarefas");
+
+    return conditionalGet(request, reactiveTaskReadService.getTasksChangeTag(),
+        reactiveTaskReadService.getWeeklyView(weekStartDate));
+  }
+
+  /**
+   * Same as the blocking controller: an unchanged list is answered from the change tag
+   * without starting the R2DBC query. Both queries are built on the request thread,
+   * where the user is resolved, and only run once subscribed. The tag is read before
+   * the body, so the rows can only be newer than the tag they are sent with.
+   */
+  private static <T> Mono<ResponseEntity<T>> conditionalGet(WebRequest request, Mono<String> tag, Mono<T> body) {
+    return tag.flatMap(current -> {
+      if (request.checkNotModified(current)) {
+        logger.debug("[TASKCONTROLLER] Tarefas não modificadas desde a última consulta");
+        return Mono.just(ChangeTagResponses.<T>notModified(current));
+      }
+
+      return body.map(result -> ChangeTagResponses.ok(current, result));
+    });
+  }
+}
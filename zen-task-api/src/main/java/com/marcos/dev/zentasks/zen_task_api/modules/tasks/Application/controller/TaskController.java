@@ -1,13 +1,16 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.controller;
 
-import java.time.LocalDate;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,16 +18,29 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.PreconditionFailedException;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkMoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkStatusDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkUpdateResultDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
-import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.DashboardTaskDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.MoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskBatchResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFileFormat;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskImportResultDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSearchResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSuggestionDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSummaryDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.UpdateTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.TaskExportService;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.TaskImportService;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.TaskService;
 
 import jakarta.validation.Valid;
@@ -35,9 +51,16 @@ public class TaskController {
   private static Logger logger = LoggerFactory.getLogger(TaskController.class);
 
   private final TaskService taskService;
+  private final TaskExportService taskExportService;
+  private final TaskImportService taskImportService;
 
-  public TaskController(TaskService taskService) {
+  public TaskController(
+      TaskService taskService,
+      TaskExportService taskExportService,
+      TaskImportService taskImportService) {
     this.taskService = taskService;
+    this.taskExportService = taskExportService;
+    this.taskImportService = taskImportService;
   }
 
   @PostMapping
@@ -49,7 +72,34 @@ public class TaskController {
 
     logger.debug("[TASKCONTROLLER] Tarefa {} criada com sucesso", createdTask.title());
 
-    return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
+    return new ResponseEntity<>(createdTask, versionHeaders(createdTask.version()), HttpStatus.CREATED);
+  }
+
+  @PostMapping("/batch")
+  public ResponseEntity<TaskBatchResultDTO> createTasksInBatch(
+      @RequestBody List<CreateTaskDTO> data) {
+    // The service rejects a null or empty batch, so the size is only logged once it is known
+    TaskBatchResultDTO result = taskService.createTasksInBatch(data);
+
+    logger.info("[TASKCONTROLLER] Lote de {} tarefas processado: {} criadas, {} rejeitadas",
+        result.requested(), result.created(), result.failed());
+
+    // 207 tells the client to inspect the per-item results
+    HttpStatus status = result.allCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    return new ResponseEntity<>(result, status);
+  }
+
+  @PostMapping(value = "/import", consumes = { "application/x-ndjson", "text/csv" })
+  public ResponseEntity<TaskImportResultDTO> importTasks(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      InputStream body) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para importar tarefas em {}", contentType);
+
+    TaskImportResultDTO result = taskImportService.importTasks(body, TaskFileFormat.fromContentType(contentType));
+
+    logger.info("[TASKCONTROLLER] Importação concluída: {} criadas, {} rejeitadas", result.imported(), result.failed());
+
+    return ResponseEntity.ok(result);
   }
 
   @GetMapping("/{id}")
@@ -60,70 +110,132 @@ public class TaskController {
 
     logger.debug("[TASKCONTROLLER] Tarefa {} obtida com sucesso", task.title());
 
-    return ResponseEntity.ok(task);
+    return ResponseEntity.ok()
+        .headers(versionHeaders(task.version()))
+        .body(task);
   }
 
   @PatchMapping("/{id}")
   public ResponseEntity<Void> editTask(
       @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody UpdateTaskDTO data) {
 
     logger.info("[TASKCONTROLLER] Atualizando tarefa ID: {}", id);
 
-    taskService.editTask(id, data);
+    Long newVersion = taskService.editTask(id, data, expectedVersions(ifMatch));
 
     return ResponseEntity
         .noContent()
+        .headers(versionHeaders(newVersion))
         .build();
   }
 
   @PatchMapping("/move/{id}")
   public ResponseEntity<Void> moveQuadrant(
       @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody MoveQuadrantDTO targetQuadrant) {
     logger.info("[TASKCONTROLLER] Recebida a requisição para mover o quadrante de uma tarefa");
 
-    taskService.moveQuadrant(id, targetQuadrant);
+    Long newVersion = taskService.moveQuadrant(id, targetQuadrant, expectedVersions(ifMatch));
     logger.info("[TASKCONTROLLER] Quadrante da tarefa {} movido com sucesso", id);
 
     return ResponseEntity
         .noContent()
+        .headers(versionHeaders(newVersion))
         .build();
   }
 
-  @GetMapping("/dashboard")
-  public ResponseEntity<DashboardTaskDTO> getDashboardTask() {
-    logger.info("[TASKCONTROLLER] Recebida a requisição para obter as tarefas do dashboard");
+  @PatchMapping("/move")
+  public ResponseEntity<BulkUpdateResultDTO> moveQuadrantInBulk(
+      @Valid @RequestBody BulkMoveQuadrantDTO data) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para mover {} tarefas para o quadrante {}",
+        data.ids().size(), data.newQuadrant());
+
+    BulkUpdateResultDTO result = taskService.moveQuadrantInBulk(data);
+
+    logger.info("[TASKCONTROLLER] {} tarefas movidas com sucesso", result.updated());
+
+    return ResponseEntity.ok(result);
+  }
+
+  @PatchMapping("/move/by-filter")
+  public ResponseEntity<BulkUpdateResultDTO> moveQuadrantByFilter(
+      TaskFilterDTO filter,
+      @Valid @RequestBody MoveQuadrantDTO targetQuadrant) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para mover as tarefas filtradas para o quadrante {}",
+        targetQuadrant.newQuadrant());
 
-    DashboardTaskDTO result = taskService.getDashboardTasks();
+    BulkUpdateResultDTO result = taskService.moveQuadrantByFilter(filter, targetQuadrant);
 
-    logger.info("[TASKCONTROLLER] Tarefas do dashboard obtidas com sucesso");
+    logger.info("[TASKCONTROLLER] {} tarefas movidas com sucesso", result.updated());
 
     return ResponseEntity.ok(result);
   }
 
-  @GetMapping
-  public ResponseEntity<List<TaskResponseDTO>> findTasksByFilter(TaskFilterDTO filter) {
-    logger.info("[TASKCONTROLLER] Recebida a requisição para obter as tarefas por filtro");
+  @PatchMapping("/status")
+  public ResponseEntity<BulkUpdateResultDTO> updateStatusInBulk(
+      @Valid @RequestBody BulkStatusDTO data) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para alterar o status de {} tarefas para {}",
+        data.ids().size(), data.newStatus());
 
-    List<TaskResponseDTO> result = taskService.findTasksByFilter(filter);
+    BulkUpdateResultDTO result = taskService.updateStatusInBulk(data);
 
-    logger.info("[TASKCONTROLLER] Tarefas obtidas com sucesso");
+    logger.info("[TASKCONTROLLER] Status de {} tarefas alterado com sucesso", result.updated());
 
     return ResponseEntity.ok(result);
+  }
+
+  @GetMapping("/summary")
+  public ResponseEntity<TaskSummaryDTO> getTaskSummary() {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para obter o resumo das tarefas");
 
+    TaskSummaryDTO result = taskService.getTaskSummary();
+
+    logger.info("[TASKCONTROLLER] Resumo das tarefas obtido com sucesso: {} tarefas", result.total());
+
+    return ResponseEntity.ok(result);
   }
 
-  @GetMapping("/weekly/{weekStartDate}")
-  public ResponseEntity<Map<LocalDate, List<TaskResponseDTO>>> getWeeklyView(
-      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate) {
+  @GetMapping("/search")
+  public ResponseEntity<List<TaskSearchResultDTO>> searchTasks(
+      @RequestParam String q,
+      @RequestParam(required = false) Integer size) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para buscar tarefas");
 
-    logger.info("[TASKCONTROLLER] Recebida a requisição para obter a visão semanal das tarefas");
+    List<TaskSearchResultDTO> result = taskService.searchTasks(q, size);
 
-    Map<LocalDate, List<TaskResponseDTO>> result = taskService.getWeeklyView(weekStartDate);
+    logger.info("[TASKCONTROLLER] {} tarefas encontradas", result.size());
 
     return ResponseEntity.ok(result);
+  }
 
+  @GetMapping("/suggest")
+  public ResponseEntity<List<TaskSuggestionDTO>> suggestTitles(
+      @RequestParam String q,
+      @RequestParam(required = false) Integer limit) {
+    logger.debug("[TASKCONTROLLER] Recebida a requisição de sugestões de título");
+
+    return ResponseEntity.ok(taskService.suggestTitles(q, limit));
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportTasks(
+      TaskFilterDTO filter,
+      @RequestParam(defaultValue = "ndjson") String format) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para exportar as tarefas em {}", format);
+
+    TaskFileFormat exportFormat = TaskFileFormat.from(format);
+    StreamingResponseBody body = taskExportService.exportTasks(filter, exportFormat);
+
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("tasks." + exportFormat.getExtension())
+            .build()
+            .toString())
+        .body(body);
   }
 
   @DeleteMapping("/{id}")
@@ -137,4 +249,43 @@ public class TaskController {
     return ResponseEntity.noContent().build();
   }
 
+  /**
+   * The task version as a strong ETag. Archived tasks cannot change and carry no version.
+   */
+  private static HttpHeaders versionHeaders(Long version) {
+    HttpHeaders headers = new HttpHeaders();
+    if (version != null) {
+      headers.setETag("\"" + version + "\"");
+    }
+    return headers;
+  }
+
+  /**
+   * Reads the versions an If-Match header accepts. No header or "*" accepts any
+   * version; weak and malformed tags can never match, as If-Match uses strong
+   * comparison, so a header listing none but those fails the precondition.
+   */
+  private static Set<Long> expectedVersions(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return Set.of();
+    }
+
+    Set<Long> versions = new LinkedHashSet<>();
+    for (String element : ifMatch.split(",")) {
+      String tag = element.trim();
+      if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+        try {
+          versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (NumberFormatException ex) {
+          // A malformed tag matches no version
+        }
+      }
+    }
+
+    if (versions.isEmpty()) {
+      throw new PreconditionFailedException("O cabeçalho If-Match não corresponde a nenhuma versão da tarefa");
+    }
+    return versions;
+  }
+
 }
@@ -0,0 +1,96 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.DashboardTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSliceDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.TaskService;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.TaskService.TaggedRead;
+
+/**
+ * The task listings, dashboard and weekly view over JPA. The reactive-reads profile
+ * serves the same routes from {@link ReactiveTaskReadController} instead.
+ */
+@RestController
+@Profile("!reactive-reads")
+@RequestMapping("/v1/tasks")
+public class TaskReadController {
+  private static final Logger logger = LoggerFactory.getLogger(TaskReadController.class);
+
+  private final TaskService taskService;
+
+  public TaskReadController(TaskService taskService) {
+    this.taskService = taskService;
+  }
+
+  @GetMapping("/dashboard")
+  public ResponseEntity<DashboardTaskDTO> getDashboardTask(WebRequest request) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para obter as tarefas do dashboard");
+
+    // The overdue and today buckets also move with the date
+    return conditionalGet(request, "-" + LocalDate.now(), () -> {
+      DashboardTaskDTO result = taskService.getDashboardTasks();
+      logger.info("[TASKCONTROLLER] Tarefas do dashboard obtidas com sucesso");
+      return result;
+    });
+  }
+
+  @GetMapping
+  public ResponseEntity<TaskSliceDTO> findTasksByFilter(
+      TaskFilterDTO filter,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      WebRequest request) {
+    logger.info("[TASKCONTROLLER] Recebida a requisição para obter as tarefas por filtro");
+
+    return conditionalGet(request, "", () -> {
+      TaskSliceDTO result = taskService.findTasksByFilter(filter, cursor, size);
+      logger.info("[TASKCONTROLLER] Tarefas obtidas com sucesso");
+      return result;
+    });
+  }
+
+  @GetMapping("/weekly/{weekStartDate}")
+  public ResponseEntity<Map<LocalDate, List<TaskResponseDTO>>> getWeeklyView(
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate,
+      WebRequest request) {
+
+    logger.info("[TASKCONTROLLER] Recebida a requisição para obter a visão semanal das tarefas");
+
+    return conditionalGet(request, "", () -> taskService.getWeeklyView(weekStartDate));
+  }
+
+  /**
+   * Answers 304 from the change tag alone while If-None-Match still holds it, so an
+   * unchanged list costs a primary key lookup instead of the list query; otherwise
+   * loads the body, in the same transaction as the tag, and sends the tag with it.
+   */
+  private <T> ResponseEntity<T> conditionalGet(WebRequest request, String tagSuffix, Supplier<T> body) {
+    TaggedRead<T> read = taskService.readWithChangeTag(tag -> request.checkNotModified(tag + tagSuffix), body);
+    String tag = read.tag() + tagSuffix;
+
+    if (read.body() == null) {
+      logger.debug("[TASKCONTROLLER] Tarefas não modificadas desde a última consulta");
+      return ChangeTagResponses.notModified(tag);
+    }
+
+    return ChangeTagResponses.ok(tag, read.body());
+  }
+}
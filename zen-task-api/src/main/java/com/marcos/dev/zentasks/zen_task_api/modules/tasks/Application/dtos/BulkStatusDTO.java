@@ -0,0 +1,16 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import java.util.List;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkStatusDTO(
+    @NotEmpty(message = "A lista de tarefas não pode estar vazia.")
+    List<@NotNull Long> ids,
+
+    @NotNull(message = "O novo status não pode ser nulo.")
+    TaskStatus newStatus) {
+}
@@ -0,0 +1,12 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+/**
+ * Result of a bulk mutation.
+ * {@code requested} is the number of distinct ids sent by the client, or null when
+ * the tasks were selected by a filter; {@code updated} counts the rows actually changed.
+ * Ids that do not exist, belong to another user or are locked are not updated.
+ */
+public record BulkUpdateResultDTO(
+    Integer requested,
+    int updated) {
+}
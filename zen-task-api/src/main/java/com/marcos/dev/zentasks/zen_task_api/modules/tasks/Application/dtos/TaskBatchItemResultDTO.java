@@ -0,0 +1,14 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a batch creation, identified by its position in the request.
+ * {@code task} is filled when the item was created, {@code errors} otherwise.
+ */
+public record TaskBatchItemResultDTO(
+    int index,
+    boolean created,
+    TaskResponseDTO task,
+    List<String> errors) {
+}
@@ -0,0 +1,14 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import java.util.List;
+
+public record TaskBatchResultDTO(
+    int requested,
+    int created,
+    int failed,
+    List<TaskBatchItemResultDTO> results) {
+
+  public boolean allCreated() {
+    return failed == 0;
+  }
+}
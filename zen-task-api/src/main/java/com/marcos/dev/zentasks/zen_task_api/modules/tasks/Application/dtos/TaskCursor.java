@@ -0,0 +1,52 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BadRequestException;
+
+/**
+ * Position of the last task returned in a listing, ordered by (due_date, id);
+ * due_date is NOT NULL (changeset 16), so both parts are always present.
+ * Clients receive it as an opaque URL-safe token and send it back unchanged
+ * to fetch the next page.
+ */
+public record TaskCursor(LocalDate dueDate, Long id) {
+  private static final char SEPARATOR = '|';
+  private static final String ERROR_INVALID_CURSOR = "Cursor de paginação inválido";
+
+  public static TaskCursor from(TaskResponseDTO task) {
+    return new TaskCursor(task.dueDate(), task.id());
+  }
+
+  public String encode() {
+    String raw = dueDate.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static TaskCursor decode(String token) {
+    String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException(ERROR_INVALID_CURSOR, e);
+    }
+
+    int separatorIndex = raw.indexOf(SEPARATOR);
+    if (separatorIndex < 0) {
+      throw new BadRequestException(ERROR_INVALID_CURSOR);
+    }
+
+    try {
+      LocalDate dueDate = LocalDate.parse(raw.substring(0, separatorIndex));
+      Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+      return new TaskCursor(dueDate, id);
+    } catch (DateTimeParseException | NumberFormatException e) {
+      throw new BadRequestException(ERROR_INVALID_CURSOR, e);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import org.springframework.http.MediaType;
+
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BadRequestException;
+
+/**
+ * File formats accepted by the task export and import endpoints.
+ */
+public enum TaskFileFormat {
+  NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+  CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+  private final MediaType mediaType;
+  private final String extension;
+
+  TaskFileFormat(MediaType mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public static TaskFileFormat from(String value) {
+    for (TaskFileFormat format : values()) {
+      if (format.extension.equalsIgnoreCase(value)) {
+        return format;
+      }
+    }
+    throw new BadRequestException("Formato de exportação inválido: " + value + ". Use ndjson ou csv");
+  }
+
+  public static TaskFileFormat fromContentType(MediaType contentType) {
+    for (TaskFileFormat format : values()) {
+      if (format.mediaType.isCompatibleWith(contentType)) {
+        return format;
+      }
+    }
+    throw new BadRequestException("Tipo de conteúdo não suportado: " + contentType
+        + ". Use application/x-ndjson ou text/csv");
+  }
+}
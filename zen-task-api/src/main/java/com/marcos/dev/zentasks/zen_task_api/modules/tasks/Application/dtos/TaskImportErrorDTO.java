@@ -0,0 +1,11 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import java.util.List;
+
+/**
+ * A record of an import file that was not created, identified by the line it starts on.
+ */
+public record TaskImportErrorDTO(
+    long line,
+    List<String> errors) {
+}
@@ -0,0 +1,15 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import java.util.List;
+
+/**
+ * Outcome of an import. Only the first errors are listed; {@code errorsTruncated}
+ * tells whether {@code failed} counts more than {@code errors} holds.
+ */
+public record TaskImportResultDTO(
+    long processed,
+    long imported,
+    long failed,
+    List<TaskImportErrorDTO> errors,
+    boolean errorsTruncated) {
+}
@@ -2,9 +2,14 @@ package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
 
 import java.time.LocalDate;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
 
+/**
+ * The version is only known when the task was read on its own; it is sent as the
+ * ETag header rather than in the body.
+ */
 public record TaskResponseDTO(
     Long id,
     String title,
@@ -12,7 +17,19 @@ public record TaskResponseDTO(
     LocalDate dueDate,
     TaskStatus taskStatus,
     Quadrant quadrant,
-    boolean isCompleted
+    boolean isCompleted,
+    @JsonIgnore Long version
 
 ) {
+
+  public TaskResponseDTO(
+      Long id,
+      String title,
+      String description,
+      LocalDate dueDate,
+      TaskStatus taskStatus,
+      Quadrant quadrant,
+      boolean isCompleted) {
+    this(id, title, description, dueDate, taskStatus, quadrant, isCompleted, null);
+  }
 }
@@ -0,0 +1,12 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+/**
+ * A task matched by a text search. The highlights are HTML-escaped, with the matched
+ * words wrapped in {@code <mark>} tags; a higher rank means a better match.
+ */
+public record TaskSearchResultDTO(
+    TaskResponseDTO task,
+    double rank,
+    String titleHighlight,
+    String descriptionHighlight) {
+}
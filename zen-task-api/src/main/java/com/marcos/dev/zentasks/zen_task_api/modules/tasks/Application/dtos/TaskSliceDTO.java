@@ -0,0 +1,13 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated task listing.
+ * {@code nextCursor} is null when there are no more tasks to fetch.
+ */
+public record TaskSliceDTO(
+    List<TaskResponseDTO> items,
+    String nextCursor,
+    boolean hasNext) {
+}
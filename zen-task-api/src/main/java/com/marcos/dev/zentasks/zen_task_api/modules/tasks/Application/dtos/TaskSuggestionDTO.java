@@ -0,0 +1,6 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+public record TaskSuggestionDTO(
+    Long id,
+    String title) {
+}
@@ -0,0 +1,18 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos;
+
+import java.util.Map;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+
+/**
+ * Task counts of a user, read from the maintained counters. Every quadrant and
+ * status is present, with zero when the user has no such task. Archived tasks
+ * are not counted.
+ */
+public record TaskSummaryDTO(
+    long total,
+    Map<Quadrant, Long> byQuadrant,
+    Map<TaskStatus, Long> byStatus,
+    Map<Quadrant, Map<TaskStatus, Long>> byQuadrantAndStatus) {
+}
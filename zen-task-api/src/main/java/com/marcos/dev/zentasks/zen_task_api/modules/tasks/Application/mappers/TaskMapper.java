@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.DashboardTaskRow;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 
 /**
@@ -55,7 +56,25 @@ public class TaskMapper {
         entity.getDueDate(),
         entity.getStatus(),
         entity.getQuadrant(),
-        entity.isCompleted());
+        entity.isCompleted(),
+        entity.getVersion());
+  }
+
+  /**
+   * Converts a dashboard row to a response DTO, dropping the bucket flags.
+   *
+   * @param row The row returned by the dashboard query.
+   * @return A response DTO containing the task data.
+   */
+  public TaskResponseDTO toResponseDTO(DashboardTaskRow row) {
+    return new TaskResponseDTO(
+        row.id(),
+        row.title(),
+        row.description(),
+        row.dueDate(),
+        row.taskStatus(),
+        row.quadrant(),
+        row.isCompleted());
   }
 
   public List<TaskResponseDTO> toResponseDTOList(List<TaskModel> entities) {
@@ -0,0 +1,177 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcos.dev.zentasks.zen_task_api.common.domain.security.annotations.RequireAuthentication;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BadRequestException;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BusinessRuleException;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security.AuthenticatedUserService;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.DashboardTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskCursor;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSliceDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.mappers.TaskMapper;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.cache.TaskChangeTracker;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.reactive.ReactiveTaskReadRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.DashboardTaskRow;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The listing, dashboard and weekly reads of {@link TaskServiceImpl} over R2DBC, for
+ * the reactive-reads profile. Each method resolves the user on the calling thread,
+ * where the security context lives, and returns the query still to be subscribed.
+ * The results are the same DTOs, built the same way.
+ */
+@Service
+@Profile("reactive-reads")
+public class ReactiveTaskReadService {
+
+  @Value("${api.tasks.pagination.default-size:50}")
+  private int defaultPageSize;
+
+  @Value("${api.tasks.pagination.max-size:200}")
+  private int maxPageSize;
+
+  private final ReactiveTaskReadRepository reactiveTaskReadRepository;
+  private final TaskMapper taskMapper;
+  private final AuthenticatedUserService authenticatedUserService;
+  private final TaskArchiveService taskArchiveService;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public ReactiveTaskReadService(
+      ReactiveTaskReadRepository reactiveTaskReadRepository,
+      TaskMapper taskMapper,
+      AuthenticatedUserService authenticatedUserService,
+      TaskArchiveService taskArchiveService,
+      PlatformTransactionManager transactionManager) {
+    this.reactiveTaskReadRepository = reactiveTaskReadRepository;
+    this.taskMapper = taskMapper;
+    this.authenticatedUserService = authenticatedUserService;
+    this.taskArchiveService = taskArchiveService;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * Same tag as {@code TaskChangeTracker#currentTag}, read from tb_task_changes over
+   * R2DBC so that no JDBC connection is taken for it.
+   */
+  @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
+  public Mono<String> getTasksChangeTag() {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    return reactiveTaskReadRepository.findChangeVersion(userId)
+        .map(version -> TaskChangeTracker.tag(userId, version));
+  }
+
+  @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
+  public Mono<DashboardTaskDTO> getDashboardTasks() {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    return reactiveTaskReadRepository.findDashboardRows(userId, LocalDate.now(), Quadrant.DO_NOW)
+        .collect(DashboardBuckets::new, this::addToBuckets)
+        .map(DashboardBuckets::toDTO);
+  }
+
+  @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
+  public Mono<TaskSliceDTO> findTasksByFilter(TaskFilterDTO filter, String cursor, Integer size) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    TaskCursor after = cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor) : null;
+    int pageSize = resolvePageSize(size);
+
+    // Fetch one extra row to find out whether another page exists
+    Mono<List<TaskResponseDTO>> hotTasks = reactiveTaskReadRepository
+        .findResponses(userId, filter, after, pageSize + 1)
+        .collectList();
+
+    // The archive segments are read through JPA, so the merge waits off the event loop
+    Mono<List<TaskResponseDTO>> tasks = !taskArchiveService.coversFilter(filter) ? hotTasks
+        : hotTasks.publishOn(Schedulers.boundedElastic())
+            .map(hot -> readOnlyTransaction.execute(status ->
+                taskArchiveService.mergeArchived(userId, filter, after, hot, pageSize + 1)));
+
+    return tasks.map(found -> {
+      boolean hasNext = found.size() > pageSize;
+      List<TaskResponseDTO> items = hasNext ? found.subList(0, pageSize) : found;
+      String nextCursor = hasNext ? TaskCursor.from(items.get(items.size() - 1)).encode() : null;
+
+      return new TaskSliceDTO(items, nextCursor, hasNext);
+    });
+  }
+
+  @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
+  public Mono<Map<LocalDate, List<TaskResponseDTO>>> getWeeklyView(LocalDate weekStartDate) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    if (weekStartDate == null) {
+      throw new BusinessRuleException("A data de início da semana não pode ser nula");
+    }
+
+    LocalDate weekEndDate = weekStartDate.plusDays(6);
+
+    // The archive segments are read through JPA, so the merge waits off the event loop
+    return reactiveTaskReadRepository.findDueBetween(userId, weekStartDate, weekEndDate)
+        .collectList()
+        .publishOn(Schedulers.boundedElastic())
+        .map(hot -> readOnlyTransaction.execute(status ->
+            taskArchiveService.mergeArchivedDueBetween(userId, weekStartDate, weekEndDate, hot)))
+        .map(tasks -> tasks.stream().collect(Collectors.groupingBy(TaskResponseDTO::dueDate)));
+  }
+
+  private void addToBuckets(DashboardBuckets buckets, DashboardTaskRow row) {
+    // Each row is mapped once and shared by every bucket it belongs to
+    TaskResponseDTO dto = taskMapper.toResponseDTO(row);
+
+    if (row.overdue()) {
+      buckets.overdue().add(dto);
+    }
+    if (row.dueToday()) {
+      buckets.today().add(dto);
+    }
+    if (row.doNow()) {
+      buckets.doNow().add(dto);
+    }
+  }
+
+  private int resolvePageSize(Integer requestedSize) {
+    if (requestedSize == null) {
+      return defaultPageSize;
+    }
+
+    if (requestedSize < 1) {
+      throw new BadRequestException("O tamanho da página deve ser maior que zero");
+    }
+
+    return Math.min(requestedSize, maxPageSize);
+  }
+
+  private record DashboardBuckets(
+      List<TaskResponseDTO> overdue,
+      List<TaskResponseDTO> today,
+      List<TaskResponseDTO> doNow) {
+
+    DashboardBuckets() {
+      this(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    DashboardTaskDTO toDTO() {
+      return new DashboardTaskDTO(overdue, today, doNow);
+    }
+  }
+}
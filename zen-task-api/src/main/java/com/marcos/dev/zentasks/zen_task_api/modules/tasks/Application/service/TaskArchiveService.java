@@ -0,0 +1,347 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskCursor;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskArchiveEntry;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskArchiveSegment;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskCounter;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.archive.ArchivedTask;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.archive.TaskArchiveCodec;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.cache.TaskChangeTracker;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskArchiveEntryRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskArchiveSegmentRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.suggest.TaskTitleSuggestIndex;
+
+/**
+ * Moves finished tasks out of tb_tasks into compressed per-user segments, and reads
+ * them back for the listings that ask for history and for requests by id.
+ */
+@Service
+public class TaskArchiveService {
+  private static final Logger logger = LoggerFactory.getLogger(TaskArchiveService.class);
+
+  // Open bounds for segment lookups that every database can bind
+  private static final LocalDate OPEN_FROM = LocalDate.of(1, 1, 1);
+  private static final LocalDate OPEN_TO = LocalDate.of(9999, 12, 31);
+
+  private static final Comparator<LocalDate> DUE_DATE_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+  public static final Comparator<TaskResponseDTO> KEYSET_ORDER = Comparator
+      .comparing(TaskResponseDTO::dueDate, DUE_DATE_ORDER)
+      .thenComparing(TaskResponseDTO::id);
+
+  @Value("${api.tasks.archive.enabled:true}")
+  private boolean enabled;
+
+  @Value("${api.tasks.archive.min-age:30d}")
+  private Duration minAge;
+
+  @Value("${api.tasks.archive.segment-size:1000}")
+  private int segmentSize;
+
+  private final TaskRepository taskRepository;
+  private final TaskArchiveSegmentRepository segmentRepository;
+  private final TaskArchiveEntryRepository entryRepository;
+  private final TaskArchiveCodec codec;
+  private final TaskTitleSuggestIndex taskTitleSuggestIndex;
+  private final TaskCounterService taskCounterService;
+  private final TaskChangeTracker taskChangeTracker;
+  private final TransactionTemplate transactionTemplate;
+
+  public TaskArchiveService(
+      TaskRepository taskRepository,
+      TaskArchiveSegmentRepository segmentRepository,
+      TaskArchiveEntryRepository entryRepository,
+      TaskArchiveCodec codec,
+      TaskTitleSuggestIndex taskTitleSuggestIndex,
+      TaskCounterService taskCounterService,
+      TaskChangeTracker taskChangeTracker,
+      PlatformTransactionManager transactionManager) {
+    this.taskRepository = taskRepository;
+    this.segmentRepository = segmentRepository;
+    this.entryRepository = entryRepository;
+    this.codec = codec;
+    this.taskTitleSuggestIndex = taskTitleSuggestIndex;
+    this.taskCounterService = taskCounterService;
+    this.taskChangeTracker = taskChangeTracker;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Scheduled(cron = "${api.tasks.archive.cron:0 0 3 * * *}")
+  public void archiveOnSchedule() {
+    if (enabled) {
+      archiveFinishedTasks();
+    }
+  }
+
+  /**
+   * Archives every task finished before the configured age, one segment per transaction.
+   *
+   * @return the number of tasks archived
+   */
+  public int archiveFinishedTasks() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+    List<UUID> userIds = taskRepository.findUserIdsWithArchivableTasks(cutoff, TaskModel.LOCKED_STATUSES);
+
+    int archived = 0;
+    for (UUID userId : userIds) {
+      int segmentCount;
+      do {
+        segmentCount = transactionTemplate.execute(status -> archiveNextSegment(userId, cutoff));
+        archived += segmentCount;
+      } while (segmentCount == segmentSize);
+    }
+
+    logger.info("[TASKARCHIVE] {} tarefas arquivadas de {} usuários", archived, userIds.size());
+    return archived;
+  }
+
+  /**
+   * Whether archived tasks can match the filter at all. Only DONE, CLOSED and CANCELED
+   * tasks are archived.
+   */
+  public boolean canMatch(TaskFilterDTO filter) {
+    return filter.status() == null
+        || filter.status() == TaskStatus.DONE
+        || TaskModel.LOCKED_STATUSES.contains(filter.status());
+  }
+
+  /**
+   * Whether a paged listing with this filter also reads the archive. The archive is
+   * history: it is merged only when the filter asks for finished tasks or for a date
+   * range, which only decompresses the segments overlapping it. Other listings, the
+   * unfiltered one included, show the tasks in tb_tasks.
+   */
+  public boolean coversFilter(TaskFilterDTO filter) {
+    if (!canMatch(filter)) {
+      return false;
+    }
+
+    return Boolean.TRUE.equals(filter.isComplete())
+        || filter.status() != null
+        || hasRange(filter);
+  }
+
+  /**
+   * The archived task with this id, if the user owns it.
+   */
+  public Optional<TaskResponseDTO> findArchivedById(UUID userId, Long taskId) {
+    return entryRepository.findByTaskIdAndUserId(taskId, userId)
+        .flatMap(entry -> segmentRepository.findById(entry.getSegmentId()))
+        .flatMap(segment -> codec.decode(segment.getPayload()).stream()
+            .filter(task -> task.id().equals(taskId))
+            .findFirst())
+        .map(ArchivedTask::toResponseDTO);
+  }
+
+  /**
+   * Deletes the archived task with this id, if the user owns it, rewriting its segment
+   * or dropping it once empty. Must run inside a transaction.
+   *
+   * @return whether the task was found in the archive
+   */
+  public boolean deleteArchived(UUID userId, Long taskId) {
+    Optional<TaskArchiveEntry> entry = entryRepository.findByTaskIdAndUserId(taskId, userId);
+    if (entry.isEmpty()) {
+      return false;
+    }
+
+    TaskArchiveSegment segment = segmentRepository.lockById(entry.get().getSegmentId()).orElse(null);
+    if (segment == null) {
+      return false;
+    }
+
+    List<ArchivedTask> tasks = new ArrayList<>(codec.decode(segment.getPayload()));
+    // A concurrent delete took the task out while this one waited for the lock
+    if (!tasks.removeIf(task -> task.id().equals(taskId))) {
+      return false;
+    }
+
+    entryRepository.delete(entry.get());
+    if (tasks.isEmpty()) {
+      segmentRepository.delete(segment);
+    } else {
+      segment.replaceTasks(
+          tasks.size(),
+          tasks.get(0).dueDate(),
+          tasks.get(tasks.size() - 1).dueDate(),
+          codec.encode(tasks));
+    }
+    taskChangeTracker.tasksChanged(userId);
+
+    return true;
+  }
+
+  /**
+   * Merges the archived tasks matching the filter into a page of hot tasks, keeping the
+   * (due_date, id) order of the keyset pagination.
+   *
+   * @param hotTasks the page read from tb_tasks, already sorted and limited
+   * @param limit    the number of tasks the page must hold at most
+   */
+  public List<TaskResponseDTO> mergeArchived(
+      UUID userId,
+      TaskFilterDTO filter,
+      TaskCursor after,
+      List<TaskResponseDTO> hotTasks,
+      int limit) {
+
+    List<TaskResponseDTO> merged = new ArrayList<>(hotTasks);
+    merged.addAll(findArchived(userId, filter, after, limit));
+    merged.sort(KEYSET_ORDER);
+
+    return merged.size() > limit ? merged.subList(0, limit) : merged;
+  }
+
+  /**
+   * Merges the archived tasks due in [from, to] into the hot tasks due in the same
+   * range, in (due_date, id) order. Must run inside a transaction.
+   */
+  public List<TaskResponseDTO> mergeArchivedDueBetween(
+      UUID userId,
+      LocalDate from,
+      LocalDate to,
+      List<TaskResponseDTO> hotTasks) {
+
+    List<TaskResponseDTO> merged = new ArrayList<>(hotTasks);
+    forEachArchived(userId, new TaskFilterDTO(null, null, from, to, null), merged::add);
+    merged.sort(KEYSET_ORDER);
+
+    return merged;
+  }
+
+  /**
+   * Hands every archived task matching the filter to the action, decompressing
+   * one segment at a time. Must run inside a transaction.
+   */
+  public void forEachArchived(UUID userId, TaskFilterDTO filter, Consumer<TaskResponseDTO> action) {
+    LocalDate from = hasRange(filter) ? filter.fromDate() : OPEN_FROM;
+    LocalDate to = hasRange(filter) ? filter.toDate() : OPEN_TO;
+
+    try (Stream<byte[]> payloads = segmentRepository.streamOverlappingPayloads(userId, from, to)) {
+      payloads.forEach(payload -> {
+        for (ArchivedTask task : codec.decode(payload)) {
+          if (matches(task, filter, null)) {
+            action.accept(task.toResponseDTO());
+          }
+        }
+      });
+    }
+  }
+
+  private List<TaskResponseDTO> findArchived(UUID userId, TaskFilterDTO filter, TaskCursor after, int limit) {
+    LocalDate from = hasRange(filter) ? filter.fromDate() : OPEN_FROM;
+    LocalDate to = hasRange(filter) ? filter.toDate() : OPEN_TO;
+
+    if (after != null && after.dueDate() != null && after.dueDate().isAfter(from)) {
+      from = after.dueDate();
+    }
+
+    List<TaskResponseDTO> matches = new ArrayList<>();
+    for (TaskArchiveSegment segment : segmentRepository.findOverlapping(userId, from, to)) {
+      // Segments come in min_due_date order: once the page is full, a segment starting
+      // after its last task cannot contribute anything
+      if (matches.size() >= limit
+          && DUE_DATE_ORDER.compare(segment.getMinDueDate(), matches.get(limit - 1).dueDate()) > 0) {
+        break;
+      }
+
+      for (ArchivedTask task : codec.decode(segment.getPayload())) {
+        if (matches(task, filter, after)) {
+          matches.add(task.toResponseDTO());
+        }
+      }
+
+      matches.sort(KEYSET_ORDER);
+      if (matches.size() > limit) {
+        matches = new ArrayList<>(matches.subList(0, limit));
+      }
+    }
+
+    return matches;
+  }
+
+  private int archiveNextSegment(UUID userId, LocalDateTime cutoff) {
+    List<TaskModel> tasks = taskRepository.findArchivableTasks(
+        userId, cutoff, TaskModel.LOCKED_STATUSES, Limit.of(segmentSize));
+
+    if (tasks.isEmpty()) {
+      return 0;
+    }
+
+    List<ArchivedTask> archivedTasks = tasks.stream().map(ArchivedTask::from).toList();
+
+    TaskArchiveSegment segment = segmentRepository.save(new TaskArchiveSegment(
+        userId,
+        archivedTasks.size(),
+        archivedTasks.get(0).dueDate(),
+        archivedTasks.get(archivedTasks.size() - 1).dueDate(),
+        codec.encode(archivedTasks)));
+    entryRepository.saveAll(archivedTasks.stream()
+        .map(task -> new TaskArchiveEntry(task.id(), userId, segment.getId()))
+        .toList());
+
+    taskRepository.deleteAllByIdInBatch(archivedTasks.stream().map(ArchivedTask::id).toList());
+    archivedTasks.forEach(task -> taskTitleSuggestIndex.taskRemoved(userId, task.id()));
+    taskCounterService.tasksRemoved(userId, archivedTasks.stream()
+        .map(task -> new TaskCounter.Cell(task.quadrant(), task.status()))
+        .toList());
+    taskChangeTracker.tasksChanged(userId);
+
+    return archivedTasks.size();
+  }
+
+  private boolean matches(ArchivedTask task, TaskFilterDTO filter, TaskCursor after) {
+    if (filter.quadrant() != null && task.quadrant() != filter.quadrant()) {
+      return false;
+    }
+
+    if (filter.status() != null && task.status() != filter.status()) {
+      return false;
+    }
+
+    if (filter.isComplete() != null && task.completed() != filter.isComplete()) {
+      return false;
+    }
+
+    if (hasRange(filter) && (task.dueDate() == null
+        || task.dueDate().isBefore(filter.fromDate()) || task.dueDate().isAfter(filter.toDate()))) {
+      return false;
+    }
+
+    if (after == null) {
+      return true;
+    }
+
+    int byDueDate = DUE_DATE_ORDER.compare(task.dueDate(), after.dueDate());
+    return byDueDate > 0 || (byDueDate == 0 && task.id() > after.id());
+  }
+
+  private static boolean hasRange(TaskFilterDTO filter) {
+    return filter.fromDate() != null && filter.toDate() != null;
+  }
+}
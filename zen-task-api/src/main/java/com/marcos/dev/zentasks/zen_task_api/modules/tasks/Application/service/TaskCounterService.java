@@ -0,0 +1,166 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSummaryDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskCounter;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskCellCount;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskCellRow;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskCounterRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+
+/**
+ * Keeps tb_task_counters in step with tb_tasks. The write methods must run in the
+ * transaction that changes the tasks; the scheduled reconciliation recounts every
+ * user and repairs whatever drift the unlocked paths left behind.
+ */
+@Service
+public class TaskCounterService {
+  private static final Logger logger = LoggerFactory.getLogger(TaskCounterService.class);
+
+  @Value("${api.tasks.counters.reconcile-enabled:true}")
+  private boolean reconcileEnabled;
+
+  private final TaskCounterRepository taskCounterRepository;
+  private final TaskRepository taskRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  public TaskCounterService(
+      TaskCounterRepository taskCounterRepository,
+      TaskRepository taskRepository,
+      PlatformTransactionManager transactionManager) {
+    this.taskCounterRepository = taskCounterRepository;
+    this.taskRepository = taskRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  public void tasksCreated(UUID userId, Collection<TaskModel> tasks) {
+    Map<TaskCounter.Cell, Long> deltas = new HashMap<>();
+    for (TaskModel task : tasks) {
+      deltas.merge(new TaskCounter.Cell(task.getQuadrant(), task.getStatus()), 1L, Long::sum);
+    }
+
+    taskCounterRepository.applyDeltas(userId, deltas);
+  }
+
+  /**
+   * Moves the counts from the cells the tasks were in before a change to the ones
+   * they are in after it. Tasks missing from {@code after} were deleted.
+   */
+  public void tasksChanged(UUID userId, Collection<TaskCellRow> before, Collection<TaskCellRow> after) {
+    Map<TaskCounter.Cell, Long> deltas = new HashMap<>();
+    before.forEach(row -> deltas.merge(row.cell(), -1L, Long::sum));
+    after.forEach(row -> deltas.merge(row.cell(), 1L, Long::sum));
+
+    taskCounterRepository.applyDeltas(userId, deltas);
+  }
+
+  public void tasksRemoved(UUID userId, Collection<TaskCounter.Cell> cells) {
+    Map<TaskCounter.Cell, Long> deltas = new HashMap<>();
+    cells.forEach(cell -> deltas.merge(cell, -1L, Long::sum));
+
+    taskCounterRepository.applyDeltas(userId, deltas);
+  }
+
+  /**
+   * Reads the user's counters, at most one row per quadrant and status.
+   */
+  public TaskSummaryDTO summarize(UUID userId) {
+    Map<Quadrant, Long> byQuadrant = new EnumMap<>(Quadrant.class);
+    Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+    Map<Quadrant, Map<TaskStatus, Long>> byQuadrantAndStatus = new EnumMap<>(Quadrant.class);
+
+    for (Quadrant quadrant : Quadrant.values()) {
+      byQuadrant.put(quadrant, 0L);
+      Map<TaskStatus, Long> statuses = new EnumMap<>(TaskStatus.class);
+      for (TaskStatus status : TaskStatus.values()) {
+        statuses.put(status, 0L);
+        byStatus.put(status, 0L);
+      }
+      byQuadrantAndStatus.put(quadrant, statuses);
+    }
+
+    long total = 0;
+    for (TaskCellCount counter : taskCounterRepository.findCountsByUserId(userId)) {
+      long count = counter.count();
+      total += count;
+      byQuadrant.merge(counter.quadrant(), count, Long::sum);
+      byStatus.merge(counter.status(), count, Long::sum);
+      byQuadrantAndStatus.get(counter.quadrant()).merge(counter.status(), count, Long::sum);
+    }
+
+    return new TaskSummaryDTO(total, byQuadrant, byStatus, byQuadrantAndStatus);
+  }
+
+  @Scheduled(cron = "${api.tasks.counters.reconcile-cron:0 30 3 * * *}")
+  public void reconcileOnSchedule() {
+    if (reconcileEnabled) {
+      reconcileAll();
+    }
+  }
+
+  /**
+   * Recounts every user with tasks or non-zero counters, one transaction per user.
+   *
+   * @return the number of users whose counters had drifted
+   */
+  public int reconcileAll() {
+    Set<UUID> userIds = new TreeSet<>(taskRepository.findUserIdsWithTasks());
+    userIds.addAll(taskCounterRepository.findUserIdsWithCounts());
+
+    int repaired = 0;
+    for (UUID userId : userIds) {
+      if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(userId)))) {
+        repaired++;
+      }
+    }
+
+    logger.info("[TASKCOUNTERS] Contadores de {} usuários conferidos, {} corrigidos", userIds.size(), repaired);
+    return repaired;
+  }
+
+  /**
+   * Recounts the user's tasks and corrects the counters that disagree. The counters
+   * are locked first: a write that already adjusted them is committed before the
+   * recount reads tb_tasks, and one still in flight adjusts them after the correction.
+   *
+   * @return whether any counter had drifted
+   */
+  public boolean reconcile(UUID userId) {
+    taskCounterRepository.lockByUserId(userId);
+
+    Map<TaskCounter.Cell, Long> deltas = new HashMap<>();
+    for (TaskCellCount count : taskRepository.countCellsByUserId(userId)) {
+      deltas.merge(count.cell(), count.count(), Long::sum);
+    }
+    for (TaskCellCount counter : taskCounterRepository.findCountsByUserId(userId)) {
+      deltas.merge(counter.cell(), -counter.count(), Long::sum);
+    }
+
+    deltas.values().removeIf(delta -> delta == 0);
+    if (deltas.isEmpty()) {
+      return false;
+    }
+
+    logger.warn("[TASKCOUNTERS] Contadores do usuário {} divergentes, corrigindo: {}", userId, deltas);
+    taskCounterRepository.applyDeltas(userId, deltas);
+    return true;
+  }
+}
@@ -0,0 +1,170 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcos.dev.zentasks.zen_task_api.common.domain.security.annotations.RequireAuthentication;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security.AuthenticatedUserService;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFileFormat;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+
+/**
+ * Writes all of a user's tasks matching a filter straight to the response, row by
+ * row, so the memory used does not grow with the number of tasks.
+ */
+@Service
+public class TaskExportService {
+  private static final Logger logger = LoggerFactory.getLogger(TaskExportService.class);
+
+  private static final Sort EXPORT_SORT = Sort.by("dueDate", "id");
+  private static final String CSV_HEADER = "id,title,description,dueDate,taskStatus,quadrant,isCompleted";
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  @Value("${api.tasks.export.fetch-size:500}")
+  private int fetchSize;
+
+  private final TaskRepository taskRepository;
+  private final TaskArchiveService taskArchiveService;
+  private final AuthenticatedUserService authenticatedUserService;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  public TaskExportService(
+      TaskRepository taskRepository,
+      TaskArchiveService taskArchiveService,
+      AuthenticatedUserService authenticatedUserService,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.taskRepository = taskRepository;
+    this.taskArchiveService = taskArchiveService;
+    this.authenticatedUserService = authenticatedUserService;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * Prepares the export of the current user's tasks. The user and the criteria are
+   * resolved here, on the request thread; the returned body runs later on an async
+   * thread, in its own read-only transaction. Live tasks come first in (due_date, id)
+   * order, followed by the archived ones.
+   */
+  @RequireAuthentication(message = "Você deve estar autenticado para exportar as tarefas")
+  public StreamingResponseBody exportTasks(TaskFilterDTO filter, TaskFileFormat format) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    Specification<TaskModel> spec = TaskRepository.Specifications.builder()
+        .forUserId(userId)
+        .matching(filter)
+        .build();
+    // Unlike a page, an export is complete: it streams the archive whenever it can match
+    boolean includeArchived = taskArchiveService.canMatch(filter);
+
+    return out -> transactionTemplate.executeWithoutResult(status -> {
+      long exported = writeTasks(userId, filter, spec, includeArchived, format, out);
+      logger.info("[TASKEXPORT] {} tarefas exportadas em {} para o usuário {}", exported, format, userId);
+    });
+  }
+
+  private long writeTasks(
+      UUID userId,
+      TaskFilterDTO filter,
+      Specification<TaskModel> spec,
+      boolean includeArchived,
+      TaskFileFormat format,
+      OutputStream out) {
+
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    long[] count = {0};
+
+    try {
+      if (format == TaskFileFormat.CSV) {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+      }
+
+      try (Stream<TaskResponseDTO> tasks = taskRepository.streamResponses(spec, EXPORT_SORT, fetchSize)) {
+        tasks.forEach(task -> {
+          writeTask(writer, task, format);
+          count[0]++;
+        });
+      }
+
+      if (includeArchived) {
+        taskArchiveService.forEachArchived(userId, filter, task -> {
+          writeTask(writer, task, format);
+          count[0]++;
+        });
+      }
+
+      // Flush only: the servlet container owns and closes the response stream
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return count[0];
+  }
+
+  private void writeTask(Writer writer, TaskResponseDTO task, TaskFileFormat format) {
+    try {
+      if (format == TaskFileFormat.NDJSON) {
+        writer.write(objectMapper.writeValueAsString(task));
+      } else {
+        writer.write(toCsvRow(task));
+      }
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String toCsvRow(TaskResponseDTO task) {
+    return String.join(",",
+        String.valueOf(task.id()),
+        csvField(task.title()),
+        csvField(task.description()),
+        task.dueDate() != null ? task.dueDate().toString() : "",
+        String.valueOf(task.taskStatus()),
+        String.valueOf(task.quadrant()),
+        String.valueOf(task.isCompleted()));
+  }
+
+  private static String csvField(String value) {
+    if (value == null) {
+      return "";
+    }
+
+    // Spreadsheets evaluate a cell starting with one of these as a formula
+    if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+      value = "'" + value;
+    }
+
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
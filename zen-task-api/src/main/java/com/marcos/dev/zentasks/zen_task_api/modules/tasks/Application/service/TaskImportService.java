@@ -0,0 +1,199 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcos.dev.zentasks.zen_task_api.common.domain.security.annotations.RequireAuthentication;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BusinessRuleException;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security.AuthenticatedUserService;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFileFormat;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskImportErrorDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskImportResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.cache.TaskChangeTracker;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.imports.TaskImportReader;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.imports.TaskImportRecord;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Creates tasks from an NDJSON or CSV file of any size. The file is read in chunks:
+ * each chunk is validated in parallel, then inserted in its own transaction as JDBC
+ * batches, so memory is bounded by the chunk size and not by the file.
+ */
+@Service
+public class TaskImportService {
+  private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+
+  @Value("${api.tasks.import.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${api.tasks.import.max-reported-errors:1000}")
+  private int maxReportedErrors;
+
+  private final TaskRepository taskRepository;
+  private final AuthenticatedUserService authenticatedUserService;
+  private final EntityManager entityManager;
+  private final Validator validator;
+  private final ObjectMapper objectMapper;
+  private final TaskCounterService taskCounterService;
+  private final TaskChangeTracker taskChangeTracker;
+  private final TransactionTemplate transactionTemplate;
+
+  public TaskImportService(
+      TaskRepository taskRepository,
+      AuthenticatedUserService authenticatedUserService,
+      EntityManager entityManager,
+      Validator validator,
+      ObjectMapper objectMapper,
+      TaskCounterService taskCounterService,
+      TaskChangeTracker taskChangeTracker,
+      PlatformTransactionManager transactionManager) {
+    this.taskRepository = taskRepository;
+    this.authenticatedUserService = authenticatedUserService;
+    this.entityManager = entityManager;
+    this.validator = validator;
+    this.objectMapper = objectMapper;
+    this.taskCounterService = taskCounterService;
+    this.taskChangeTracker = taskChangeTracker;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Imports every valid record of the input for the current user. Chunks are
+   * committed as they go: records before a failure that aborts the import, such as
+   * an oversized record, stay imported.
+   */
+  @RequireAuthentication(message = "Você deve estar autenticado para importar tarefas")
+  public TaskImportResultDTO importTasks(InputStream input, TaskFileFormat format) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+    ImportProgress progress = new ImportProgress();
+
+    try (TaskImportReader reader = TaskImportReader.open(input, format, objectMapper)) {
+      List<TaskImportRecord> chunk = new ArrayList<>(chunkSize);
+
+      TaskImportRecord record;
+      while ((record = reader.next()) != null) {
+        chunk.add(record);
+
+        if (chunk.size() == chunkSize) {
+          importChunk(userId, chunk, progress);
+          chunk.clear();
+        }
+      }
+
+      if (!chunk.isEmpty()) {
+        importChunk(userId, chunk, progress);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    logger.info("[TASKIMPORT] {} tarefas importadas de {} registros para o usuário {}",
+        progress.imported, progress.processed, userId);
+
+    return new TaskImportResultDTO(
+        progress.processed,
+        progress.imported,
+        progress.failed,
+        List.copyOf(progress.errors),
+        progress.failed > progress.errors.size());
+  }
+
+  private void importChunk(UUID userId, List<TaskImportRecord> chunk, ImportProgress progress) {
+    transactionTemplate.executeWithoutResult(status -> {
+      UserModel userReference = entityManager.getReference(UserModel.class, userId);
+
+      // Validation has no shared state: the proxy is only assigned, never initialized
+      List<ValidatedRecord> validated = chunk.parallelStream()
+          .map(record -> validate(record, userReference))
+          .toList();
+
+      List<TaskModel> tasks = new ArrayList<>(validated.size());
+      for (ValidatedRecord result : validated) {
+        if (result.task() != null) {
+          tasks.add(result.task());
+        } else {
+          progress.reject(result.line(), result.errors(), maxReportedErrors);
+        }
+      }
+
+      // Ids come from the pooled sequence, so the flush sends the inserts as JDBC batches
+      taskRepository.saveAll(tasks);
+      taskRepository.flush();
+      taskCounterService.tasksCreated(userId, tasks);
+      taskChangeTracker.tasksChanged(userId);
+      entityManager.clear();
+
+      progress.processed += chunk.size();
+      progress.imported += tasks.size();
+    });
+  }
+
+  private ValidatedRecord validate(TaskImportRecord record, UserModel userReference) {
+    if (record.task() == null) {
+      return ValidatedRecord.rejected(record.line(), List.of(record.error()));
+    }
+
+    CreateTaskDTO data = record.task();
+    List<String> errors = validator.validate(data).stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .toList();
+
+    if (!errors.isEmpty()) {
+      return ValidatedRecord.rejected(record.line(), errors);
+    }
+
+    try {
+      return new ValidatedRecord(record.line(), TaskModel.builder()
+          .title(data.title())
+          .description(data.description())
+          .dueDate(data.dueDate())
+          .important(data.isImportant())
+          .urgent(data.isUrgent())
+          .user(userReference)
+          .build(), null);
+    } catch (BusinessRuleException ex) {
+      return ValidatedRecord.rejected(record.line(), List.of(ex.getMessage()));
+    }
+  }
+
+  private record ValidatedRecord(long line, TaskModel task, List<String> errors) {
+
+    static ValidatedRecord rejected(long line, List<String> errors) {
+      return new ValidatedRecord(line, null, errors);
+    }
+  }
+
+  private static class ImportProgress {
+    private long processed;
+    private long imported;
+    private long failed;
+    private final List<TaskImportErrorDTO> errors = new ArrayList<>();
+
+    void reject(long line, List<String> messages, int maxReported) {
+      failed++;
+      if (errors.size() < maxReported) {
+        errors.add(new TaskImportErrorDTO(line, messages));
+      }
+    }
+  }
+}
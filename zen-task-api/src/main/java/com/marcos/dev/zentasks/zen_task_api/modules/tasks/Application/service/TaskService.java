@@ -3,28 +3,73 @@ package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkMoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkStatusDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkUpdateResultDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.DashboardTaskDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.MoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskBatchResultDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSearchResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSliceDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSuggestionDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSummaryDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.UpdateTaskDTO;
 
 public interface TaskService {
   TaskResponseDTO createNewTask(CreateTaskDTO data);
 
+  TaskBatchResultDTO createTasksInBatch(List<CreateTaskDTO> data);
+
   TaskResponseDTO getTaskById(Long id);
 
-  void editTask(Long id, UpdateTaskDTO data);
+  /**
+   * @param expectedVersions versions the caller accepts, or empty to skip the check
+   * @return the task's new version
+   */
+  Long editTask(Long id, UpdateTaskDTO data, Set<Long> expectedVersions);
 
   void deleteTask(Long id);
 
-  void moveQuadrant(Long id, MoveQuadrantDTO newQuadrant);
+  /**
+   * @param expectedVersions versions the caller accepts, or empty to skip the check
+   * @return the task's new version
+   */
+  Long moveQuadrant(Long id, MoveQuadrantDTO newQuadrant, Set<Long> expectedVersions);
+
+  BulkUpdateResultDTO moveQuadrantInBulk(BulkMoveQuadrantDTO data);
+
+  BulkUpdateResultDTO moveQuadrantByFilter(TaskFilterDTO filter, MoveQuadrantDTO target);
+
+  BulkUpdateResultDTO updateStatusInBulk(BulkStatusDTO data);
+
+  TaskSummaryDTO getTaskSummary();
+
+  /**
+   * Reads the change tag and then, unless {@code unchanged} accepts it, the body, in one
+   * read-only transaction. Both come from the same connection, so a replica cannot pair
+   * a tag with rows older than it.
+   *
+   * @return the tag, with the body or null when the caller already holds the tag
+   */
+  <T> TaggedRead<T> readWithChangeTag(Predicate<String> unchanged, Supplier<T> body);
+
+  record TaggedRead<T>(String tag, T body) {
+  }
 
   DashboardTaskDTO getDashboardTasks();
 
-  List<TaskResponseDTO> findTasksByFilter(TaskFilterDTO paramsFilter);
+  TaskSliceDTO findTasksByFilter(TaskFilterDTO paramsFilter, String cursor, Integer size);
+
+  List<TaskSearchResultDTO> searchTasks(String query, Integer size);
+
+  List<TaskSuggestionDTO> suggestTitles(String query, Integer limit);
 
   Map<LocalDate, List<TaskResponseDTO>> getWeeklyView(LocalDate weekStartDate);
 
@@ -1,51 +1,114 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.marcos.dev.zentasks.zen_task_api.common.domain.security.annotations.RequireAuthentication;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BadRequestException;
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BusinessRuleException;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.PreconditionFailedException;
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.ResourceNotFoundException;
 import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security.AuthenticatedUserService;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkMoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkStatusDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkUpdateResultDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.DashboardTaskDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.MoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskBatchItemResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskBatchResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskCursor;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSearchResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSliceDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSuggestionDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSummaryDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.UpdateTaskDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.mappers.TaskMapper;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.cache.TaskChangeTracker;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.DashboardTaskRow;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskCellRow;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.search.TaskSearchEngine;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.suggest.TaskTitleSuggestIndex;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 
 import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class TaskServiceImpl implements TaskService {
 
+  private static final Sort KEYSET_SORT = Sort.by("dueDate", "id");
+  private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+  private static final int DEFAULT_SUGGESTIONS = 10;
+  private static final int MAX_SUGGESTIONS = 20;
+  // Keeps the id list of a by-filter update well under the bind parameter limits
+  private static final int UPDATE_CHUNK_SIZE = 1000;
+
+  @Value("${api.tasks.pagination.default-size:50}")
+  private int defaultPageSize;
+
+  @Value("${api.tasks.pagination.max-size:200}")
+  private int maxPageSize;
+
+  @Value("${api.tasks.batch.max-size:100}")
+  private int maxBatchSize;
+
   private final TaskRepository taskRepository;
   private final TaskMapper taskMapper;
   private final AuthenticatedUserService authenticatedUserService;
 
   private final EntityManager entityManager;
+  private final Validator validator;
+  private final TaskArchiveService taskArchiveService;
+  private final TaskSearchEngine taskSearchEngine;
+  private final TaskTitleSuggestIndex taskTitleSuggestIndex;
+  private final TaskCounterService taskCounterService;
+  private final TaskChangeTracker taskChangeTracker;
 
   public TaskServiceImpl(
       TaskRepository taskRepository,
       TaskMapper taskMapper,
       AuthenticatedUserService authenticatedUserService,
-      EntityManager entityManager) {
+      EntityManager entityManager,
+      Validator validator,
+      TaskArchiveService taskArchiveService,
+      TaskSearchEngine taskSearchEngine,
+      TaskTitleSuggestIndex taskTitleSuggestIndex,
+      TaskCounterService taskCounterService,
+      TaskChangeTracker taskChangeTracker) {
     this.taskRepository = taskRepository;
     this.taskMapper = taskMapper;
     this.authenticatedUserService = authenticatedUserService;
     this.entityManager = entityManager;
+    this.validator = validator;
+    this.taskArchiveService = taskArchiveService;
+    this.taskSearchEngine = taskSearchEngine;
+    this.taskTitleSuggestIndex = taskTitleSuggestIndex;
+    this.taskCounterService = taskCounterService;
+    this.taskChangeTracker = taskChangeTracker;
   }
 
   @Override
@@ -58,6 +121,8 @@ public class TaskServiceImpl implements TaskService {
     TaskModel taskToSave = taskMapper.toEntity(data, userReference);
 
     taskRepository.save(taskToSave);
+    taskCounterService.tasksCreated(userID, List.of(taskToSave));
+    taskChangeTracker.tasksChanged(userID);
 
     TaskResponseDTO result = taskMapper.toResponseDTO(taskToSave);
 
@@ -66,120 +131,273 @@ public class TaskServiceImpl implements TaskService {
   }
 
   @Override
-  @RequireAuthentication(message = "Você deve estar autenticado para visualizar uma tarefa.")
-  @Transactional(readOnly = true)
-  public TaskResponseDTO getTaskById(Long id) {
-    TaskModel task = taskRepository.findById(id)
-        .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada"));
+  @Transactional
+  @RequireAuthentication(message = "Usuário deve estar autenticado para criar novas tarefas!")
+  public TaskBatchResultDTO createTasksInBatch(List<CreateTaskDTO> data) {
+    if (data == null || data.isEmpty()) {
+      throw new BadRequestException("O lote deve conter ao menos uma tarefa");
+    }
 
-    UserModel currentUser = (UserModel) authenticatedUserService
-        .getCurrentAuthentication()
-        .getPrincipal();
+    if (data.size() > maxBatchSize) {
+      throw new BadRequestException("O lote deve conter no máximo " + maxBatchSize + " tarefas");
+    }
 
-    // Verify if the task belongs to the authenticated user
-    if (!task.getUser().getId().equals(currentUser.getId())) {
-      throw new ResourceNotFoundException("Tarefa não encontrada");
+    UUID userID = authenticatedUserService.getCurrentUserId();
+    UserModel userReference = entityManager.getReference(UserModel.class, userID);
+
+    TaskBatchItemResultDTO[] results = new TaskBatchItemResultDTO[data.size()];
+    List<TaskModel> tasksToSave = new ArrayList<>(data.size());
+    List<Integer> savedPositions = new ArrayList<>(data.size());
+
+    for (int i = 0; i < data.size(); i++) {
+      List<String> errors = validateBatchItem(data.get(i));
+
+      if (errors.isEmpty()) {
+        try {
+          tasksToSave.add(taskMapper.toEntity(data.get(i), userReference));
+          savedPositions.add(i);
+          continue;
+        } catch (BusinessRuleException ex) {
+          errors = List.of(ex.getMessage());
+        }
+      }
+
+      results[i] = new TaskBatchItemResultDTO(i, false, null, errors);
+    }
+
+    // Ids come from the pooled sequence, so the flush sends the inserts as JDBC batches
+    taskRepository.saveAll(tasksToSave);
+    taskRepository.flush();
+    taskCounterService.tasksCreated(userID, tasksToSave);
+    taskChangeTracker.tasksChanged(userID);
+
+    for (int j = 0; j < tasksToSave.size(); j++) {
+      int position = savedPositions.get(j);
+      results[position] = new TaskBatchItemResultDTO(
+          position, true, taskMapper.toResponseDTO(tasksToSave.get(j)), List.of());
     }
 
-    return taskMapper.toResponseDTO(task);
+    return new TaskBatchResultDTO(
+        data.size(),
+        tasksToSave.size(),
+        data.size() - tasksToSave.size(),
+        List.of(results));
+  }
+
+  @Override
+  @RequireAuthentication(message = "Você deve estar autenticado para visualizar uma tarefa.")
+  @Transactional(readOnly = true)
+  public TaskResponseDTO getTaskById(Long id) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    // Tasks owned by someone else are reported as not found
+    return taskRepository.findResponseByIdAndUserId(id, userId)
+        .or(() -> taskArchiveService.findArchivedById(userId, id))
+        .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada"));
   }
 
   @Override
   @Transactional
   @RequireAuthentication(message = "Você deve estar autenticado para atualizar uma nova tarefa.")
-  public void editTask(Long id, UpdateTaskDTO data) {
-    TaskModel taskToUpdate = taskRepository.findById(id)
-        .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontada"));
+  public Long editTask(Long id, UpdateTaskDTO data, Set<Long> expectedVersions) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    TaskModel.validateDetails(data.title(), data.description(), data.dueDate());
+
+    // A single expected version is checked by the UPDATE itself; otherwise the row is
+    // locked first, so the version it bumps is known
+    Long currentVersion = expectedVersions.size() == 1 ? expectedVersions.iterator().next() : null;
+    if (currentVersion == null) {
+      List<TaskCellRow> before = taskRepository.lockCells(List.of(id), userId);
+      if (before.isEmpty()) {
+        throw missingTask(id, userId, "Tarefa não encontada");
+      }
+
+      currentVersion = before.get(0).version();
+      requireVersion(currentVersion, expectedVersions);
+    }
+
+    int updated = taskRepository.updateDetails(
+        id, userId, data.title(), data.description(), data.dueDate(), TaskModel.LOCKED_STATUSES, currentVersion);
 
-    UserModel currentUser = (UserModel) authenticatedUserService
-        .getCurrentAuthentication()
-        .getPrincipal();
+    if (updated == 0) {
+      TaskModel taskToUpdate = findOwnedTask(id, userId, "Tarefa não encontada");
+      requireVersion(taskToUpdate.getVersion(), expectedVersions);
+      taskToUpdate.updateDetails(data.title(), data.description(), data.dueDate(), taskToUpdate.getUser());
+    }
 
-    taskToUpdate.updateDetails(
-        data.title(),
-        data.description(),
-        data.dueDate(),
-        currentUser);
+    // The UPDATE statement bypasses the entity listener
+    taskTitleSuggestIndex.titleChanged(userId, id, data.title());
+    taskChangeTracker.tasksChanged(userId);
 
-    taskRepository.save(taskToUpdate);
+    return currentVersion + 1;
   }
 
   @Override
   @Transactional
   @RequireAuthentication(message = "Você deve estar autenticado para deletar uma tarefa.")
   public void deleteTask(Long id) {
-    TaskModel taskToDelete = taskRepository.findById(id)
-        .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada"));
-
-    UserModel currentUser = (UserModel) authenticatedUserService
-        .getCurrentAuthentication()
-        .getPrincipal();
-
-    // Verify if the task belongs to the authenticated user
-    if (!taskToDelete.getUser().getId().equals(currentUser.getId())) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    // Tasks owned by someone else are reported as not found
+    List<TaskCellRow> before = taskRepository.lockCells(List.of(id), userId);
+    if (before.isEmpty()) {
+      if (taskArchiveService.deleteArchived(userId, id)) {
+        return;
+      }
       throw new ResourceNotFoundException("Tarefa não encontrada");
     }
 
-    taskRepository.delete(taskToDelete);
+    taskRepository.deleteByIdAndUserId(id, userId);
+    taskCounterService.tasksChanged(userId, before, List.of());
+    taskTitleSuggestIndex.taskRemoved(userId, id);
+    taskChangeTracker.tasksChanged(userId);
   }
 
   @Transactional
   @RequireAuthentication(message = "Você deve estar autenticado para modificar uma tarefa")
   @Override
-  public void moveQuadrant(Long id, MoveQuadrantDTO newQuadrantDTO) {
-    TaskModel taskToUpdateQuadrant = taskRepository.findById(id)
-        .orElseThrow(() -> new ResourceNotFoundException("Tarefa não existe!"));
+  public Long moveQuadrant(Long id, MoveQuadrantDTO newQuadrantDTO, Set<Long> expectedVersions) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+    Quadrant target = newQuadrantDTO.newQuadrant();
 
-    UserModel currentUser = (UserModel) authenticatedUserService
-        .getCurrentAuthentication()
-        .getPrincipal();
+    if (target == null) {
+      throw new BusinessRuleException("O novo quadrante não pode ser nulo.");
+    }
 
-    // Verify if the task belongs to the authenticated user
-    if (!taskToUpdateQuadrant.getUser().getId().equals(currentUser.getId())) {
-      throw new ResourceNotFoundException("Tarefa não encontrada");
+    List<TaskCellRow> before = taskRepository.lockCells(List.of(id), userId);
+    if (before.isEmpty()) {
+      throw missingTask(id, userId, "Tarefa não existe!");
+    }
+
+    // The row is locked, so its version cannot change before the UPDATE
+    Long currentVersion = before.get(0).version();
+    requireVersion(currentVersion, expectedVersions);
+
+    int updated = taskRepository.moveToQuadrant(
+        List.of(id), userId, target, target.isUrgent(), target.isImportant(), TaskModel.LOCKED_STATUSES);
+
+    if (updated == 0) {
+      findOwnedTask(id, userId, "Tarefa não existe!").moveTo(target);
     }
 
-    taskToUpdateQuadrant.moveTo(newQuadrantDTO.newQuadrant());
+    recordCellChanges(userId, before, updated, row -> row.withQuadrant(target));
 
-    taskRepository.save(taskToUpdateQuadrant);
+    return currentVersion + 1;
   }
 
   @Override
-  @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
-  @Transactional(readOnly = true)
-  public DashboardTaskDTO getDashboardTasks() {
+  @Transactional
+  @RequireAuthentication(message = "Você deve estar autenticado para modificar uma tarefa")
+  public BulkUpdateResultDTO moveQuadrantInBulk(BulkMoveQuadrantDTO data) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+    Set<Long> ids = resolveBulkIds(data.ids());
+    Quadrant target = data.newQuadrant();
 
-    UserModel currentUser = (UserModel) authenticatedUserService
-        .getCurrentAuthentication()
-        .getPrincipal();
+    List<TaskCellRow> before = taskRepository.lockCells(ids, userId);
+    int updated = taskRepository.moveToQuadrant(
+        ids, userId, target, target.isUrgent(), target.isImportant(), TaskModel.LOCKED_STATUSES);
+    recordCellChanges(userId, before, updated, row -> row.withQuadrant(target));
 
-    Specification<TaskModel> overdueSpec = TaskRepository.Specifications.builder()
-        .forUser(currentUser)
-        .dueDateBetween(LocalDate.MIN, LocalDate.now().minusDays(1))
-        .isCompleted(false)
-        .build();
+    return new BulkUpdateResultDTO(ids.size(), updated);
+  }
 
-    List<TaskModel> overdueTasks = taskRepository.findAll(overdueSpec);
+  @Override
+  @Transactional
+  @RequireAuthentication(message = "Você deve estar autenticado para modificar uma tarefa")
+  public BulkUpdateResultDTO moveQuadrantByFilter(TaskFilterDTO filter, MoveQuadrantDTO target) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    Specification<TaskModel> spec = filterSpecification(userId, filter).build();
+    Quadrant newQuadrant = target.newQuadrant();
+
+    // The matching tasks are locked first and then moved by id, so the counters follow
+    // exactly the rows the UPDATE changed, even with concurrent changes or inserts
+    List<TaskCellRow> before = taskRepository.lockMovableCells(spec, newQuadrant);
+    List<Long> ids = before.stream().map(TaskCellRow::id).toList();
+
+    int updated = 0;
+    for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+      updated += taskRepository.moveToQuadrant(
+          ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size())),
+          userId, newQuadrant, newQuadrant.isUrgent(), newQuadrant.isImportant(), TaskModel.LOCKED_STATUSES);
+    }
+    recordCellChanges(userId, before, updated, row -> row.withQuadrant(newQuadrant));
 
-    Specification<TaskModel> dueTodaySpec = TaskRepository.Specifications.builder()
-        .forUser(currentUser)
-        .dueDateBetween(LocalDate.now(), LocalDate.now())
-        .isCompleted(false)
-        .build();
+    return new BulkUpdateResultDTO(null, updated);
+  }
 
-    List<TaskModel> dueTodayTasks = taskRepository.findAll(dueTodaySpec);
+  @Override
+  @Transactional
+  @RequireAuthentication(message = "Você deve estar autenticado para modificar uma tarefa")
+  public BulkUpdateResultDTO updateStatusInBulk(BulkStatusDTO data) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+    Set<Long> ids = resolveBulkIds(data.ids());
+
+    // DONE, CLOSED and CANCELED also stamp completed_at and other statuses reopen the task,
+    // mirroring TaskModel.updateStatus
+    TaskStatus newStatus = data.newStatus();
+    List<TaskCellRow> before = taskRepository.lockCells(ids, userId);
+    int updated;
+    if (newStatus == TaskStatus.DONE) {
+      updated = taskRepository.markAsDone(ids, userId, LocalDateTime.now(), TaskModel.LOCKED_STATUSES);
+    } else if (TaskModel.LOCKED_STATUSES.contains(newStatus)) {
+      updated = taskRepository.close(ids, userId, newStatus, LocalDateTime.now(), TaskModel.LOCKED_STATUSES);
+    } else {
+      updated = taskRepository.updateStatus(ids, userId, newStatus, TaskModel.LOCKED_STATUSES);
+    }
+    recordCellChanges(userId, before, updated, row -> row.withStatus(newStatus));
 
-    Specification<TaskModel> doNowSpec = TaskRepository.Specifications.builder()
-        .forUser(currentUser)
-        .inQuadrant(Quadrant.DO_NOW)
-        .isCompleted(false)
-        .build();
+    return new BulkUpdateResultDTO(ids.size(), updated);
+  }
 
-    List<TaskModel> doNowTasks = taskRepository.findAll(doNowSpec);
+  /**
+   * Served from tb_task_counters: one row per quadrant and status, however many tasks the user has.
+   */
+  @Override
+  @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
+  @Transactional(readOnly = true)
+  public TaskSummaryDTO getTaskSummary() {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    return taskCounterService.summarize(userId);
+  }
+
+  @Override
+  @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
+  @Transactional(readOnly = true)
+  public <T> TaggedRead<T> readWithChangeTag(Predicate<String> unchanged, Supplier<T> body) {
+    String tag = taskChangeTracker.currentTag(authenticatedUserService.getCurrentUserId());
+
+    return new TaggedRead<>(tag, unchanged.test(tag) ? null : body.get());
+  }
 
-    List<TaskResponseDTO> overdueTasksDtos = taskMapper.toResponseDTOList(overdueTasks);
-    List<TaskResponseDTO> todayTasksDtos = taskMapper.toResponseDTOList(dueTodayTasks);
-    List<TaskResponseDTO> doNowTasksDtos = taskMapper.toResponseDTOList(doNowTasks);
+  @Override
+  @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
+  @Transactional(readOnly = true)
+  public DashboardTaskDTO getDashboardTasks() {
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    List<DashboardTaskRow> rows = taskRepository.findDashboardRows(userId, LocalDate.now(), Quadrant.DO_NOW);
+
+    List<TaskResponseDTO> overdueTasksDtos = new ArrayList<>();
+    List<TaskResponseDTO> todayTasksDtos = new ArrayList<>();
+    List<TaskResponseDTO> doNowTasksDtos = new ArrayList<>();
+
+    // Each row is mapped once and shared by every bucket it belongs to
+    for (DashboardTaskRow row : rows) {
+      TaskResponseDTO dto = taskMapper.toResponseDTO(row);
+
+      if (row.overdue()) {
+        overdueTasksDtos.add(dto);
+      }
+      if (row.dueToday()) {
+        todayTasksDtos.add(dto);
+      }
+      if (row.doNow()) {
+        doNowTasksDtos.add(dto);
+      }
+    }
 
     return new DashboardTaskDTO(overdueTasksDtos, todayTasksDtos, doNowTasksDtos);
 
@@ -188,34 +406,71 @@ public class TaskServiceImpl implements TaskService {
   @Override
   @RequireAuthentication(message = "Você deve estar autenticado para visualizar as tarefas")
   @Transactional(readOnly = true)
-  public List<TaskResponseDTO> findTasksByFilter(TaskFilterDTO filter) {
-    UserModel currentUser = (UserModel) authenticatedUserService
-        .getCurrentAuthentication()
-        .getPrincipal();
+  public TaskSliceDTO findTasksByFilter(TaskFilterDTO filter, String cursor, Integer size) {
+    UUID userId = authenticatedUserService.getCurrentUserId();
 
-    TaskRepository.Specifications.SpecificationBuilder specBuilder = TaskRepository.Specifications.builder()
-        .forUser(currentUser);
+    TaskRepository.Specifications.SpecificationBuilder specBuilder = filterSpecification(userId, filter);
 
-    if (filter.quadrant() != null) {
-      specBuilder.inQuadrant(filter.quadrant());
+    TaskCursor after = null;
+    if (cursor != null && !cursor.isBlank()) {
+      after = TaskCursor.decode(cursor);
+      specBuilder.after(after.dueDate(), after.id());
     }
 
-    if (filter.status() != null) {
-      specBuilder.withStatus(filter.status());
+    int pageSize = resolvePageSize(size);
+
+    // Fetch one extra row to find out whether another page exists
+    Specification<TaskModel> spec = specBuilder.build();
+    List<TaskResponseDTO> tasks = taskRepository.findResponses(spec, KEYSET_SORT, pageSize + 1);
+
+    // Finished tasks older than the archive age only live in the archive segments
+    if (taskArchiveService.coversFilter(filter)) {
+      tasks = taskArchiveService.mergeArchived(userId, filter, after, tasks, pageSize + 1);
     }
 
-    if (filter.fromDate() != null && filter.toDate() != null) {
-      specBuilder.dueDateBetween(filter.fromDate(), filter.toDate());
+    boolean hasNext = tasks.size() > pageSize;
+    List<TaskResponseDTO> items = hasNext ? tasks.subList(0, pageSize) : tasks;
+    String nextCursor = hasNext ? TaskCursor.from(items.get(items.size() - 1)).encode() : null;
+
+    return new TaskSliceDTO(items, nextCursor, hasNext);
+  }
+
+  @Override
+  @RequireAuthentication(message = "Você deve estar autenticado para buscar tarefas")
+  @Transactional(readOnly = true)
+  public List<TaskSearchResultDTO> searchTasks(String query, Integer size) {
+    if (query == null || query.isBlank()) {
+      throw new BadRequestException("O termo de busca não pode estar em branco");
     }
 
-    if (filter.isComplete() != null) {
-      specBuilder.isCompleted(filter.isComplete());
+    if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+      throw new BadRequestException("O termo de busca deve ter no máximo " + MAX_SEARCH_QUERY_LENGTH + " caracteres");
     }
 
-    Specification<TaskModel> spec = specBuilder.build();
-    List<TaskModel> tasks = taskRepository.findAll(spec);
+    UUID userId = authenticatedUserService.getCurrentUserId();
+
+    return taskSearchEngine.search(userId, query.trim(), resolvePageSize(size));
+  }
+
+  /**
+   * Not transactional: once the user's index is loaded, suggestions are served
+   * from memory without touching the database.
+   */
+  @Override
+  @RequireAuthentication(message = "Você deve estar autenticado para buscar tarefas")
+  public List<TaskSuggestionDTO> suggestTitles(String query, Integer limit) {
+    if (query == null || query.isBlank()) {
+      return List.of();
+    }
+
+    if (limit != null && limit < 1) {
+      throw new BadRequestException("O número de sugestões deve ser maior que zero");
+    }
+
+    UUID userId = authenticatedUserService.getCurrentUserId();
+    int resolvedLimit = limit == null ? DEFAULT_SUGGESTIONS : Math.min(limit, MAX_SUGGESTIONS);
 
-    return taskMapper.toResponseDTOList(tasks);
+    return taskTitleSuggestIndex.suggest(userId, query, resolvedLimit);
   }
 
   @Override
@@ -223,9 +478,7 @@ public class TaskServiceImpl implements TaskService {
   @Transactional(readOnly = true)
   public Map<LocalDate, List<TaskResponseDTO>> getWeeklyView(LocalDate weekStartDate) {
 
-    UserModel currentUser = (UserModel) authenticatedUserService
-        .getCurrentAuthentication()
-        .getPrincipal();
+    UUID userId = authenticatedUserService.getCurrentUserId();
 
     if (weekStartDate == null) {
       throw new BusinessRuleException("A data de início da semana não pode ser nula");
@@ -234,16 +487,103 @@ public class TaskServiceImpl implements TaskService {
     LocalDate weekEndDate = weekStartDate.plusDays(6);
 
     Specification<TaskModel> spec = TaskRepository.Specifications.builder()
-        .forUser(currentUser)
+        .forUserId(userId)
         .dueDateBetween(weekStartDate, weekEndDate)
         .build();
 
-    List<TaskModel> tasksInWeek = taskRepository.findAll(spec);
-    List<TaskResponseDTO> responseDTOs = taskMapper.toResponseDTOList(tasksInWeek);
+    // Finished tasks older than the archive age only live in the archive segments
+    List<TaskResponseDTO> responseDTOs = taskArchiveService.mergeArchivedDueBetween(
+        userId, weekStartDate, weekEndDate, taskRepository.findResponses(spec, KEYSET_SORT));
 
     return responseDTOs.stream()
         .collect(Collectors.groupingBy(TaskResponseDTO::dueDate));
 
   }
 
+  /**
+   * Slow path for the single-statement updates: when no row was changed, loads the
+   * task to tell a missing or foreign task (404) from one the domain rules reject,
+   * letting the TaskModel method raise the matching error.
+   */
+  private TaskModel findOwnedTask(Long id, UUID userId, String notFoundMessage) {
+    return taskRepository.findByIdAndUserId(id, userId)
+        .orElseThrow(() -> missingTask(id, userId, notFoundMessage));
+  }
+
+  /**
+   * The error for a task missing from tb_tasks. Archived tasks are all finished, so
+   * changes to them are rejected by the domain rules like those to a finished hot
+   * task, instead of being reported as not found.
+   */
+  private ResourceNotFoundException missingTask(Long id, UUID userId, String notFoundMessage) {
+    taskArchiveService.findArchivedById(userId, id)
+        .ifPresent(task -> TaskModel.validateModification(task.isCompleted(), task.taskStatus()));
+
+    return new ResourceNotFoundException(notFoundMessage);
+  }
+
+  /**
+   * Adjusts the counters once a bulk statement changed some of the locked tasks. When
+   * it changed all of them their new cells follow from the transition; otherwise the
+   * statement skipped some, and the cells are read back.
+   */
+  private void recordCellChanges(
+      UUID userId, List<TaskCellRow> before, int updated, UnaryOperator<TaskCellRow> transition) {
+    if (updated == 0) {
+      return;
+    }
+
+    List<TaskCellRow> after = updated == before.size()
+        ? before.stream().map(transition).toList()
+        : taskRepository.findCells(before.stream().map(TaskCellRow::id).toList(), userId);
+
+    taskCounterService.tasksChanged(userId, before, after);
+    taskChangeTracker.tasksChanged(userId);
+  }
+
+  private void requireVersion(Long currentVersion, Set<Long> expectedVersions) {
+    if (!expectedVersions.isEmpty() && !expectedVersions.contains(currentVersion)) {
+      throw new PreconditionFailedException("A tarefa foi modificada por outra requisição");
+    }
+  }
+
+  private TaskRepository.Specifications.SpecificationBuilder filterSpecification(UUID userId, TaskFilterDTO filter) {
+    return TaskRepository.Specifications.builder()
+        .forUserId(userId)
+        .matching(filter);
+  }
+
+  private Set<Long> resolveBulkIds(List<Long> ids) {
+    Set<Long> distinctIds = new LinkedHashSet<>(ids);
+
+    if (distinctIds.size() > maxBatchSize) {
+      throw new BadRequestException("O lote deve conter no máximo " + maxBatchSize + " tarefas");
+    }
+
+    return distinctIds;
+  }
+
+  private List<String> validateBatchItem(CreateTaskDTO item) {
+    if (item == null) {
+      return List.of("A tarefa não pode ser nula");
+    }
+
+    return validator.validate(item).stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .toList();
+  }
+
+  private int resolvePageSize(Integer requestedSize) {
+    if (requestedSize == null) {
+      return defaultPageSize;
+    }
+
+    if (requestedSize < 1) {
+      throw new BadRequestException("O tamanho da página deve ser maior que zero");
+    }
+
+    return Math.min(requestedSize, maxPageSize);
+  }
+
 }
@@ -4,5 +4,13 @@ public enum Quadrant {
     DO_NOW,
     SCHEDULE,
     DELEGATE,
-    ELIMINATE
+    ELIMINATE;
+
+    public boolean isUrgent() {
+        return this == DO_NOW || this == DELEGATE;
+    }
+
+    public boolean isImportant() {
+        return this == DO_NOW || this == SCHEDULE;
+    }
 }
@@ -0,0 +1,51 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Which archive segment holds an archived task, so the task can be reached by id
+ * without decompressing every segment of its owner.
+ */
+@Entity
+@Table(name = "tb_task_archive_entries", indexes = {
+    @Index(name = "idx_task_archive_entries_segment", columnList = "segment_id")
+})
+public class TaskArchiveEntry {
+
+  @Id
+  @Column(name = "task_id")
+  private Long taskId;
+
+  @Column(name = "user_id", nullable = false)
+  private UUID userId;
+
+  @Column(name = "segment_id", nullable = false)
+  private Long segmentId;
+
+  protected TaskArchiveEntry() {
+  }
+
+  public TaskArchiveEntry(Long taskId, UUID userId, Long segmentId) {
+    this.taskId = taskId;
+    this.userId = userId;
+    this.segmentId = segmentId;
+  }
+
+  public Long getTaskId() {
+    return taskId;
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public Long getSegmentId() {
+    return segmentId;
+  }
+}
@@ -0,0 +1,99 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Cold storage for finished tasks: a compressed block of one user's archived tasks.
+ * The due date range lets a listing skip the segments it cannot match without
+ * decompressing them.
+ */
+@Entity
+@Table(name = "tb_task_archive_segments", indexes = {
+    @Index(name = "idx_task_archive_segments_user_due_date", columnList = "user_id, min_due_date, max_due_date")
+})
+public class TaskArchiveSegment {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Long id;
+
+  @Column(name = "user_id", nullable = false)
+  private UUID userId;
+
+  @Column(name = "task_count", nullable = false)
+  private int taskCount;
+
+  @Column(name = "min_due_date")
+  private LocalDate minDueDate;
+
+  @Column(name = "max_due_date")
+  private LocalDate maxDueDate;
+
+  // Gzipped JSON; bytea on Postgres, the length only matters for the H2 schema
+  @Column(name = "payload", nullable = false, length = 16_777_216)
+  private byte[] payload;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  protected TaskArchiveSegment() {
+  }
+
+  public TaskArchiveSegment(UUID userId, int taskCount, LocalDate minDueDate, LocalDate maxDueDate, byte[] payload) {
+    this.userId = userId;
+    this.taskCount = taskCount;
+    this.minDueDate = minDueDate;
+    this.maxDueDate = maxDueDate;
+    this.payload = payload;
+    this.createdAt = LocalDateTime.now();
+  }
+
+  /**
+   * Replaces the tasks of the segment, once some were taken out of it.
+   */
+  public void replaceTasks(int taskCount, LocalDate minDueDate, LocalDate maxDueDate, byte[] payload) {
+    this.taskCount = taskCount;
+    this.minDueDate = minDueDate;
+    this.maxDueDate = maxDueDate;
+    this.payload = payload;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public int getTaskCount() {
+    return taskCount;
+  }
+
+  public LocalDate getMinDueDate() {
+    return minDueDate;
+  }
+
+  public LocalDate getMaxDueDate() {
+    return maxDueDate;
+  }
+
+  public byte[] getPayload() {
+    return payload;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+}
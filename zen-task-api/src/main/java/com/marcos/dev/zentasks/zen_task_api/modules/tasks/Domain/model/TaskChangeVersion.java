@@ -0,0 +1,36 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Version of a user's tasks as a whole, moved by every write to them. The rows are
+ * only written through TaskChangeVersionRepository#bump, in the same transaction
+ * as the task change.
+ */
+@Entity
+@Table(name = "tb_task_changes")
+public class TaskChangeVersion {
+
+  @Id
+  @Column(name = "user_id", nullable = false)
+  private UUID userId;
+
+  @Column(name = "change_version", nullable = false)
+  private long changeVersion;
+
+  protected TaskChangeVersion() {
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public long getChangeVersion() {
+    return changeVersion;
+  }
+}
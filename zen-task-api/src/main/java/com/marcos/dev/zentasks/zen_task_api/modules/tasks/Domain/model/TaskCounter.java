@@ -0,0 +1,100 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Number of live tasks (archived ones are not counted) a user has in one
+ * quadrant and status. The rows are only written through
+ * TaskCounterRepository#applyDeltas, in the same transaction as the task change.
+ */
+@Entity
+@IdClass(TaskCounter.Key.class)
+@Table(name = "tb_task_counters")
+public class TaskCounter {
+
+  @Id
+  @Column(name = "user_id", nullable = false)
+  private UUID userId;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "quadrant", nullable = false, length = 20)
+  private Quadrant quadrant;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "task_status", nullable = false, length = 20)
+  private TaskStatus status;
+
+  @Column(name = "task_count", nullable = false)
+  private long taskCount;
+
+  protected TaskCounter() {
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public Quadrant getQuadrant() {
+    return quadrant;
+  }
+
+  public TaskStatus getStatus() {
+    return status;
+  }
+
+  public long getTaskCount() {
+    return taskCount;
+  }
+
+  /**
+   * Quadrant and status pair a counter is kept for.
+   */
+  public record Cell(Quadrant quadrant, TaskStatus status) {
+  }
+
+  public static class Key implements Serializable {
+    private UUID userId;
+    private Quadrant quadrant;
+    private TaskStatus status;
+
+    protected Key() {
+    }
+
+    public Key(UUID userId, Quadrant quadrant, TaskStatus status) {
+      this.userId = userId;
+      this.quadrant = quadrant;
+      this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key key)) {
+        return false;
+      }
+      return Objects.equals(userId, key.userId) && quadrant == key.quadrant && status == key.status;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userId, quadrant, status);
+    }
+  }
+}
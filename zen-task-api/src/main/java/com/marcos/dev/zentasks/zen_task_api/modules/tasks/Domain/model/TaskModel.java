@@ -2,7 +2,9 @@ package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,22 +21,36 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Entity representing a Task in the system.
  * This class manages task details, status, and priority based on the Eisenhower
  * Matrix.
+ *
+ * <p>Not in the second-level cache. Its writes are bulk JPQL and criteria updates,
+ * and Hibernate answers each of them by evicting the whole region, so the region
+ * would stay close to empty. Listings also read DTO projections rather than
+ * entities, which the entity cache does not serve.
  */
 @Entity
 @EntityListeners(TaskEntityListener.class)
-@Table(name = "tb_tasks")
+@Table(name = "tb_tasks", indexes = {
+    @Index(name = "idx_tasks_completed_at", columnList = "completed_at"),
+    @Index(name = "idx_tasks_user_completed_due_date", columnList = "user_id, is_completed, due_date"),
+    @Index(name = "idx_tasks_user_quadrant_completed", columnList = "user_id, quadrant, is_completed"),
+    @Index(name = "idx_tasks_user_due_date_id", columnList = "user_id, due_date, id")
+})
 public class TaskModel {
   private static final Logger logger = LoggerFactory.getLogger(TaskModel.class);
 
@@ -48,8 +64,15 @@ public class TaskModel {
   private static final String ERROR_QUADRANT_REQUIRED = "Quadrant cannot be null";
   private static final String ERROR_SAME_QUADRANT = "Task is already in this quadrant";
 
+  /**
+   * Statuses after which a task can no longer be modified.
+   */
+  public static final Set<TaskStatus> LOCKED_STATUSES = EnumSet.of(TaskStatus.CLOSED, TaskStatus.CANCELED);
+
+  // Pooled sequence: ids are reserved 50 at a time so inserts can be batched
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_tasks_seq")
+  @SequenceGenerator(name = "tb_tasks_seq", sequenceName = "tb_tasks_seq", allocationSize = 50)
   @Column(name = "id")
   private Long id;
 
@@ -59,7 +82,7 @@ public class TaskModel {
   @Column(name = "description", length = 2500, nullable = false)
   private String description;
 
-  @Column(name = "due_date")
+  @Column(name = "due_date", nullable = false)
   private LocalDate dueDate;
 
   @Column(name = "is_urgent")
@@ -83,13 +106,20 @@ public class TaskModel {
   @CreatedDate
   private LocalDateTime createdAt;
 
+  // When the task left the active set: marked DONE, CLOSED or CANCELED
   @Column(name = "completed_at")
   private LocalDateTime completedAt;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
   private UserModel user;
 
+  // Bumped on every change, including the bulk UPDATE statements in TaskRepository,
+  // and exposed as the task's ETag
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   private TaskModel() {
   }
 
@@ -148,10 +178,12 @@ public class TaskModel {
   }
 
   /**
-   * Updates the status of the task.
+   * Updates the status of the task. Moving a task out of DONE to an open
+   * status reopens it; completing an already completed task keeps its
+   * completion time.
    */
   public void updateStatus(TaskStatus newStatus) {
-    if (status == TaskStatus.CLOSED || status == TaskStatus.CANCELED) {
+    if (LOCKED_STATUSES.contains(status)) {
       throw new BusinessRuleException(ERROR_CLOSED_TASK);
     }
 
@@ -159,14 +191,33 @@ public class TaskModel {
     this.status = newStatus;
 
     if (newStatus == TaskStatus.DONE) {
-      this.isCompleted = true;
-      this.completedAt = LocalDateTime.now();
+      if (!isCompleted) {
+        this.isCompleted = true;
+        this.completedAt = LocalDateTime.now();
+      }
+    } else if (LOCKED_STATUSES.contains(newStatus)) {
+      if (completedAt == null) {
+        this.completedAt = LocalDateTime.now();
+      }
+    } else {
+      this.isCompleted = false;
+      this.completedAt = null;
     }
 
     logger.info("Task status changed from {} to {} - ID: {}", oldStatus, newStatus, id);
   }
 
-  private void validateInput(String title, String description, LocalDate dueDate) {
+  /**
+   * Validates new task details without loading the task, for updates that are
+   * applied by a single UPDATE statement.
+   *
+   * @throws BusinessRuleException if any detail is missing or the due date is in the past
+   */
+  public static void validateDetails(String title, String description, LocalDate dueDate) {
+    validateInput(title, description, dueDate);
+  }
+
+  private static void validateInput(String title, String description, LocalDate dueDate) {
     if (title == null || title.isBlank()) {
       throw new BusinessRuleException(ERROR_TITLE_REQUIRED);
     }
@@ -179,16 +230,29 @@ public class TaskModel {
     validateDueDate(dueDate);
   }
 
-  private void validateDueDate(LocalDate dueDate) {
+  private static void validateDueDate(LocalDate dueDate) {
     if (dueDate.isBefore(LocalDate.now())) {
       throw new BusinessRuleException(ERROR_PAST_DUE_DATE);
     }
   }
 
   private void validateTaskModification() {
-    if (isCompleted) {
+    validateModification(isCompleted, status);
+  }
+
+  /**
+   * Rejects changes to a completed, closed or canceled task, also for tasks that are
+   * not loaded, such as archived ones.
+   *
+   * @throws BusinessRuleException if the task can no longer be modified
+   */
+  public static void validateModification(boolean completed, TaskStatus status) {
+    if (completed) {
       throw new BusinessRuleException(ERROR_COMPLETED_TASK);
     }
+    if (LOCKED_STATUSES.contains(status)) {
+      throw new BusinessRuleException(ERROR_CLOSED_TASK);
+    }
   }
 
   private boolean hasChanges(String newTitle, String newDescription, LocalDate newDueDate) {
@@ -205,8 +269,8 @@ public class TaskModel {
 
   private void assignQuadrant(Quadrant newQuadrant) {
     this.quadrant = newQuadrant;
-    this.isUrgent = newQuadrant == Quadrant.DO_NOW || newQuadrant == Quadrant.DELEGATE;
-    this.isImportant = newQuadrant == Quadrant.DO_NOW || newQuadrant == Quadrant.SCHEDULE;
+    this.isUrgent = newQuadrant.isUrgent();
+    this.isImportant = newQuadrant.isImportant();
   }
 
   public void setPriority(boolean isUrgent, boolean isImportant) {
@@ -296,8 +360,8 @@ public class TaskModel {
     public TaskBuilder quadrant(Quadrant quadrant) {
       if (quadrant != null) {
         task.quadrant = quadrant;
-        task.isUrgent = quadrant == Quadrant.DO_NOW || quadrant == Quadrant.DELEGATE;
-        task.isImportant = quadrant == Quadrant.DO_NOW || quadrant == Quadrant.SCHEDULE;
+        task.isUrgent = quadrant.isUrgent();
+        task.isImportant = quadrant.isImportant();
       }
       return this;
     }
@@ -307,7 +371,7 @@ public class TaskModel {
       if (task.quadrant == null) {
         task.quadrant = determineQuadrant(task.isUrgent, task.isImportant);
       }
-      logger.info("Created new task: {} with due date: {}\n", task.title, task.dueDate);
+      logger.debug("Created new task: {} with due date: {}\n", task.title, task.dueDate);
       return task;
     }
 
@@ -389,6 +453,10 @@ public class TaskModel {
     return user;
   }
 
+  public Long getVersion() {
+    return version;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
@@ -0,0 +1,45 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.archive;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+
+/**
+ * Columns of a task as stored inside an archive segment.
+ */
+public record ArchivedTask(
+    Long id,
+    String title,
+    String description,
+    LocalDate dueDate,
+    boolean urgent,
+    boolean important,
+    boolean completed,
+    TaskStatus status,
+    Quadrant quadrant,
+    LocalDateTime createdAt,
+    LocalDateTime completedAt) {
+
+  public static ArchivedTask from(TaskModel task) {
+    return new ArchivedTask(
+        task.getId(),
+        task.getTitle(),
+        task.getDescription(),
+        task.getDueDate(),
+        task.isUrgent(),
+        task.isImportant(),
+        task.isCompleted(),
+        task.getStatus(),
+        task.getQuadrant(),
+        task.getCreatedAt(),
+        task.getCompletedAt());
+  }
+
+  public TaskResponseDTO toResponseDTO() {
+    return new TaskResponseDTO(id, title, description, dueDate, status, quadrant, completed);
+  }
+}
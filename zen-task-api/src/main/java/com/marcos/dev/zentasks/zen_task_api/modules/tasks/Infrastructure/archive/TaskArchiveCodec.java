@@ -0,0 +1,53 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Serializes archive segments as gzip-compressed JSON arrays.
+ * Uses its own mapper so the stored format does not follow changes to the HTTP JSON settings.
+ */
+@Component
+public class TaskArchiveCodec {
+
+  private static final TypeReference<List<ArchivedTask>> TASK_LIST = new TypeReference<>() {
+  };
+
+  private final ObjectMapper mapper = JsonMapper.builder()
+      .addModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  public byte[] encode(List<ArchivedTask> tasks) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (OutputStream gzip = new GZIPOutputStream(buffer)) {
+      mapper.writeValue(gzip, tasks);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Falha ao compactar o segmento de arquivo", e);
+    }
+    return buffer.toByteArray();
+  }
+
+  public List<ArchivedTask> decode(byte[] payload) {
+    try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+      return mapper.readValue(gzip, TASK_LIST);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Falha ao descompactar o segmento de arquivo", e);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.cache;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskChangeVersionRepository;
+
+/**
+ * Per-user change version of the tasks, used as the ETag of the list views. The
+ * version lives in tb_task_changes and is bumped in the same transaction as the
+ * write, so every instance hands out the same tag and a restart does not reset it.
+ *
+ * <p>The tag is read in the same read-only transaction as the list it names, through
+ * {@code TaskService#readWithChangeTag}, so both come from one connection. A replica
+ * applies the primary's changes in order, so the tag can only be older than the rows
+ * read after it, which makes the next request fetch again instead of serving a 304.
+ */
+@Component
+public class TaskChangeTracker {
+
+  private final TaskChangeVersionRepository taskChangeVersionRepository;
+
+  public TaskChangeTracker(TaskChangeVersionRepository taskChangeVersionRepository) {
+    this.taskChangeVersionRepository = taskChangeVersionRepository;
+  }
+
+  /**
+   * Opaque token naming the current state of the user's tasks; unquoted, as
+   * {@code WebRequest#checkNotModified} expects it.
+   */
+  @Transactional(readOnly = true)
+  public String currentTag(UUID userId) {
+    return tag(userId, taskChangeVersionRepository.findChangeVersion(userId).orElse(0L));
+  }
+
+  /**
+   * The tag of the given version, for readers that fetch tb_task_changes themselves.
+   */
+  public static String tag(UUID userId, long version) {
+    return Long.toHexString(userId.getMostSignificantBits() ^ userId.getLeastSignificantBits()) + "-" + version;
+  }
+
+  /**
+   * Records a write to the user's tasks. The version moves when the transaction
+   * commits, together with the write, and its row lock orders concurrent writes
+   * of the same user.
+   */
+  @Transactional
+  public void tasksChanged(UUID userId) {
+    taskChangeVersionRepository.bump(userId);
+  }
+}
@@ -0,0 +1,187 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BadRequestException;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns: title, description, dueDate,
+ * isUrgent and isImportant, in any order. Quoted fields may span lines. Due dates
+ * are read as dd-MM-yyyy, like the JSON API, or as ISO yyyy-MM-dd, like the export.
+ * The flags are true or false in any case, and false when left empty.
+ */
+class CsvTaskImportReader implements TaskImportReader {
+
+  private static final DateTimeFormatter API_DATE = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+  private final BufferedReader reader;
+  private final StringBuilder field = new StringBuilder();
+  private long lineNumber;
+  private long recordLine;
+  private int recordLength;
+
+  private int titleColumn = -1;
+  private int descriptionColumn = -1;
+  private int dueDateColumn = -1;
+  private int urgentColumn = -1;
+  private int importantColumn = -1;
+
+  CsvTaskImportReader(BufferedReader reader) throws IOException {
+    this.reader = reader;
+    readHeader();
+  }
+
+  @Override
+  public TaskImportRecord next() throws IOException {
+    List<String> fields;
+    do {
+      fields = readRecord();
+      if (fields == null) {
+        return null;
+      }
+    } while (fields.size() == 1 && fields.get(0).isBlank());
+
+    String urgent = column(fields, urgentColumn);
+    String important = column(fields, importantColumn);
+    if (!isFlag(urgent)) {
+      return TaskImportRecord.malformed(recordLine, "Valor inválido para isUrgent: " + urgent.trim());
+    }
+    if (!isFlag(important)) {
+      return TaskImportRecord.malformed(recordLine, "Valor inválido para isImportant: " + important.trim());
+    }
+
+    try {
+      return TaskImportRecord.parsed(recordLine, new CreateTaskDTO(
+          column(fields, titleColumn),
+          column(fields, descriptionColumn),
+          parseDate(column(fields, dueDateColumn)),
+          isTrue(urgent),
+          isTrue(important)));
+    } catch (DateTimeParseException e) {
+      return TaskImportRecord.malformed(recordLine, "Data de término inválida: " + e.getParsedString());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private void readHeader() throws IOException {
+    List<String> header = readRecord();
+    if (header == null) {
+      throw new BadRequestException("O arquivo CSV deve começar com uma linha de cabeçalho");
+    }
+
+    for (int i = 0; i < header.size(); i++) {
+      switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+        case "title" -> titleColumn = i;
+        case "description" -> descriptionColumn = i;
+        case "duedate" -> dueDateColumn = i;
+        case "isurgent" -> urgentColumn = i;
+        case "isimportant" -> importantColumn = i;
+        default -> {
+          // Extra columns, such as the ones written by the export, are ignored
+        }
+      }
+    }
+
+    if (titleColumn < 0 || descriptionColumn < 0 || dueDateColumn < 0) {
+      throw new BadRequestException("O cabeçalho CSV deve conter as colunas title, description e dueDate");
+    }
+  }
+
+  /**
+   * Reads the fields of the next record, or returns null at the end of the input.
+   */
+  private List<String> readRecord() throws IOException {
+    int c = reader.read();
+    if (c == -1) {
+      return null;
+    }
+
+    recordLine = ++lineNumber;
+    recordLength = 0;
+
+    List<String> fields = new ArrayList<>();
+    field.setLength(0);
+    boolean quoted = false;
+
+    while (c != -1) {
+      if (quoted) {
+        if (c == '"') {
+          reader.mark(1);
+          if (reader.read() == '"') {
+            append('"');
+          } else {
+            reader.reset();
+            quoted = false;
+          }
+        } else {
+          if (c == '\n') {
+            lineNumber++;
+          }
+          append((char) c);
+        }
+      } else if (c == '"' && field.length() == 0) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n') {
+        break;
+      } else if (c != '\r') {
+        append((char) c);
+      }
+
+      c = reader.read();
+    }
+
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private void append(char c) {
+    if (++recordLength > MAX_RECORD_LENGTH) {
+      throw new BadRequestException("O registro da linha " + recordLine + " excede o tamanho máximo de "
+          + MAX_RECORD_LENGTH + " caracteres");
+    }
+    field.append(c);
+  }
+
+  private static String column(List<String> fields, int index) {
+    return index >= 0 && index < fields.size() ? fields.get(index) : null;
+  }
+
+  /**
+   * Whether the value is a flag: true, false or empty. Anything else is a typo that
+   * would otherwise be imported as false.
+   */
+  private static boolean isFlag(String value) {
+    return value == null
+        || value.isBlank()
+        || "true".equalsIgnoreCase(value.trim())
+        || "false".equalsIgnoreCase(value.trim());
+  }
+
+  private static boolean isTrue(String value) {
+    return value != null && "true".equalsIgnoreCase(value.trim());
+  }
+
+  private static LocalDate parseDate(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+
+    String trimmed = value.trim();
+    return trimmed.indexOf('-') == 4 ? LocalDate.parse(trimmed) : LocalDate.parse(trimmed, API_DATE);
+  }
+}
@@ -0,0 +1,71 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BadRequestException;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
+
+/**
+ * One JSON object per line, with the same fields as POST /v1/tasks. Blank lines are skipped.
+ */
+class NdjsonTaskImportReader implements TaskImportReader {
+
+  private final BufferedReader reader;
+  private final ObjectMapper objectMapper;
+  private final StringBuilder buffer = new StringBuilder();
+  private long lineNumber;
+
+  NdjsonTaskImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+    this.reader = reader;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public TaskImportRecord next() throws IOException {
+    String line;
+    do {
+      line = readLine();
+      if (line == null) {
+        return null;
+      }
+    } while (line.isBlank());
+
+    try {
+      return TaskImportRecord.parsed(lineNumber, objectMapper.readValue(line, CreateTaskDTO.class));
+    } catch (JsonProcessingException e) {
+      return TaskImportRecord.malformed(lineNumber, "JSON inválido: " + e.getOriginalMessage());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private String readLine() throws IOException {
+    buffer.setLength(0);
+
+    int c = reader.read();
+    if (c == -1) {
+      return null;
+    }
+
+    lineNumber++;
+    while (c != -1 && c != '\n') {
+      if (c != '\r') {
+        buffer.append((char) c);
+      }
+
+      if (buffer.length() > MAX_RECORD_LENGTH) {
+        throw new BadRequestException("A linha " + lineNumber + " excede o tamanho máximo de "
+            + MAX_RECORD_LENGTH + " caracteres");
+      }
+      c = reader.read();
+    }
+
+    return buffer.toString();
+  }
+}
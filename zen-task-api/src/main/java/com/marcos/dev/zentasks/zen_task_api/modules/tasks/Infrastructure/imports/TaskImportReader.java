@@ -0,0 +1,38 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.imports;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFileFormat;
+
+/**
+ * Reads an import file one record at a time, so only the record being parsed is
+ * held in memory.
+ */
+public interface TaskImportReader extends Closeable {
+
+  /**
+   * Longest record accepted, in characters. Guards the parser against a file
+   * without line breaks or with an unterminated quote.
+   */
+  int MAX_RECORD_LENGTH = 64 * 1024;
+
+  /**
+   * @return the next record, or null at the end of the input
+   */
+  TaskImportRecord next() throws IOException;
+
+  static TaskImportReader open(InputStream input, TaskFileFormat format, ObjectMapper objectMapper) throws IOException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+    return switch (format) {
+      case NDJSON -> new NdjsonTaskImportReader(reader, objectMapper);
+      case CSV -> new CsvTaskImportReader(reader);
+    };
+  }
+}
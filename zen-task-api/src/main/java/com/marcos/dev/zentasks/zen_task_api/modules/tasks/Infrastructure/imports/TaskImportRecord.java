@@ -0,0 +1,22 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.imports;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
+
+/**
+ * One record read from an import file. {@code line} is the line the record starts
+ * on; {@code task} is null when the record could not be parsed, and {@code error}
+ * says why.
+ */
+public record TaskImportRecord(
+    long line,
+    CreateTaskDTO task,
+    String error) {
+
+  public static TaskImportRecord parsed(long line, CreateTaskDTO task) {
+    return new TaskImportRecord(line, task, null);
+  }
+
+  public static TaskImportRecord malformed(long line, String error) {
+    return new TaskImportRecord(line, null, error);
+  }
+}
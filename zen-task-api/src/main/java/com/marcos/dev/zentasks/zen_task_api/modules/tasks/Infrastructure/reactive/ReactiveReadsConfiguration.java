@@ -0,0 +1,46 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.reactive;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * The R2DBC pool the reactive task reads run on. A connection is only held while a
+ * statement's rows are being read, and no thread waits for it meanwhile.
+ */
+@Configuration
+@Profile("reactive-reads")
+@EnableConfigurationProperties(ReactiveReadsProperties.class)
+public class ReactiveReadsConfiguration {
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionPool reactiveReadsConnectionPool(ReactiveReadsProperties properties) {
+    ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.url()).mutate();
+    if (properties.username() != null) {
+      options.option(ConnectionFactoryOptions.USER, properties.username());
+    }
+    if (properties.password() != null) {
+      options.option(ConnectionFactoryOptions.PASSWORD, properties.password());
+    }
+
+    return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+        .name("reactive-reads")
+        // Kept full like the Hikari pool, whose minimum-idle defaults to its maximum size
+        .initialSize(properties.maxPoolSize())
+        .maxSize(properties.maxPoolSize())
+        .maxAcquireTime(properties.maxAcquireTime())
+        .build());
+  }
+
+  @Bean
+  public DatabaseClient reactiveReadsDatabaseClient(ConnectionPool reactiveReadsConnectionPool) {
+    return DatabaseClient.create(reactiveReadsConnectionPool);
+  }
+}
@@ -0,0 +1,30 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.reactive;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the R2DBC connection behind the reactive-reads profile, under
+ * {@code api.tasks.reactive-reads}. Writes keep using {@code spring.datasource}.
+ *
+ * <p>The url must name the primary, the database {@code spring.datasource.url}
+ * writes to. The pool sits outside ReplicaRoutingDataSource: it never reads from
+ * the replicas of {@code api.datasource.replicas}, so it takes no load off the
+ * primary, and it always sees this node's writes. Pointing it at a replica would
+ * bypass the read-your-writes window and serve listings older than the ETag. Only
+ * the archive segments merged into a listing are read through JPA, and may come
+ * from a replica.
+ *
+ * @param prefetch rows requested from the driver at a time while a listing is read
+ */
+@ConfigurationProperties(prefix = "api.tasks.reactive-reads")
+public record ReactiveReadsProperties(
+    String url,
+    String username,
+    String password,
+    @DefaultValue("20") int maxPoolSize,
+    @DefaultValue("5s") Duration maxAcquireTime,
+    @DefaultValue("256") int prefetch) {
+}
@@ -0,0 +1,168 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.reactive;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskCursor;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.DashboardTaskRow;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The R2DBC counterparts of the listing, dashboard and weekly queries of
+ * TaskRepository, and of the change version lookup, returning the same rows. Rows are requested from the driver
+ * {@code prefetch} at a time, so a slow consumer holds back the fetching instead of
+ * having the whole result buffered.
+ */
+@Repository
+@Profile("reactive-reads")
+public class ReactiveTaskReadRepository {
+
+  private static final String TASK_COLUMNS =
+      "id, title, description, due_date, task_status, quadrant, is_completed";
+
+  private final DatabaseClient databaseClient;
+  private final int prefetch;
+
+  public ReactiveTaskReadRepository(DatabaseClient reactiveReadsDatabaseClient, ReactiveReadsProperties properties) {
+    this.databaseClient = reactiveReadsDatabaseClient;
+    this.prefetch = properties.prefetch();
+  }
+
+  /**
+   * Same criteria as {@code TaskRepository.Specifications.builder().forUserId(userId).matching(filter)},
+   * in (due_date, id) order after the cursor, if any.
+   */
+  public Flux<TaskResponseDTO> findResponses(UUID userId, TaskFilterDTO filter, TaskCursor after, int limit) {
+    StringBuilder sql = new StringBuilder("SELECT " + TASK_COLUMNS + " FROM tb_tasks WHERE user_id = :userId");
+    Map<String, Object> binds = new HashMap<>();
+    binds.put("userId", userId);
+
+    if (filter.status() != null) {
+      sql.append(" AND task_status = :status");
+      binds.put("status", filter.status().name());
+    }
+
+    if (filter.quadrant() != null) {
+      sql.append(" AND quadrant = :quadrant");
+      binds.put("quadrant", filter.quadrant().name());
+    }
+
+    if (filter.isComplete() != null) {
+      sql.append(" AND is_completed = :completed");
+      binds.put("completed", filter.isComplete());
+    }
+
+    // As in the JPA listing, the due date range only counts when both bounds are given
+    if (filter.fromDate() != null && filter.toDate() != null) {
+      sql.append(" AND due_date BETWEEN :fromDate AND :toDate");
+      binds.put("fromDate", filter.fromDate());
+      binds.put("toDate", filter.toDate());
+    }
+
+    if (after != null) {
+      sql.append(" AND (due_date > :afterDueDate OR (due_date = :afterDueDate AND id > :afterId))");
+      binds.put("afterDueDate", after.dueDate());
+      binds.put("afterId", after.id());
+    }
+
+    sql.append(" ORDER BY due_date, id LIMIT :limit");
+    binds.put("limit", limit);
+
+    return databaseClient.sql(sql.toString())
+        .bindValues(binds)
+        .filter(statement -> statement.fetchSize(prefetch))
+        .map(ReactiveTaskReadRepository::toResponse)
+        .all()
+        .limitRate(prefetch);
+  }
+
+  /**
+   * Same rows as {@code TaskRepository.findDashboardRows}.
+   */
+  public Flux<DashboardTaskRow> findDashboardRows(UUID userId, LocalDate today, Quadrant doNow) {
+    return databaseClient.sql("""
+            SELECT id, title, description, due_date, task_status, quadrant, is_completed,
+                   CASE WHEN due_date < :today THEN TRUE ELSE FALSE END AS overdue,
+                   CASE WHEN due_date = :today THEN TRUE ELSE FALSE END AS due_today,
+                   CASE WHEN quadrant = :doNow THEN TRUE ELSE FALSE END AS do_now
+            FROM tb_tasks
+            WHERE user_id = :userId
+              AND is_completed = FALSE
+              AND (due_date <= :today OR quadrant = :doNow)
+            ORDER BY due_date, id
+            """)
+        .bind("userId", userId)
+        .bind("today", today)
+        .bind("doNow", doNow.name())
+        .filter(statement -> statement.fetchSize(prefetch))
+        .map(row -> new DashboardTaskRow(
+            row.get("id", Long.class),
+            row.get("title", String.class),
+            row.get("description", String.class),
+            row.get("due_date", LocalDate.class),
+            TaskStatus.valueOf(row.get("task_status", String.class)),
+            Quadrant.valueOf(row.get("quadrant", String.class)),
+            Boolean.TRUE.equals(row.get("is_completed", Boolean.class)),
+            Boolean.TRUE.equals(row.get("overdue", Boolean.class)),
+            Boolean.TRUE.equals(row.get("due_today", Boolean.class)),
+            Boolean.TRUE.equals(row.get("do_now", Boolean.class))))
+        .all()
+        .limitRate(prefetch);
+  }
+
+  /**
+   * The owner's tasks due between both dates, inclusive, in (due_date, id) order.
+   */
+  public Flux<TaskResponseDTO> findDueBetween(UUID userId, LocalDate from, LocalDate to) {
+    return databaseClient.sql("""
+            SELECT id, title, description, due_date, task_status, quadrant, is_completed
+            FROM tb_tasks
+            WHERE user_id = :userId
+              AND due_date BETWEEN :fromDate AND :toDate
+            ORDER BY due_date, id
+            """)
+        .bind("userId", userId)
+        .bind("fromDate", from)
+        .bind("toDate", to)
+        .filter(statement -> statement.fetchSize(prefetch))
+        .map(ReactiveTaskReadRepository::toResponse)
+        .all()
+        .limitRate(prefetch);
+  }
+
+  /**
+   * Same value as {@code TaskChangeVersionRepository.findChangeVersion}; 0 until the
+   * user's first write.
+   */
+  public Mono<Long> findChangeVersion(UUID userId) {
+    return databaseClient.sql("SELECT change_version FROM tb_task_changes WHERE user_id = :userId")
+        .bind("userId", userId)
+        .map(row -> row.get("change_version", Long.class))
+        .one()
+        .defaultIfEmpty(0L);
+  }
+
+  private static TaskResponseDTO toResponse(Readable row) {
+    return new TaskResponseDTO(
+        row.get("id", Long.class),
+        row.get("title", String.class),
+        row.get("description", String.class),
+        row.get("due_date", LocalDate.class),
+        TaskStatus.valueOf(row.get("task_status", String.class)),
+        Quadrant.valueOf(row.get("quadrant", String.class)),
+        Boolean.TRUE.equals(row.get("is_completed", Boolean.class)));
+  }
+}
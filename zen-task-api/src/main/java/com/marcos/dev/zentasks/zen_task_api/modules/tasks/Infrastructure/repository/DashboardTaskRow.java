@@ -0,0 +1,24 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.time.LocalDate;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+
+/**
+ * Read-only row returned by the dashboard query.
+ * Besides the task columns, each row carries the dashboard buckets it belongs to,
+ * so a task that is both overdue and DO_NOW is fetched only once.
+ */
+public record DashboardTaskRow(
+    Long id,
+    String title,
+    String description,
+    LocalDate dueDate,
+    TaskStatus taskStatus,
+    Quadrant quadrant,
+    boolean isCompleted,
+    boolean overdue,
+    boolean dueToday,
+    boolean doNow) {
+}
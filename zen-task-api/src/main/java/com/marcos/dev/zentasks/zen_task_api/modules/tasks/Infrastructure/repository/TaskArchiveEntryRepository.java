@@ -0,0 +1,15 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskArchiveEntry;
+
+@Repository
+public interface TaskArchiveEntryRepository extends JpaRepository<TaskArchiveEntry, Long> {
+
+  Optional<TaskArchiveEntry> findByTaskIdAndUserId(Long taskId, UUID userId);
+}
@@ -0,0 +1,65 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskArchiveSegment;
+
+@Repository
+public interface TaskArchiveSegmentRepository extends JpaRepository<TaskArchiveSegment, Long> {
+
+  /**
+   * Segments of the user whose due date range overlaps [from, to], in due date order.
+   */
+  @Query("""
+      SELECT s FROM TaskArchiveSegment s
+      WHERE s.userId = :userId
+        AND s.maxDueDate >= :from
+        AND s.minDueDate <= :to
+      ORDER BY s.minDueDate, s.id
+      """)
+  List<TaskArchiveSegment> findOverlapping(
+      @Param("userId") UUID userId,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  /**
+   * Payloads of the same segments as {@link #findOverlapping}, read one row per
+   * round trip. Selecting only the column keeps the segments out of the
+   * persistence context, so a long export does not accumulate them.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1"))
+  @Query("""
+      SELECT s.payload FROM TaskArchiveSegment s
+      WHERE s.userId = :userId
+        AND s.maxDueDate >= :from
+        AND s.minDueDate <= :to
+      ORDER BY s.minDueDate, s.id
+      """)
+  Stream<byte[]> streamOverlappingPayloads(
+      @Param("userId") UUID userId,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  /**
+   * Locks the segment so a task can be taken out of it without losing a concurrent change.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM TaskArchiveSegment s WHERE s.id = :id")
+  Optional<TaskArchiveSegment> lockById(@Param("id") Long id);
+}
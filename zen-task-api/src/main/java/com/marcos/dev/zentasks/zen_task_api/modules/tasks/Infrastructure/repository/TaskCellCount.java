@@ -0,0 +1,18 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskCounter;
+
+/**
+ * Number of tasks in one quadrant and status, counted from tb_tasks or read from tb_task_counters.
+ */
+public record TaskCellCount(
+    Quadrant quadrant,
+    TaskStatus status,
+    Long count) {
+
+  public TaskCounter.Cell cell() {
+    return new TaskCounter.Cell(quadrant, status);
+  }
+}
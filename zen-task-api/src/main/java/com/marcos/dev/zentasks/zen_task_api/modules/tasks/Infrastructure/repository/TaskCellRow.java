@@ -0,0 +1,27 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskCounter;
+
+/**
+ * Quadrant and status a task is counted under in tb_task_counters, and its version.
+ */
+public record TaskCellRow(
+    Long id,
+    Quadrant quadrant,
+    TaskStatus status,
+    Long version) {
+
+  public TaskCounter.Cell cell() {
+    return new TaskCounter.Cell(quadrant, status);
+  }
+
+  public TaskCellRow withQuadrant(Quadrant newQuadrant) {
+    return new TaskCellRow(id, newQuadrant, status, version);
+  }
+
+  public TaskCellRow withStatus(TaskStatus newStatus) {
+    return new TaskCellRow(id, quadrant, newStatus, version);
+  }
+}
@@ -0,0 +1,23 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskChangeVersion;
+
+@Repository
+public interface TaskChangeVersionRepository
+    extends JpaRepository<TaskChangeVersion, UUID>, TaskChangeVersionRepositoryCustom {
+
+  /**
+   * Reads the version as a value: it is bumped by a native statement, so a managed
+   * TaskChangeVersion could be stale.
+   */
+  @Query("SELECT c.changeVersion FROM TaskChangeVersion c WHERE c.userId = :userId")
+  Optional<Long> findChangeVersion(@Param("userId") UUID userId);
+}
@@ -0,0 +1,15 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.UUID;
+
+/**
+ * Native upsert of the task change versions, which JPQL cannot express.
+ */
+public interface TaskChangeVersionRepositoryCustom {
+
+  /**
+   * Moves the user's change version one step, creating it on the first write, in
+   * one statement.
+   */
+  void bump(UUID userId);
+}
@@ -0,0 +1,57 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.UUID;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskChangeVersion;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+public class TaskChangeVersionRepositoryCustomImpl implements TaskChangeVersionRepositoryCustom {
+
+  // ON CONFLICT also covers two transactions creating the same row at once,
+  // which a MERGE on Postgres would turn into a unique violation
+  private static final String POSTGRES_UPSERT = """
+      INSERT INTO tb_task_changes (user_id, change_version)
+      VALUES (CAST(:userId AS UUID), 1)
+      ON CONFLICT (user_id)
+      DO UPDATE SET change_version = tb_task_changes.change_version + 1
+      """;
+
+  private static final String STANDARD_MERGE = """
+      MERGE INTO tb_task_changes c
+      USING (SELECT CAST(:userId AS UUID) AS user_id) d
+      ON c.user_id = d.user_id
+      WHEN MATCHED THEN UPDATE SET change_version = c.change_version + 1
+      WHEN NOT MATCHED THEN INSERT (user_id, change_version) VALUES (d.user_id, 1)
+      """;
+
+  private final EntityManager entityManager;
+  private volatile Boolean postgres;
+
+  public TaskChangeVersionRepositoryCustomImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public void bump(UUID userId) {
+    Query query = entityManager.createNativeQuery(isPostgres() ? POSTGRES_UPSERT : STANDARD_MERGE);
+    query.unwrap(NativeQuery.class).addSynchronizedEntityClass(TaskChangeVersion.class);
+    query.setParameter("userId", userId);
+    query.executeUpdate();
+  }
+
+  private boolean isPostgres() {
+    if (postgres == null) {
+      postgres = entityManager.getEntityManagerFactory()
+          .unwrap(SessionFactoryImplementor.class)
+          .getJdbcServices()
+          .getDialect() instanceof PostgreSQLDialect;
+    }
+    return postgres;
+  }
+}
@@ -0,0 +1,42 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskCounter;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface TaskCounterRepository
+    extends JpaRepository<TaskCounter, TaskCounter.Key>, TaskCounterRepositoryCustom {
+
+  /**
+   * Reads the counts as values: the counters are updated by native statements,
+   * so managed TaskCounter instances could be stale.
+   */
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskCellCount(
+          c.quadrant, c.status, c.taskCount)
+      FROM TaskCounter c
+      WHERE c.userId = :userId
+      """)
+  List<TaskCellCount> findCountsByUserId(@Param("userId") UUID userId);
+
+  /**
+   * Locks the user's counters until the transaction ends, so no write can adjust
+   * them while they are being recounted.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM TaskCounter c WHERE c.userId = :userId")
+  List<TaskCounter> lockByUserId(@Param("userId") UUID userId);
+
+  @Query("SELECT DISTINCT c.userId FROM TaskCounter c WHERE c.taskCount <> 0")
+  List<UUID> findUserIdsWithCounts();
+}
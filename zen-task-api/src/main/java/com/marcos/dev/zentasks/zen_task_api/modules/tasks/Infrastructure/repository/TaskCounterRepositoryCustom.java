@@ -0,0 +1,18 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskCounter;
+
+/**
+ * Native upsert of the task counters, which JPQL cannot express.
+ */
+public interface TaskCounterRepositoryCustom {
+
+  /**
+   * Adds each delta to the user's counter for its cell, creating the missing
+   * counters, in one statement.
+   */
+  void applyDeltas(UUID userId, Map<TaskCounter.Cell, Long> deltas);
+}
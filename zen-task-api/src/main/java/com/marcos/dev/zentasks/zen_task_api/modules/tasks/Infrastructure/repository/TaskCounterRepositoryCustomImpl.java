@@ -0,0 +1,105 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskCounter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+public class TaskCounterRepositoryCustomImpl implements TaskCounterRepositoryCustom {
+
+  // Cells are always written in the same order, so two transactions adjusting
+  // the same user's counters cannot deadlock on them
+  private static final Comparator<TaskCounter.Cell> CELL_ORDER = Comparator
+      .comparing(TaskCounter.Cell::quadrant)
+      .thenComparing(TaskCounter.Cell::status);
+
+  // ON CONFLICT also covers two transactions creating the same counter at once,
+  // which a MERGE on Postgres would turn into a unique violation
+  private static final String POSTGRES_UPSERT = """
+      INSERT INTO tb_task_counters (user_id, quadrant, task_status, task_count)
+      VALUES %s
+      ON CONFLICT (user_id, quadrant, task_status)
+      DO UPDATE SET task_count = tb_task_counters.task_count + EXCLUDED.task_count
+      """;
+
+  private static final String POSTGRES_ROW =
+      "(CAST(:userId AS UUID), CAST(:quadrant%1$d AS VARCHAR(20)), CAST(:status%1$d AS VARCHAR(20)), CAST(:delta%1$d AS BIGINT))";
+
+  private static final String STANDARD_MERGE = """
+      MERGE INTO tb_task_counters c
+      USING (%s) d
+      ON c.user_id = d.user_id AND c.quadrant = d.quadrant AND c.task_status = d.task_status
+      WHEN MATCHED THEN UPDATE SET task_count = c.task_count + d.delta
+      WHEN NOT MATCHED THEN INSERT (user_id, quadrant, task_status, task_count)
+          VALUES (d.user_id, d.quadrant, d.task_status, d.delta)
+      """;
+
+  private static final String STANDARD_ROW =
+      "SELECT CAST(:userId AS UUID) AS user_id, CAST(:quadrant%1$d AS VARCHAR(20)) AS quadrant,"
+          + " CAST(:status%1$d AS VARCHAR(20)) AS task_status, CAST(:delta%1$d AS BIGINT) AS delta";
+
+  private final EntityManager entityManager;
+  private volatile Boolean postgres;
+
+  public TaskCounterRepositoryCustomImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public void applyDeltas(UUID userId, Map<TaskCounter.Cell, Long> deltas) {
+    List<Map.Entry<TaskCounter.Cell, Long>> changes = deltas.entrySet().stream()
+        .filter(entry -> entry.getValue() != 0)
+        .sorted(Map.Entry.comparingByKey(CELL_ORDER))
+        .toList();
+
+    if (changes.isEmpty()) {
+      return;
+    }
+
+    Query query = entityManager.createNativeQuery(upsertSql(changes.size()));
+    query.unwrap(NativeQuery.class).addSynchronizedEntityClass(TaskCounter.class);
+    query.setParameter("userId", userId);
+
+    for (int i = 0; i < changes.size(); i++) {
+      TaskCounter.Cell cell = changes.get(i).getKey();
+      query.setParameter("quadrant" + i, cell.quadrant().name());
+      query.setParameter("status" + i, cell.status().name());
+      query.setParameter("delta" + i, changes.get(i).getValue());
+    }
+
+    query.executeUpdate();
+  }
+
+  private String upsertSql(int cells) {
+    boolean onPostgres = isPostgres();
+
+    List<String> rows = new ArrayList<>(cells);
+    for (int i = 0; i < cells; i++) {
+      rows.add((onPostgres ? POSTGRES_ROW : STANDARD_ROW).formatted(i));
+    }
+
+    return onPostgres
+        ? POSTGRES_UPSERT.formatted(String.join(", ", rows))
+        : STANDARD_MERGE.formatted(String.join(" UNION ALL ", rows));
+  }
+
+  private boolean isPostgres() {
+    if (postgres == null) {
+      postgres = entityManager.getEntityManagerFactory()
+          .unwrap(SessionFactoryImplementor.class)
+          .getJdbcServices()
+          .getDialect() instanceof PostgreSQLDialect;
+    }
+    return postgres;
+  }
+}
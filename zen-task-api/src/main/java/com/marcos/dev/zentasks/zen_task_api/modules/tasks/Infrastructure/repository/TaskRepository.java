@@ -1,25 +1,35 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
 
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BusinessRuleException;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<TaskModel, Long>, JpaSpecificationExecutor<TaskModel> {
+public interface TaskRepository
+    extends JpaRepository<TaskModel, Long>, JpaSpecificationExecutor<TaskModel>, TaskRepositoryCustom {
 
   /**
    * Specifications builder para consultas dinâmicas de tarefas
@@ -34,6 +44,7 @@ public interface TaskRepository extends JpaRepository<TaskModel, Long>, JpaSpeci
 
     public static class SpecificationBuilder {
       private UserModel user;
+      private UUID userId;
       private TaskStatus status;
       private Quadrant quadrant;
       private Boolean completed;
@@ -41,6 +52,8 @@ public interface TaskRepository extends JpaRepository<TaskModel, Long>, JpaSpeci
       private LocalDate dueDateTo;
       private Boolean urgent;
       private Boolean important;
+      private LocalDate afterDueDate;
+      private Long afterId;
 
       private SpecificationBuilder() {
       }
@@ -53,6 +66,14 @@ public interface TaskRepository extends JpaRepository<TaskModel, Long>, JpaSpeci
         return this;
       }
 
+      public SpecificationBuilder forUserId(UUID userId) {
+        if (userId == null) {
+          throw new BusinessRuleException("O usuário não pode ser nulo");
+        }
+        this.userId = userId;
+        return this;
+      }
+
       public SpecificationBuilder withStatus(TaskStatus status) {
         this.status = status;
         return this;
@@ -84,6 +105,32 @@ public interface TaskRepository extends JpaRepository<TaskModel, Long>, JpaSpeci
         return this;
       }
 
+      /**
+       * Applies the criteria of a listing filter. The due date range only
+       * counts when both bounds are given.
+       */
+      public SpecificationBuilder matching(TaskFilterDTO filter) {
+        this.quadrant = filter.quadrant();
+        this.status = filter.status();
+        this.completed = filter.isComplete();
+
+        if (filter.fromDate() != null && filter.toDate() != null) {
+          dueDateBetween(filter.fromDate(), filter.toDate());
+        }
+        return this;
+      }
+
+      /**
+       * Restricts the results to tasks positioned after the given keyset
+       * (due_date, id), so that pages are fetched with an index range seek
+       * instead of OFFSET.
+       */
+      public SpecificationBuilder after(LocalDate dueDate, Long id) {
+        this.afterDueDate = dueDate;
+        this.afterId = id;
+        return this;
+      }
+
       public Specification<TaskModel> build() {
         return (root, query, cb) -> {
           List<Predicate> predicates = new ArrayList<>();
@@ -92,6 +139,10 @@ public interface TaskRepository extends JpaRepository<TaskModel, Long>, JpaSpeci
             predicates.add(cb.equal(root.get("user"), user));
           }
 
+          if (userId != null) {
+            predicates.add(cb.equal(root.get("user").get("id"), userId));
+          }
+
           if (status != null) {
             predicates.add(cb.equal(root.get("status"), status));
           }
@@ -120,6 +171,14 @@ public interface TaskRepository extends JpaRepository<TaskModel, Long>, JpaSpeci
             predicates.add(cb.equal(root.get("isImportant"), important));
           }
 
+          if (afterDueDate != null && afterId != null) {
+            predicates.add(cb.or(
+                cb.greaterThan(root.get("dueDate"), afterDueDate),
+                cb.and(
+                    cb.equal(root.get("dueDate"), afterDueDate),
+                    cb.greaterThan(root.get("id"), afterId))));
+          }
+
           return cb.and(predicates.toArray(new Predicate[0]));
         };
       }
@@ -130,12 +189,238 @@ public interface TaskRepository extends JpaRepository<TaskModel, Long>, JpaSpeci
 
   Optional<TaskModel> findByIdAndUser(Long id, UserModel user);
 
+  Optional<TaskModel> findByIdAndUserId(Long id, UUID userId);
+
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskTitleRow(t.id, t.title)
+      FROM TaskModel t
+      WHERE t.user.id = :userId
+      """)
+  List<TaskTitleRow> findTitlesByUserId(@Param("userId") UUID userId);
+
+  /**
+   * Locks the owner's tasks with the given ids and reads the quadrant and status they
+   * are counted under, so the counters can be adjusted after a bulk statement changes them,
+   * along with the version a conditional request is checked against.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskCellRow(
+          t.id, t.quadrant, t.status, t.version)
+      FROM TaskModel t
+      WHERE t.id IN :ids
+        AND t.user.id = :userId
+      ORDER BY t.id
+      """)
+  List<TaskCellRow> lockCells(@Param("ids") Collection<Long> ids, @Param("userId") UUID userId);
+
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskCellRow(
+          t.id, t.quadrant, t.status, t.version)
+      FROM TaskModel t
+      WHERE t.id IN :ids
+        AND t.user.id = :userId
+      ORDER BY t.id
+      """)
+  List<TaskCellRow> findCells(@Param("ids") Collection<Long> ids, @Param("userId") UUID userId);
+
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskCellCount(
+          t.quadrant, t.status, COUNT(t))
+      FROM TaskModel t
+      WHERE t.user.id = :userId
+      GROUP BY t.quadrant, t.status
+      """)
+  List<TaskCellCount> countCellsByUserId(@Param("userId") UUID userId);
+
+  @Query("SELECT DISTINCT t.user.id FROM TaskModel t")
+  List<UUID> findUserIdsWithTasks();
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM TaskModel t WHERE t.id = :id AND t.user.id = :userId")
+  int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") UUID userId);
+
+  /**
+   * Applies new details to one of the owner's tasks in a single statement,
+   * unless the task is completed or locked, or is no longer at the expected
+   * version. A null expected version skips the version check.
+   *
+   * @return 1 when the task was updated, 0 otherwise
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      UPDATE TaskModel t
+      SET t.title = :title, t.description = :description, t.dueDate = :dueDate,
+          t.version = t.version + 1
+      WHERE t.id = :id
+        AND t.user.id = :userId
+        AND t.isCompleted = false
+        AND t.status NOT IN :lockedStatuses
+        AND (:expectedVersion IS NULL OR t.version = :expectedVersion)
+      """)
+  int updateDetails(
+      @Param("id") Long id,
+      @Param("userId") UUID userId,
+      @Param("title") String title,
+      @Param("description") String description,
+      @Param("dueDate") LocalDate dueDate,
+      @Param("lockedStatuses") Collection<TaskStatus> lockedStatuses,
+      @Param("expectedVersion") Long expectedVersion);
+
   Optional<TaskModel> findById(Long taskId);
 
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO(
+          t.id, t.title, t.description, t.dueDate, t.status, t.quadrant, t.isCompleted, t.version)
+      FROM TaskModel t
+      WHERE t.id = :id AND t.user.id = :userId
+      """)
+  Optional<TaskResponseDTO> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") UUID userId);
+
   @Query("SELECT t FROM TaskModel t WHERE t.user = :user AND t.quadrant = :quadrant")
   List<TaskModel> findByUserAndQuadrant(@Param("user") UserModel user, @Param("quadrant") Quadrant quadrant);
 
   @Query("SELECT COUNT(t) FROM TaskModel t WHERE t.user = :user AND t.isCompleted = false")
   long countIncompleteTasksByUser(@Param("user") UserModel user);
 
+  /**
+   * Loads every incomplete task that belongs to at least one dashboard bucket
+   * (overdue, due today or DO_NOW) in a single statement, tagging each row
+   * with the buckets it matches.
+   */
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.DashboardTaskRow(
+          t.id, t.title, t.description, t.dueDate, t.status, t.quadrant, t.isCompleted,
+          CASE WHEN t.dueDate < :today THEN true ELSE false END,
+          CASE WHEN t.dueDate = :today THEN true ELSE false END,
+          CASE WHEN t.quadrant = :doNow THEN true ELSE false END)
+      FROM TaskModel t
+      WHERE t.user.id = :userId
+        AND t.isCompleted = false
+        AND (t.dueDate <= :today OR t.quadrant = :doNow)
+      ORDER BY t.dueDate, t.id
+      """)
+  List<DashboardTaskRow> findDashboardRows(
+      @Param("userId") UUID userId,
+      @Param("today") LocalDate today,
+      @Param("doNow") Quadrant doNow);
+
+  /**
+   * Moves the owner's tasks with the given ids to a quadrant in one statement.
+   * Completed and locked tasks, and tasks already in the target quadrant, are left untouched.
+   *
+   * @return the number of tasks actually moved
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      UPDATE TaskModel t
+      SET t.quadrant = :quadrant, t.isUrgent = :urgent, t.isImportant = :important,
+          t.version = t.version + 1
+      WHERE t.id IN :ids
+        AND t.user.id = :userId
+        AND t.isCompleted = false
+        AND t.status NOT IN :lockedStatuses
+        AND t.quadrant <> :quadrant
+      """)
+  int moveToQuadrant(
+      @Param("ids") Collection<Long> ids,
+      @Param("userId") UUID userId,
+      @Param("quadrant") Quadrant quadrant,
+      @Param("urgent") boolean urgent,
+      @Param("important") boolean important,
+      @Param("lockedStatuses") Collection<TaskStatus> lockedStatuses);
+
+  /**
+   * Changes the status of the owner's tasks with the given ids in one statement,
+   * skipping locked tasks, as {@link TaskModel#updateStatus(TaskStatus)} does.
+   * Only for statuses other than DONE, CLOSED and CANCELED: a task moved back
+   * from DONE is reopened, so its completion is cleared.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      UPDATE TaskModel t
+      SET t.status = :status,
+          t.isCompleted = false,
+          t.completedAt = NULL,
+          t.version = t.version + 1
+      WHERE t.id IN :ids
+        AND t.user.id = :userId
+        AND t.status NOT IN :lockedStatuses
+      """)
+  int updateStatus(
+      @Param("ids") Collection<Long> ids,
+      @Param("userId") UUID userId,
+      @Param("status") TaskStatus status,
+      @Param("lockedStatuses") Collection<TaskStatus> lockedStatuses);
+
+  /**
+   * Same as {@link #updateStatus} for CLOSED and CANCELED, which also stamp when the task was finished.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      UPDATE TaskModel t
+      SET t.status = :status,
+          t.completedAt = COALESCE(t.completedAt, :closedAt),
+          t.version = t.version + 1
+      WHERE t.id IN :ids
+        AND t.user.id = :userId
+        AND t.status NOT IN :lockedStatuses
+      """)
+  int close(
+      @Param("ids") Collection<Long> ids,
+      @Param("userId") UUID userId,
+      @Param("status") TaskStatus status,
+      @Param("closedAt") LocalDateTime closedAt,
+      @Param("lockedStatuses") Collection<TaskStatus> lockedStatuses);
+
+  /**
+   * Same as {@link #updateStatus} for {@link TaskStatus#DONE}, which also completes the tasks.
+   * Tasks already completed are left alone, so their completion time is kept
+   * and they are not counted as updated.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      UPDATE TaskModel t
+      SET t.status = com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus.DONE,
+          t.isCompleted = true,
+          t.completedAt = :completedAt,
+          t.version = t.version + 1
+      WHERE t.id IN :ids
+        AND t.user.id = :userId
+        AND t.status NOT IN :lockedStatuses
+        AND t.isCompleted = false
+      """)
+  int markAsDone(
+      @Param("ids") Collection<Long> ids,
+      @Param("userId") UUID userId,
+      @Param("completedAt") LocalDateTime completedAt,
+      @Param("lockedStatuses") Collection<TaskStatus> lockedStatuses);
+
+  /**
+   * Owners of finished tasks (completed, closed or canceled) older than the cutoff.
+   */
+  @Query("""
+      SELECT DISTINCT t.user.id
+      FROM TaskModel t
+      WHERE t.completedAt < :cutoff
+        AND (t.isCompleted = true OR t.status IN :lockedStatuses)
+      """)
+  List<UUID> findUserIdsWithArchivableTasks(
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("lockedStatuses") Collection<TaskStatus> lockedStatuses);
+
+  @Query("""
+      SELECT t
+      FROM TaskModel t
+      WHERE t.user.id = :userId
+        AND t.completedAt < :cutoff
+        AND (t.isCompleted = true OR t.status IN :lockedStatuses)
+      ORDER BY t.dueDate, t.id
+      """)
+  List<TaskModel> findArchivableTasks(
+      @Param("userId") UUID userId,
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("lockedStatuses") Collection<TaskStatus> lockedStatuses,
+      Limit limit);
+
 }
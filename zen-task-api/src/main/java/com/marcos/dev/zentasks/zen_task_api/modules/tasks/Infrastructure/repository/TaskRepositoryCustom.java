@@ -0,0 +1,37 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+
+/**
+ * Criteria-based queries that cannot be expressed as derived or annotated
+ * repository methods: reads that select task columns straight into response
+ * DTOs, skipping entity hydration, and locks driven by a specification.
+ */
+public interface TaskRepositoryCustom {
+
+  List<TaskResponseDTO> findResponses(Specification<TaskModel> spec, Sort sort);
+
+  List<TaskResponseDTO> findResponses(Specification<TaskModel> spec, Sort sort, int limit);
+
+  /**
+   * Streams the matching tasks through a forward-only cursor that fetches
+   * fetchSize rows per round trip. Must be consumed inside a transaction and
+   * closed by the caller.
+   */
+  Stream<TaskResponseDTO> streamResponses(Specification<TaskModel> spec, Sort sort, int fetchSize);
+
+  /**
+   * Locks the tasks matched by the specification that can be moved to a quadrant,
+   * in id order like {@link TaskRepository#lockCells}: completed and locked tasks, and
+   * tasks already in the target quadrant, are left out.
+   */
+  List<TaskCellRow> lockMovableCells(Specification<TaskModel> spec, Quadrant quadrant);
+}
@@ -0,0 +1,107 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+  private final EntityManager entityManager;
+
+  public TaskRepositoryCustomImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public List<TaskResponseDTO> findResponses(Specification<TaskModel> spec, Sort sort) {
+    return createResponseQuery(spec, sort).getResultList();
+  }
+
+  @Override
+  public List<TaskResponseDTO> findResponses(Specification<TaskModel> spec, Sort sort, int limit) {
+    return createResponseQuery(spec, sort)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  @Override
+  public Stream<TaskResponseDTO> streamResponses(Specification<TaskModel> spec, Sort sort, int fetchSize) {
+    return createResponseQuery(spec, sort)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .getResultStream();
+  }
+
+  @Override
+  public List<TaskCellRow> lockMovableCells(Specification<TaskModel> spec, Quadrant quadrant) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<TaskCellRow> query = cb.createQuery(TaskCellRow.class);
+    Root<TaskModel> root = query.from(TaskModel.class);
+
+    query.select(cb.construct(TaskCellRow.class,
+            root.get("id"),
+            root.get("quadrant"),
+            root.get("status"),
+            root.get("version")))
+        .where(movablePredicate(spec, root, cb, quadrant))
+        .orderBy(cb.asc(root.get("id")));
+
+    return entityManager.createQuery(query)
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .getResultList();
+  }
+
+  private Predicate movablePredicate(
+      Specification<TaskModel> spec, Root<TaskModel> root, CriteriaBuilder cb, Quadrant quadrant) {
+    Predicate predicate = cb.and(
+        cb.isFalse(root.<Boolean>get("isCompleted")),
+        cb.not(root.get("status").in(TaskModel.LOCKED_STATUSES)),
+        cb.notEqual(root.get("quadrant"), quadrant));
+
+    // The specifications in TaskRepository only use the root and the builder
+    Predicate filter = spec.toPredicate(root, null, cb);
+    return filter != null ? cb.and(filter, predicate) : predicate;
+  }
+
+  private TypedQuery<TaskResponseDTO> createResponseQuery(Specification<TaskModel> spec, Sort sort) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<TaskResponseDTO> query = cb.createQuery(TaskResponseDTO.class);
+    Root<TaskModel> root = query.from(TaskModel.class);
+
+    query.select(cb.construct(TaskResponseDTO.class,
+        root.get("id"),
+        root.get("title"),
+        root.get("description"),
+        root.get("dueDate"),
+        root.get("status"),
+        root.get("quadrant"),
+        root.get("isCompleted")));
+
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+
+    if (sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, root, cb));
+    }
+
+    return entityManager.createQuery(query);
+  }
+}
@@ -0,0 +1,9 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+/**
+ * Id and title of a task, read to build the title suggestion index.
+ */
+public record TaskTitleRow(
+    Long id,
+    String title) {
+}
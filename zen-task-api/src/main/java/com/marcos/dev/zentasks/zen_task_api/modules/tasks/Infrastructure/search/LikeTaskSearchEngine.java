@@ -0,0 +1,97 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSearchResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Portable fallback for databases without full-text search, such as the H2 used by
+ * the tests: every word of the query must appear in the title or the description.
+ * Ranking and highlighting run in memory over all the user's matches, so this is
+ * not meant for large data sets.
+ */
+class LikeTaskSearchEngine implements TaskSearchEngine {
+
+  private static final int MAX_TERMS = 10;
+  private static final double TITLE_WEIGHT = 1.0;
+  private static final double DESCRIPTION_WEIGHT = 0.4;
+
+  private final TaskRepository taskRepository;
+
+  LikeTaskSearchEngine(TaskRepository taskRepository) {
+    this.taskRepository = taskRepository;
+  }
+
+  @Override
+  public List<TaskSearchResultDTO> search(UUID userId, String query, int limit) {
+    List<String> terms = Arrays.stream(query.toLowerCase(Locale.ROOT).split("[\\s\"]+"))
+        .filter(term -> !term.isBlank())
+        .distinct()
+        .limit(MAX_TERMS)
+        .toList();
+
+    if (terms.isEmpty()) {
+      return List.of();
+    }
+
+    Specification<TaskModel> spec = TaskRepository.Specifications.builder()
+        .forUserId(userId)
+        .build()
+        .and(containsAll(terms));
+
+    return taskRepository.findResponses(spec, Sort.by("id")).stream()
+        .map(task -> toResult(task, terms))
+        .sorted(Comparator.comparingDouble(TaskSearchResultDTO::rank).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  private static Specification<TaskModel> containsAll(List<String> terms) {
+    return (root, query, cb) -> {
+      Expression<String> title = cb.lower(root.get("title"));
+      Expression<String> description = cb.lower(root.get("description"));
+
+      Predicate[] predicates = terms.stream()
+          .map(term -> {
+            String pattern = "%" + escapeLike(term) + "%";
+            return cb.or(cb.like(title, pattern, '\\'), cb.like(description, pattern, '\\'));
+          })
+          .toArray(Predicate[]::new);
+
+      return cb.and(predicates);
+    };
+  }
+
+  private static TaskSearchResultDTO toResult(TaskResponseDTO task, List<String> terms) {
+    String title = task.title().toLowerCase(Locale.ROOT);
+    String description = task.description().toLowerCase(Locale.ROOT);
+
+    double rank = 0;
+    for (String term : terms) {
+      rank += (title.contains(term) ? TITLE_WEIGHT : 0) + (description.contains(term) ? DESCRIPTION_WEIGHT : 0);
+    }
+
+    return new TaskSearchResultDTO(
+        task,
+        rank,
+        SearchHighlights.toHtml(SearchHighlights.delimit(task.title(), terms)),
+        SearchHighlights.toHtml(SearchHighlights.delimit(task.description(), terms)));
+  }
+
+  private static String escapeLike(String term) {
+    return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
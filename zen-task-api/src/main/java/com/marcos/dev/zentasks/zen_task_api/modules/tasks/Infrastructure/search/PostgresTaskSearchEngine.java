@@ -0,0 +1,94 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.search;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.query.NativeQuery;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSearchResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Full-text search on the search_vector column, generated by the database from the
+ * title (weight A) and the description (weight B) and indexed with GIN together with
+ * user_id. The inner query ranks and limits the matches; the costly ts_headline only
+ * runs for the rows that are returned, on text stripped of the highlight delimiters.
+ */
+class PostgresTaskSearchEngine implements TaskSearchEngine {
+
+  private static final String SEARCH_SQL = """
+      SELECT t.id, t.title, t.description, CAST(t.due_date AS date) AS due_date,
+             t.task_status, t.quadrant, t.is_completed, m.rank,
+             ts_headline('simple', translate(t.title, :delimiters, ''), m.query, :titleOptions) AS title_highlight,
+             ts_headline('simple', translate(t.description, :delimiters, ''), m.query, :descriptionOptions)
+               AS description_highlight
+      FROM (
+        SELECT t.id, ts_rank_cd(t.search_vector, q.query) AS rank, q.query
+        FROM tb_tasks t
+        CROSS JOIN websearch_to_tsquery('simple', :query) AS q(query)
+        WHERE t.user_id = :userId
+          AND t.search_vector @@ q.query
+        ORDER BY rank DESC, t.id
+        LIMIT :limit
+      ) m
+      JOIN tb_tasks t ON t.id = m.id
+      ORDER BY m.rank DESC, t.id
+      """;
+
+  private static final String TITLE_OPTIONS =
+      "StartSel=" + SearchHighlights.START + ", StopSel=" + SearchHighlights.STOP + ", HighlightAll=true";
+
+  private static final String DESCRIPTION_OPTIONS =
+      "StartSel=" + SearchHighlights.START + ", StopSel=" + SearchHighlights.STOP
+          + ", MinWords=15, MaxWords=35, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+  private final EntityManager entityManager;
+
+  PostgresTaskSearchEngine(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<TaskSearchResultDTO> search(UUID userId, String query, int limit) {
+    List<Object[]> rows = entityManager.createNativeQuery(SEARCH_SQL)
+        .setParameter("query", query)
+        .setParameter("userId", userId)
+        .setParameter("limit", limit)
+        .setParameter("titleOptions", TITLE_OPTIONS)
+        .setParameter("descriptionOptions", DESCRIPTION_OPTIONS)
+        .setParameter("delimiters", SearchHighlights.DELIMITERS)
+        .unwrap(NativeQuery.class)
+        .addScalar("id", Long.class)
+        .addScalar("title", String.class)
+        .addScalar("description", String.class)
+        .addScalar("due_date", LocalDate.class)
+        .addScalar("task_status", String.class)
+        .addScalar("quadrant", String.class)
+        .addScalar("is_completed", Boolean.class)
+        .addScalar("rank", Double.class)
+        .addScalar("title_highlight", String.class)
+        .addScalar("description_highlight", String.class)
+        .getResultList();
+
+    return rows.stream()
+        .map(row -> new TaskSearchResultDTO(
+            new TaskResponseDTO(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                (LocalDate) row[3],
+                TaskStatus.valueOf((String) row[4]),
+                Quadrant.valueOf((String) row[5]),
+                (Boolean) row[6]),
+            (Double) row[7],
+            SearchHighlights.toHtml((String) row[8]),
+            SearchHighlights.toHtml((String) row[9])))
+        .toList();
+  }
+}
@@ -0,0 +1,98 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.search;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds the highlights of the search results. Matches are first delimited with the
+ * STX and ETX control characters, then the text is escaped and the delimiters become
+ * {@code <mark>} tags, so task content is never returned as markup. JSON lets titles
+ * and descriptions carry those characters too, so they are stripped from the text
+ * before it is delimited.
+ */
+final class SearchHighlights {
+
+  static final char START = '\u0002';
+  static final char STOP = '\u0003';
+  static final String DELIMITERS = String.valueOf(START) + STOP;
+
+  private SearchHighlights() {
+  }
+
+  /**
+   * Delimits every case-insensitive occurrence of the terms in the text.
+   */
+  static String delimit(String text, List<String> terms) {
+    if (text == null) {
+      return null;
+    }
+
+    text = stripDelimiters(text);
+    String lower = text.toLowerCase(Locale.ROOT);
+    StringBuilder result = new StringBuilder(text.length() + 16);
+
+    int i = 0;
+    while (i < text.length()) {
+      int matchLength = 0;
+      for (String term : terms) {
+        if (term.length() > matchLength && lower.startsWith(term, i)) {
+          matchLength = term.length();
+        }
+      }
+
+      if (matchLength > 0) {
+        result.append(START).append(text, i, i + matchLength).append(STOP);
+        i += matchLength;
+      } else {
+        result.append(text.charAt(i++));
+      }
+    }
+
+    return result.toString();
+  }
+
+  /**
+   * Removes any delimiter already present in the text, so only the matches are marked.
+   */
+  static String stripDelimiters(String text) {
+    if (text.indexOf(START) < 0 && text.indexOf(STOP) < 0) {
+      return text;
+    }
+
+    StringBuilder stripped = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c != START && c != STOP) {
+        stripped.append(c);
+      }
+    }
+
+    return stripped.toString();
+  }
+
+  /**
+   * Escapes the delimited text as HTML and turns the delimiters into mark tags.
+   */
+  static String toHtml(String delimited) {
+    if (delimited == null) {
+      return null;
+    }
+
+    StringBuilder html = new StringBuilder(delimited.length() + 32);
+    for (int i = 0; i < delimited.length(); i++) {
+      char c = delimited.charAt(i);
+      switch (c) {
+        case START -> html.append("<mark>");
+        case STOP -> html.append("</mark>");
+        case '&' -> html.append("&amp;");
+        case '<' -> html.append("&lt;");
+        case '>' -> html.append("&gt;");
+        case '"' -> html.append("&quot;");
+        case '\'' -> html.append("&#39;");
+        default -> html.append(c);
+      }
+    }
+
+    return html.toString();
+  }
+}
@@ -0,0 +1,42 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.search;
+
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Uses the Postgres full-text search when the database is Postgres, where the
+ * search_vector column and its index exist, and the LIKE fallback otherwise.
+ */
+@Configuration
+public class TaskSearchConfiguration {
+  private static final Logger logger = LoggerFactory.getLogger(TaskSearchConfiguration.class);
+
+  @Bean
+  public TaskSearchEngine taskSearchEngine(
+      DataSource dataSource,
+      EntityManager entityManager,
+      TaskRepository taskRepository) throws MetaDataAccessException {
+
+    String database = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+
+    if ("PostgreSQL".equals(database)) {
+      logger.info("[TASKSEARCH] Usando a busca textual do Postgres");
+      return new PostgresTaskSearchEngine(entityManager);
+    }
+
+    logger.info("[TASKSEARCH] Banco {} sem busca textual, usando a busca por LIKE", database);
+    return new LikeTaskSearchEngine(taskRepository);
+  }
+}
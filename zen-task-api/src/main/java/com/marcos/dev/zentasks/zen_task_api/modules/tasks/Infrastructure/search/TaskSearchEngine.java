@@ -0,0 +1,18 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.search;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSearchResultDTO;
+
+/**
+ * Text search over the title and description of a user's tasks.
+ * {@link TaskSearchConfiguration} picks the implementation for the database in use.
+ */
+public interface TaskSearchEngine {
+
+  /**
+   * @return at most {@code limit} matches, best ranked first
+   */
+  List<TaskSearchResultDTO> search(UUID userId, String query, int limit);
+}
@@ -0,0 +1,196 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.suggest;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSuggestionDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskTitleRow;
+
+/**
+ * In-memory title prefix index for typeahead. A user's index is loaded from the
+ * database on their first lookup and then kept current by the task changes, applied
+ * after commit. Indexes are evicted least recently used first once the estimated
+ * footprint of all of them exceeds api.tasks.suggest.memory-budget.
+ * <p>
+ * The state is guarded by a {@link ReentrantLock} rather than a monitor, so virtual
+ * threads waiting for it unmount instead of pinning their carrier. Loads run
+ * outside the lock.
+ */
+@Component
+public class TaskTitleSuggestIndex {
+  private static final Logger logger = LoggerFactory.getLogger(TaskTitleSuggestIndex.class);
+
+  private final TaskRepository taskRepository;
+  private final long memoryBudgetBytes;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  // Guarded by lock; access order makes the first entry the least recently used
+  private final LinkedHashMap<UUID, UserTitleIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<UUID, Integer> loadsInProgress = new HashMap<>();
+  private final Set<UUID> changedWhileLoading = new HashSet<>();
+  private long usedBytes;
+
+  public TaskTitleSuggestIndex(
+      TaskRepository taskRepository,
+      @Value("${api.tasks.suggest.memory-budget:64MB}") DataSize memoryBudget) {
+    this.taskRepository = taskRepository;
+    this.memoryBudgetBytes = memoryBudget.toBytes();
+  }
+
+  /**
+   * Suggests tasks whose title has a word starting with the last word typed and
+   * contains the words typed before it.
+   */
+  public List<TaskSuggestionDTO> suggest(UUID userId, String query, int limit) {
+    List<String> words = TitleTokenizer.tokens(query);
+    if (words.isEmpty()) {
+      return List.of();
+    }
+
+    List<String> completeWords = words.subList(0, words.size() - 1);
+    String prefix = words.get(words.size() - 1);
+
+    lock.lock();
+    try {
+      UserTitleIndex index = indexes.get(userId);
+      if (index != null) {
+        return index.suggest(completeWords, prefix, limit);
+      }
+      loadsInProgress.merge(userId, 1, Integer::sum);
+    } finally {
+      lock.unlock();
+    }
+
+    UserTitleIndex loaded = load(userId);
+
+    lock.lock();
+    try {
+      if (loadsInProgress.merge(userId, -1, Integer::sum) == 0) {
+        loadsInProgress.remove(userId);
+      }
+
+      // A change committed during the load may be missing from it: answer from
+      // it this time, but let the next lookup load again
+      boolean stale = loadsInProgress.containsKey(userId)
+          ? changedWhileLoading.contains(userId)
+          : changedWhileLoading.remove(userId);
+
+      if (!stale && !indexes.containsKey(userId) && loaded.estimatedBytes() <= memoryBudgetBytes) {
+        indexes.put(userId, loaded);
+        usedBytes += loaded.estimatedBytes();
+        evictOver(userId);
+      }
+
+      return loaded.suggest(completeWords, prefix, limit);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Records a created or renamed task; applied after the current transaction commits.
+   */
+  public void titleChanged(UUID userId, long taskId, String title) {
+    afterCommit(() -> apply(userId, index -> index.put(taskId, title)));
+  }
+
+  /**
+   * Records a deleted task; applied after the current transaction commits.
+   */
+  public void taskRemoved(UUID userId, long taskId) {
+    afterCommit(() -> apply(userId, index -> index.remove(taskId)));
+  }
+
+  int indexedUsers() {
+    lock.lock();
+    try {
+      return indexes.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  long usedBytes() {
+    lock.lock();
+    try {
+      return usedBytes;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void apply(UUID userId, Consumer<UserTitleIndex> change) {
+    lock.lock();
+    try {
+      if (loadsInProgress.containsKey(userId)) {
+        changedWhileLoading.add(userId);
+      }
+
+      UserTitleIndex index = indexes.get(userId);
+      if (index == null) {
+        return;
+      }
+
+      long before = index.estimatedBytes();
+      change.accept(index);
+      usedBytes += index.estimatedBytes() - before;
+
+      evictOver(userId);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private UserTitleIndex load(UUID userId) {
+    UserTitleIndex index = UserTitleIndex.of(taskRepository.findTitlesByUserId(userId).stream()
+        .collect(Collectors.toMap(TaskTitleRow::id, TaskTitleRow::title)));
+
+    logger.debug("[TASKSUGGEST] Índice de títulos carregado para o usuário {}: {} bytes", userId, index.estimatedBytes());
+    return index;
+  }
+
+  private void evictOver(UUID keep) {
+    Iterator<Map.Entry<UUID, UserTitleIndex>> eldest = indexes.entrySet().iterator();
+
+    while (usedBytes > memoryBudgetBytes && eldest.hasNext()) {
+      Map.Entry<UUID, UserTitleIndex> entry = eldest.next();
+      if (!entry.getKey().equals(keep) || indexes.size() == 1) {
+        usedBytes -= entry.getValue().estimatedBytes();
+        eldest.remove();
+      }
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,36 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.suggest;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits titles and typed queries into lower-case words without accents, so
+ * "reuniao" finds "Reunião".
+ */
+final class TitleTokenizer {
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private TitleTokenizer() {
+  }
+
+  static String normalize(String text) {
+    String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+    return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+
+  static List<String> tokens(String text) {
+    if (text == null) {
+      return List.of();
+    }
+
+    return Arrays.stream(SEPARATORS.split(normalize(text)))
+        .filter(token -> !token.isEmpty())
+        .distinct()
+        .toList();
+  }
+}
@@ -0,0 +1,188 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSuggestionDTO;
+
+/**
+ * Title words of one user's tasks, kept as parallel arrays sorted by (word, task id)
+ * so a prefix lookup is a binary search followed by a short scan.
+ * Not thread-safe: {@link TaskTitleSuggestIndex} guards every access.
+ */
+final class UserTitleIndex {
+
+  // Rough JVM footprint, used only to enforce the global memory budget
+  private static final int STRING_OVERHEAD_BYTES = 40;
+  private static final int ENTRY_SLOT_BYTES = 12;
+  private static final int TITLE_ENTRY_BYTES = 64;
+
+  private static final Comparator<Entry> ENTRY_ORDER = Comparator
+      .comparing(Entry::word)
+      .thenComparingLong(Entry::taskId);
+
+  private String[] words = new String[16];
+  private long[] taskIds = new long[16];
+  private int size;
+
+  private final Map<Long, String> titles = new HashMap<>();
+  private long estimatedBytes;
+
+  /**
+   * Builds the index of many titles at once, sorting all their (word, task id) pairs
+   * in one go rather than inserting them one by one.
+   */
+  static UserTitleIndex of(Map<Long, String> titlesById) {
+    UserTitleIndex index = new UserTitleIndex();
+    List<Entry> entries = new ArrayList<>();
+
+    titlesById.forEach((taskId, title) -> {
+      index.titles.put(taskId, title);
+      index.estimatedBytes += TITLE_ENTRY_BYTES + STRING_OVERHEAD_BYTES + title.length();
+      for (String word : TitleTokenizer.tokens(title)) {
+        entries.add(new Entry(word, taskId));
+      }
+    });
+
+    entries.sort(ENTRY_ORDER);
+    index.words = new String[Math.max(16, entries.size())];
+    index.taskIds = new long[index.words.length];
+
+    for (Entry entry : entries) {
+      int last = index.size - 1;
+      // A word repeated in the same title is indexed once
+      if (last >= 0 && index.taskIds[last] == entry.taskId() && index.words[last].equals(entry.word())) {
+        continue;
+      }
+
+      index.words[index.size] = entry.word();
+      index.taskIds[index.size] = entry.taskId();
+      index.size++;
+      index.estimatedBytes += ENTRY_SLOT_BYTES + STRING_OVERHEAD_BYTES + entry.word().length();
+    }
+
+    return index;
+  }
+
+  void put(long taskId, String title) {
+    remove(taskId);
+
+    titles.put(taskId, title);
+    estimatedBytes += TITLE_ENTRY_BYTES + STRING_OVERHEAD_BYTES + title.length();
+
+    for (String word : TitleTokenizer.tokens(title)) {
+      insert(word, taskId);
+    }
+  }
+
+  void remove(long taskId) {
+    String title = titles.remove(taskId);
+    if (title == null) {
+      return;
+    }
+
+    estimatedBytes -= TITLE_ENTRY_BYTES + STRING_OVERHEAD_BYTES + title.length();
+
+    for (String word : TitleTokenizer.tokens(title)) {
+      delete(word, taskId);
+    }
+  }
+
+  /**
+   * Tasks with a title word starting with the prefix and containing every one of
+   * the complete words, in word order.
+   */
+  List<TaskSuggestionDTO> suggest(List<String> completeWords, String prefix, int limit) {
+    Set<Long> matches = new LinkedHashSet<>();
+
+    for (int i = position(prefix, Long.MIN_VALUE); i < size && words[i].startsWith(prefix); i++) {
+      long taskId = taskIds[i];
+      if (!matches.contains(taskId) && containsAll(taskId, completeWords)) {
+        matches.add(taskId);
+        if (matches.size() == limit) {
+          break;
+        }
+      }
+    }
+
+    List<TaskSuggestionDTO> suggestions = new ArrayList<>(matches.size());
+    for (Long taskId : matches) {
+      suggestions.add(new TaskSuggestionDTO(taskId, titles.get(taskId)));
+    }
+    return suggestions;
+  }
+
+  long estimatedBytes() {
+    return estimatedBytes;
+  }
+
+  private boolean containsAll(long taskId, List<String> completeWords) {
+    if (completeWords.isEmpty()) {
+      return true;
+    }
+    return TitleTokenizer.tokens(titles.get(taskId)).containsAll(completeWords);
+  }
+
+  private void insert(String word, long taskId) {
+    int at = position(word, taskId);
+    if (at < size && words[at].equals(word) && taskIds[at] == taskId) {
+      return;
+    }
+
+    if (size == words.length) {
+      words = Arrays.copyOf(words, size * 2);
+      taskIds = Arrays.copyOf(taskIds, size * 2);
+    }
+
+    System.arraycopy(words, at, words, at + 1, size - at);
+    System.arraycopy(taskIds, at, taskIds, at + 1, size - at);
+    words[at] = word;
+    taskIds[at] = taskId;
+    size++;
+
+    estimatedBytes += ENTRY_SLOT_BYTES + STRING_OVERHEAD_BYTES + word.length();
+  }
+
+  private void delete(String word, long taskId) {
+    int at = position(word, taskId);
+    if (at >= size || !words[at].equals(word) || taskIds[at] != taskId) {
+      return;
+    }
+
+    System.arraycopy(words, at + 1, words, at, size - at - 1);
+    System.arraycopy(taskIds, at + 1, taskIds, at, size - at - 1);
+    size--;
+    words[size] = null;
+
+    estimatedBytes -= ENTRY_SLOT_BYTES + STRING_OVERHEAD_BYTES + word.length();
+  }
+
+  /**
+   * First position whose (word, task id) is not lower than the given pair.
+   */
+  private int position(String word, long taskId) {
+    int low = 0;
+    int high = size;
+
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int cmp = words[mid].compareTo(word);
+      if (cmp < 0 || (cmp == 0 && taskIds[mid] < taskId)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  private record Entry(String word, long taskId) {
+  }
+}
@@ -6,20 +6,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security.AuthenticatedUserService;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AuthenticationDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AuthenticationResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AvailabilityDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.RegisterDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.RegistrationResultDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.UserDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.UserServiceInterface;
-import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 
 import jakarta.validation.Valid;
 
@@ -29,9 +30,11 @@ public class UserController {
 
         private static final Logger logger = LoggerFactory.getLogger(UserController.class);
         private final UserServiceInterface userService;
+        private final AuthenticatedUserService authenticatedUserService;
 
-        public UserController(UserServiceInterface userService) {
+        public UserController(UserServiceInterface userService, AuthenticatedUserService authenticatedUserService) {
                 this.userService = userService;
+                this.authenticatedUserService = authenticatedUserService;
         }
 
         @PostMapping("/login")
@@ -68,6 +71,14 @@ public class UserController {
                 return ResponseEntity.ok(result);
         }
 
+        // Called by the registration form as the user types
+        @GetMapping("/register/availability")
+        public ResponseEntity<AvailabilityDTO> availability(
+                        @RequestParam(required = false) String username,
+                        @RequestParam(required = false) String email) {
+                return ResponseEntity.ok(userService.checkAvailability(username, email));
+        }
+
         @PostMapping("/logout")
         public ResponseEntity<Void> logout() {
                 ResponseCookie cookie = ResponseCookie.from("jwt-token", "")
@@ -85,15 +96,12 @@ public class UserController {
         }
 
         @GetMapping("/auth/status")
-        public ResponseEntity<UserDTO> getAuthenticatedUser(
-                        @AuthenticationPrincipal UserModel userDetails) {
+        public ResponseEntity<UserDTO> getAuthenticatedUser() {
 
-                UserDTO result = new UserDTO(
-                                userDetails.getId().toString(),
-                                userDetails.getUsername(),
-                                userDetails.getEmail());
-
-                return ResponseEntity.ok(result);
+                // The principal is an AuthenticatedPrincipal for tokens but a UserModel for
+                // authentications built from UserDetails; the service accepts both.
+                // The email is not a token claim, so this endpoint reads the user
+                return ResponseEntity.ok(userService.getUser(authenticatedUserService.getCurrentUserId()));
         }
 
 }
@@ -0,0 +1,7 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos;
+
+/**
+ * Whether the username and email asked for are free; null for the ones not asked.
+ */
+public record AvailabilityDTO(Boolean usernameAvailable, Boolean emailAvailable) {
+}
@@ -1,21 +1,25 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service;
 
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * Serviço responsável pela autenticação e autorização de usuários.
- * Implementa UserDetailsService para integração com Spring Security.
+ * Implementa UserDetailsService para integração com Spring Security e
+ * UserDetailsPasswordService para regravar hashes de custo menor que o configurado.
  */
 @Service
-public class AuthorizationService implements UserDetailsService {
+public class AuthorizationService implements UserDetailsService, UserDetailsPasswordService {
     private static final Logger log = LogManager.getLogger(AuthorizationService.class);
     private final UserRepository userRepository;
 
@@ -46,4 +50,24 @@ public class AuthorizationService implements UserDetailsService {
             return new UsernameNotFoundException("Invalid credentials");
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Chamado pelo Spring Security após um login bem-sucedido quando o hash armazenado
+     * foi gerado com custo menor que o configurado.
+     *
+     * @param user Usuário autenticado
+     * @param newPassword Novo hash da mesma senha
+     * @return O usuário com o hash atualizado
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserModel userModel = (UserModel) user;
+
+        userRepository.updatePasswordHash(userModel.getId(), newPassword);
+        userModel.upgradePasswordHash(newPassword);
+        log.info("Hash de senha atualizado para o custo configurado: {}", userModel.getUsername());
+
+        return userModel;
+    }
+}
@@ -1,36 +1,67 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.InvalidTokenException;
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.TokenGenerationException;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.enums.UserRole;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.UUID;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues and verifies the API's JWTs. The algorithm and verifier are built once and
+ * are thread-safe. Tokens that passed verification are remembered by their SHA-256
+ * until they expire, so a client repeating its token skips the signature check and
+ * the claim parsing; the raw token is never kept.
+ */
 @Service
 public class TokenService {
-    @Value("${api.security.token.secret}")
-    private String secret;
-
-    @Value("${api.security.token.issuer}")
-    private String issuer;
-
-    @Value("${api.security.token.expiration_hours}")
-    private long expirationHours;
+    private static final String INVALID_TOKEN = "Token inválido ou expirado";
+
+    private final String issuer;
+    private final long expirationHours;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public TokenService(
+            @Value("${api.security.token.secret}") String secret,
+            @Value("${api.security.token.issuer}") String issuer,
+            @Value("${api.security.token.expiration_hours}") long expirationHours,
+            @Value("${api.security.token.verified-cache.maximum-size:10000}") long verifiedCacheSize) {
+        this.issuer = issuer;
+        this.expirationHours = expirationHours;
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(issuer)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpires())
+                .build();
+    }
 
     public String generateToken(UserModel user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-
             return JWT.create()
                     .withIssuer(issuer)
                     .withSubject(user.getUsername())
@@ -46,47 +77,72 @@ public class TokenService {
     }
 
     public String validateToken(String token) {
-        try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+        return verifyToken(token).subject();
+    }
 
-            return JWT.require(algorithm)
-                    .withIssuer(issuer)
-                    .build()
-                    .verify(token)
-                    .getSubject();
+    /**
+     * Verifies the token, or finds it already verified, and returns its claims in a
+     * single parse.
+     */
+    public VerifiedToken verifyToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidTokenException(INVALID_TOKEN);
+        }
 
-        } catch (JWTVerificationException exception) {
-            throw new InvalidTokenException("Token inválido ou expirado");
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
         }
+
+        VerifiedToken verified = decode(token);
+        verifiedTokens.put(key, verified);
+        return verified;
     }
 
     public UUID extractUserId(String token) {
-        try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            DecodedJWT jwt = JWT.require(algorithm)
-                    .withIssuer(issuer)
-                    .build()
-                    .verify(token);
+        return verifyToken(token).userId();
+    }
+
+    public String extractRole(String token) {
+        return verifyToken(token).role().name();
+    }
+
+    /**
+     * The claims of a token whose signature, issuer and expiry were checked.
+     */
+    public record VerifiedToken(String subject, UUID userId, UserRole role, Instant issuedAt, Instant expiresAt) {
+    }
 
-            return UUID.fromString(jwt.getClaim("userId").asString());
+    private VerifiedToken decode(String token) {
+        try {
+            DecodedJWT jwt = verifier.verify(token);
+
+            String userId = jwt.getClaim("userId").asString();
+            String role = jwt.getClaim("role").asString();
+            if (jwt.getSubject() == null || userId == null || role == null
+                    || jwt.getIssuedAtAsInstant() == null || jwt.getExpiresAtAsInstant() == null) {
+                throw new InvalidTokenException(INVALID_TOKEN);
+            }
+
+            return new VerifiedToken(
+                    jwt.getSubject(),
+                    UUID.fromString(userId),
+                    UserRole.valueOf(role),
+                    jwt.getIssuedAtAsInstant(),
+                    jwt.getExpiresAtAsInstant());
 
         } catch (JWTVerificationException | IllegalArgumentException exception) {
-            throw new InvalidTokenException("Token inválido ou expirado");
+            throw new InvalidTokenException(INVALID_TOKEN);
         }
     }
 
-    public String extractRole(String token) {
+    private static String hash(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            DecodedJWT jwt = JWT.require(algorithm)
-                    .withIssuer(issuer)
-                    .build()
-                    .verify(token);
-
-            return jwt.getClaim("role").asString();
-
-        } catch (JWTVerificationException exception) {
-            throw new InvalidTokenException("Token inválido ou expirado");
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 indisponível", exception);
         }
     }
 
@@ -98,4 +154,25 @@ public class TokenService {
                         .toInstant()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Keeps each verified token only until its own exp claim.
+     */
+    private static final class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remaining = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,24 +1,32 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service;
 
+import java.util.UUID;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.DataConflictException;
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.InvalidInputException;
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.ResourceNotFoundException;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.TooManyRequestsException;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AuthenticationDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AuthenticationResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AvailabilityDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.ChangePasswordRequest;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.RegisterDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.RegistrationResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.UserDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.mappers.UserMapper;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.availability.UserAvailabilityIndex;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
 
 import jakarta.transaction.Transactional;
@@ -32,39 +40,60 @@ public class UserServiceImpl implements UserServiceInterface {
   private final UserMapper userMapper;
   private final AuthenticationManager authenticationManager;
   private final TokenService tokenService;
+  private final PasswordEncoder passwordEncoder;
+  private final UserAvailabilityIndex availabilityIndex;
 
   public UserServiceImpl(
       UserRepository userRepository,
       UserMapper userMapper,
       AuthenticationManager authenticationManager,
-      TokenService tokenService) {
+      TokenService tokenService,
+      PasswordEncoder passwordEncoder,
+      UserAvailabilityIndex availabilityIndex) {
     this.userRepository = userRepository;
     this.userMapper = userMapper;
     this.authenticationManager = authenticationManager;
     this.tokenService = tokenService;
+    this.passwordEncoder = passwordEncoder;
+    this.availabilityIndex = availabilityIndex;
   }
 
   @Override
   @Transactional
   public RegistrationResultDTO createUser(RegisterDTO data) {
-    if (userRepository.existsByEmail(data.email())) {
+    // Only a possible hit in the availability filters costs a query
+    if (!isEmailAvailable(data.email())) {
       throw new DataConflictException("Email já em uso");
     }
 
-    if (userRepository.existsByUsername(data.username())) {
+    if (!isUsernameAvailable(data.username())) {
       throw new DataConflictException("Nome de usuário já em uso");
     }
 
     UserModel user = UserFactory.create(
         data.username(),
         data.email(),
-        data.password());
+        data.password(),
+        passwordEncoder);
 
-    userRepository.save(user);
+    try {
+      userRepository.saveAndFlush(user);
+    } catch (DataIntegrityViolationException e) {
+      // Taken by a concurrent registration after the checks above
+      logger.warn("Registro concorrente para {} ou {}", data.username(), data.email());
+      throw new DataConflictException("Nome de usuário ou email já em uso");
+    }
 
     return userMapper.toResultDTO(user);
   }
 
+  @Override
+  public AvailabilityDTO checkAvailability(String username, String email) {
+    return new AvailabilityDTO(
+        username == null || username.isBlank() ? null : isUsernameAvailable(username),
+        email == null || email.isBlank() ? null : isEmailAvailable(email));
+  }
+
   @Override
   public AuthenticationResultDTO userAuthentication(AuthenticationDTO dto) {
 
@@ -90,6 +119,9 @@ public class UserServiceImpl implements UserServiceInterface {
 
       return new AuthenticationResultDTO(token);
 
+    } catch (TooManyRequestsException e) {
+      logger.warn("Pool de hashing saturado, login recusado para {}", dto.username());
+      throw e;
     } catch (DisabledException e) {
       logger.warn("Usuário desativado: {}", dto.username(), e);
       throw new AuthenticationFailedException("Usuário desativado", e);
@@ -109,4 +141,20 @@ public class UserServiceImpl implements UserServiceInterface {
     throw new UnsupportedOperationException("Unimplemented method 'changePassword'");
   }
 
+  @Override
+  public UserDTO getUser(UUID userId) {
+    UserModel user = userRepository.findById(userId)
+        .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado"));
+
+    return new UserDTO(user.getId().toString(), user.getUsername(), user.getEmail());
+  }
+
+  private boolean isUsernameAvailable(String username) {
+    return !availabilityIndex.mightHaveUsername(username) || !userRepository.existsByUsername(username);
+  }
+
+  private boolean isEmailAvailable(String email) {
+    return !availabilityIndex.mightHaveEmail(email) || !userRepository.existsByEmail(email);
+  }
+
 }
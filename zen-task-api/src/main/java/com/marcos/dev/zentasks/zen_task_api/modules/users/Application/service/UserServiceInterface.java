@@ -1,18 +1,26 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service;
 
+import java.util.UUID;
+
 import org.apache.coyote.BadRequestException;
 
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AuthenticationDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AuthenticationResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AvailabilityDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.ChangePasswordRequest;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.RegisterDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.RegistrationResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.UserDTO;
 
 public interface UserServiceInterface {
 
   RegistrationResultDTO createUser(RegisterDTO dto);
 
+  AvailabilityDTO checkAvailability(String username, String email);
+
   AuthenticationResultDTO userAuthentication(AuthenticationDTO dto) throws BadRequestException;
 
   void changePassword(ChangePasswordRequest request);
+
+  UserDTO getUser(UUID userId);
 }
@@ -1,6 +1,7 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.UserValidationException;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.enums.UserRole;
@@ -10,17 +11,23 @@ public class UserFactory {
   private static final int MIN_PASSWORD_LENGTH = 8;
   private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
   private static final int MIN_USERNAME_LENGTH = 3;
+  // Thread-safe; the application passes its configured encoder instead
+  private static final PasswordEncoder DEFAULT_PASSWORD_ENCODER = new BCryptPasswordEncoder();
 
   public static UserModel create(String username, String email, String password) {
+    return create(username, email, password, DEFAULT_PASSWORD_ENCODER);
+  }
+
+  public static UserModel create(String username, String email, String password, PasswordEncoder passwordEncoder) {
     validateInput(username, email, password);
 
-    String passwordHash = new BCryptPasswordEncoder().encode(password);
+    String passwordHash = passwordEncoder.encode(password);
     return new UserModel(username, email, passwordHash, UserRole.USER);
   }
 
   public static UserModel createAdmin(String username, String email, String password) {
     validateInput(username, email, password);
-    String passwordHash = new BCryptPasswordEncoder().encode(password);
+    String passwordHash = DEFAULT_PASSWORD_ENCODER.encode(password);
     return new UserModel(username, email, passwordHash, UserRole.ADMIN);
   }
 
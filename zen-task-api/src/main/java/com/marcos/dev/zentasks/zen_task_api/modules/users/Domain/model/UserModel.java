@@ -1,20 +1,29 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model;
 
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.InvalidInputException;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.UserEntityListener;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.enums.UserRole;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@EntityListeners(UserEntityListener.class)
 @Table(name = "tb_users")
 public class UserModel implements UserDetails {
   private static final String ROLE_PREFIX = "ROLE_";
+  // Thread-safe; used when no configured encoder is passed in
+  private static final PasswordEncoder DEFAULT_PASSWORD_ENCODER = new BCryptPasswordEncoder();
 
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
@@ -79,13 +88,24 @@ public class UserModel implements UserDetails {
   }
 
   public void changePassword(String currentPassword, String newPassword) {
+    changePassword(currentPassword, newPassword, DEFAULT_PASSWORD_ENCODER);
+  }
+
+  public void changePassword(String currentPassword, String newPassword, PasswordEncoder passwordEncoder) {
     validatePassword(newPassword);
 
-    if (!new BCryptPasswordEncoder().matches(currentPassword, this.passwordHash)) {
+    if (!passwordEncoder.matches(currentPassword, this.passwordHash)) {
       throw new InvalidInputException("A senha atual está incorreta");
     }
 
-    this.passwordHash = new BCryptPasswordEncoder().encode(newPassword);
+    this.passwordHash = passwordEncoder.encode(newPassword);
+  }
+
+  /**
+   * Replaces the hash of the same password, e.g. after rehashing it with a higher cost.
+   */
+  public void upgradePasswordHash(String newPasswordHash) {
+    this.passwordHash = newPasswordHash;
   }
 
   public void updateEmail(String newEmail) {
@@ -103,7 +123,11 @@ public class UserModel implements UserDetails {
   }
 
   public boolean authenticate(String password) {
-    return new BCryptPasswordEncoder().matches(password, this.passwordHash);
+    return authenticate(password, DEFAULT_PASSWORD_ENCODER);
+  }
+
+  public boolean authenticate(String password, PasswordEncoder passwordEncoder) {
+    return passwordEncoder.matches(password, this.passwordHash);
   }
 
   public UUID getId() {
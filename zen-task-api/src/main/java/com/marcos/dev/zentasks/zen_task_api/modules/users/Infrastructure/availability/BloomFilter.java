@@ -0,0 +1,78 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.availability;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Set membership with no false negatives and a bounded false positive rate, sized
+ * for an expected number of values. Adds and lookups are lock-free; values cannot
+ * be removed. Past the expected size the false positive rate grows.
+ */
+final class BloomFilter {
+  private static final double LN2 = Math.log(2);
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  BloomFilter(long expectedValues, double falsePositiveRate) {
+    long bits = (long) Math.ceil(-expectedValues * Math.log(falsePositiveRate) / (LN2 * LN2));
+    int wordCount = (int) Math.max(1, (bits + 63) / 64);
+
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = wordCount * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedValues * LN2));
+  }
+
+  void add(String value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+
+      long current = words.get(word);
+      while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+        current = words.get(word);
+      }
+    }
+  }
+
+  boolean mightContain(String value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  long sizeInBytes() {
+    return bitCount / 8;
+  }
+
+  // FNV-1a over the UTF-8 bytes, spread by the MurmurHash3 finalizer
+  private static long hash(String value) {
+    long hash = 0xCBF29CE484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001B3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
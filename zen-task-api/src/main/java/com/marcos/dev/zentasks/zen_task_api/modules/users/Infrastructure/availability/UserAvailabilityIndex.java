@@ -0,0 +1,197 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.availability;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChange;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChangeSubscriber;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserIdentityRow;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+/**
+ * Bloom filters of the usernames and emails in use, so checking that a new one is
+ * free usually needs no query. A negative answer is definitive; a possible hit has
+ * to be confirmed against the database by the caller.
+ *
+ * <p>The filters are built at startup by streaming tb_users. Users written on this
+ * node are added by UserEntityListener, when flushed, before their transaction
+ * commits: a rollback only leaves a false positive behind. Users written on other
+ * nodes are read by id when the tb_users notifications announce them (changeset
+ * 15). Until the first build ends every value is reported as a possible hit.
+ *
+ * <p>The filters are rebuilt when notifications may have been lost, and every
+ * rebuild-interval as a backstop on databases without LISTEN/NOTIFY. A rebuild
+ * also drops the values freed since the last one. Values added while it runs go
+ * to both the old and the new filters, so none is lost in the swap. Adds hold the
+ * read lock across both writes and the rebuild takes the write lock to start
+ * collecting into the new filters and to swap them in, so an add never sees the
+ * old filters without the pending ones.
+ */
+@Component
+public class UserAvailabilityIndex implements TableChangeSubscriber {
+  private static final Logger logger = LoggerFactory.getLogger(UserAvailabilityIndex.class);
+
+  private static final String USERS_TABLE = "tb_users";
+
+  private final UserRepository userRepository;
+  private final TransactionTemplate primary;
+  private final long expectedUsers;
+  private final double falsePositiveRate;
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+  private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+  private volatile Filters filters;
+  private volatile Filters pending;
+  private volatile boolean warm;
+
+  public UserAvailabilityIndex(
+      UserRepository userRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${api.users.availability.expected-users:1000000}") long expectedUsers,
+      @Value("${api.users.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+    this.userRepository = userRepository;
+    // Not read-only: a replica may not have replayed the users just announced
+    this.primary = new TransactionTemplate(transactionManager);
+    this.expectedUsers = expectedUsers;
+    this.falsePositiveRate = falsePositiveRate;
+    this.filters = new Filters(expectedUsers, falsePositiveRate);
+  }
+
+  public boolean mightHaveUsername(String username) {
+    return !warm || filters.usernames().mightContain(username);
+  }
+
+  public boolean mightHaveEmail(String email) {
+    return !warm || filters.emails().mightContain(email);
+  }
+
+  public void add(String username, String email) {
+    Filters current;
+    swapLock.readLock().lock();
+    try {
+      current = filters;
+      current.add(username, email);
+
+      Filters next = pending;
+      if (next != null && next != current) {
+        next.add(username, email);
+      }
+    } finally {
+      swapLock.readLock().unlock();
+    }
+
+    if (current.added().get() == expectedUsers + 1) {
+      logger.warn("[AVAILABILITY] Mais de {} usuários; a taxa de falsos positivos vai crescer, "
+          + "aumente api.users.availability.expected-users", expectedUsers);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    rebuild();
+  }
+
+  /**
+   * Replaces the filters with new ones streamed from tb_users. A rebuild requested
+   * while another one runs is skipped.
+   */
+  @Scheduled(
+      fixedDelayString = "${api.users.availability.rebuild-interval:6h}",
+      initialDelayString = "${api.users.availability.rebuild-interval:6h}")
+  public void rebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      long start = System.nanoTime();
+      Filters next = new Filters(expectedUsers, falsePositiveRate);
+      swap(() -> pending = next);
+
+      primary.executeWithoutResult(status -> {
+        try (Stream<UserIdentityRow> rows = userRepository.streamIdentities()) {
+          rows.forEach(row -> next.add(row.username(), row.email()));
+        }
+      });
+
+      swap(() -> {
+        filters = next;
+        pending = null;
+        warm = true;
+      });
+
+      logger.info("[AVAILABILITY] Filtros carregados com {} usuários em {} ms ({} KB cada)",
+          next.added().get(), (System.nanoTime() - start) / 1_000_000, next.usernames().sizeInBytes() / 1024);
+    } finally {
+      pending = null;
+      rebuilding.set(false);
+    }
+  }
+
+  private void swap(Runnable change) {
+    swapLock.writeLock().lock();
+    try {
+      change.run();
+    } finally {
+      swapLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void tableChanged(TableChange change) {
+    if (!change.table().equals(USERS_TABLE)) {
+      return;
+    }
+
+    if (change.allRows()) {
+      CompletableFuture.runAsync(this::rebuild);
+      return;
+    }
+
+    if (change.ids().isEmpty()) {
+      return;
+    }
+
+    List<UUID> ids = change.ids().stream().map(UUID::fromString).toList();
+    // Deleted users are simply not found; updates may have changed the email
+    primary.executeWithoutResult(status ->
+        userRepository.findIdentitiesById(ids).forEach(row -> add(row.username(), row.email())));
+  }
+
+  @Override
+  public void changesMissed() {
+    // The startup build has not run yet, and will see everything committed so far
+    if (warm) {
+      CompletableFuture.runAsync(this::rebuild);
+    }
+  }
+
+  private record Filters(BloomFilter usernames, BloomFilter emails, AtomicLong added) {
+
+    Filters(long expectedUsers, double falsePositiveRate) {
+      this(new BloomFilter(expectedUsers, falsePositiveRate), new BloomFilter(expectedUsers, falsePositiveRate),
+          new AtomicLong());
+    }
+
+    void add(String username, String email) {
+      usernames.add(username);
+      emails.add(email);
+      added.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository;
+
+/**
+ * Username and email of a user, read to fill the availability filters.
+ */
+public record UserIdentityRow(
+    String username,
+    String email) {
+}
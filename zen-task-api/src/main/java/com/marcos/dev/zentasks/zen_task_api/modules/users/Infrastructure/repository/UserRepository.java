@@ -1,18 +1,67 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository;
 
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserModel, UUID> {
+  /**
+   * Query cache region of the username lookup, evicted when another node changes tb_users.
+   */
+  String USER_QUERIES_REGION = "user-queries";
+
   boolean existsByEmail(String email);
 
   boolean existsByUsername(String username);
 
+  // Runs on every login; cached only under the l2cache profile
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_QUERIES_REGION) })
   Optional<UserDetails> findByUsername(String username);
+
+  // A bulk update skips UserEntityListener: the password is the same, so tokens stay valid
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE UserModel u SET u.passwordHash = :passwordHash WHERE u.id = :id")
+  int updatePasswordHash(@Param("id") UUID id, @Param("passwordHash") String passwordHash);
+
+  // Read by UserAvailabilityIndex on every rebuild, without loading the entities
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserIdentityRow(u.username, u.email)
+      FROM UserModel u
+      """)
+  Stream<UserIdentityRow> streamIdentities();
+
+  // Users another node announced as written, added to UserAvailabilityIndex
+  @Query("""
+      SELECT new com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserIdentityRow(u.username, u.email)
+      FROM UserModel u
+      WHERE u.id IN :ids
+      """)
+  List<UserIdentityRow> findIdentitiesById(@Param("ids") Collection<UUID> ids);
+
+  // Read by TokenRevocationRegistry on a cache miss; empty once the user is deleted
+  Optional<UserChange> findChangeById(UUID id);
+
+  interface UserChange {
+    UUID getId();
+
+    LocalDateTime getUpdatedAt();
+  }
 }
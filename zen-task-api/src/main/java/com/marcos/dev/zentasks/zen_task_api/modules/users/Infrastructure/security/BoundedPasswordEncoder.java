@@ -0,0 +1,182 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.TooManyRequestsException;
+
+/**
+ * BCrypt on a dedicated pool sized to the cores, so a burst of logins or
+ * registrations cannot take every Tomcat thread and CPU away from the rest of the
+ * API. At most threads + queue-capacity request threads wait on it. A hash still
+ * queued after max-wait is withdrawn and the request fails with 429 instead of
+ * queueing without limit. A hash that has started is not interruptible, so it
+ * always runs to the end and its caller gets the result, however long it takes.
+ *
+ * <p>The cost factor comes from bcrypt-strength. Hashes made with a lower cost are
+ * reported by {@link #upgradeEncoding} and rehashed by Spring Security on the next
+ * successful login (AuthorizationService#updatePassword).
+ */
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+  private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+  private final BCryptPasswordEncoder bcrypt;
+  private final ThreadPoolExecutor executor;
+  private final Duration maxWait;
+
+  public BoundedPasswordEncoder(
+      @Value("${api.security.password.bcrypt-strength:10}") int strength,
+      @Value("${api.security.password.hashing.threads:0}") int threads,
+      @Value("${api.security.password.hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${api.security.password.hashing.max-wait:2s}") Duration maxWait) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+    this.bcrypt = new BCryptPasswordEncoder(strength);
+    this.maxWait = maxWait;
+    this.executor = new ThreadPoolExecutor(
+        poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        hashingThreads(),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    logger.info("[PASSWORD] Pool de hashing com {} threads, fila de {}, custo BCrypt {}",
+        poolSize, queueCapacity, strength);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return run(() -> bcrypt.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(() -> bcrypt.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Only reads the cost from the hash, so it runs on the caller's thread.
+   */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return bcrypt.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  int pendingHashes() {
+    return executor.getActiveCount() + executor.getQueue().size();
+  }
+
+  private <T> T run(Callable<T> hashing) {
+    HashingJob<T> job = new HashingJob<>(hashing);
+    try {
+      executor.execute(job);
+    } catch (RejectedExecutionException ex) {
+      logger.debug("[PASSWORD] Pool de hashing saturado, requisição recusada");
+      throw saturated();
+    }
+
+    try {
+      return awaitHash(job);
+    } catch (InterruptedException ex) {
+      withdraw(job);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Hashing de senha interrompido", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Falha no hashing de senha", ex.getCause());
+    }
+  }
+
+  /**
+   * Waits max-wait for the hash, and past it only if the hash has already started.
+   */
+  private <T> T awaitHash(HashingJob<T> job) throws InterruptedException, ExecutionException {
+    try {
+      return job.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      if (!withdraw(job)) {
+        return job.get();
+      }
+
+      logger.debug("[PASSWORD] Hashing não iniciado em {}, requisição recusada", maxWait);
+      throw saturated();
+    }
+  }
+
+  /**
+   * Takes a job that has not started out of the queue; false if a thread already runs it.
+   */
+  private boolean withdraw(HashingJob<?> job) {
+    if (!job.abandon()) {
+      return false;
+    }
+
+    executor.remove(job);
+    return true;
+  }
+
+  private TooManyRequestsException saturated() {
+    return new TooManyRequestsException("Servidor ocupado processando autenticações, tente novamente", maxWait);
+  }
+
+  /**
+   * A hash that either a pool thread starts or its caller abandons, whichever comes first.
+   */
+  private static final class HashingJob<T> extends FutureTask<T> {
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    HashingJob(Callable<T> hashing) {
+      super(hashing);
+    }
+
+    @Override
+    public void run() {
+      if (claimed.compareAndSet(false, true)) {
+        super.run();
+      }
+    }
+
+    boolean abandon() {
+      if (!claimed.compareAndSet(false, true)) {
+        return false;
+      }
+
+      cancel(false);
+      return true;
+    }
+  }
+
+  private static ThreadFactory hashingThreads() {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
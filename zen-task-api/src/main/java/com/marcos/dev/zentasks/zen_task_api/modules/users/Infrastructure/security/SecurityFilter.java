@@ -1,8 +1,9 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.security;
 
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.InvalidTokenException;
-import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security.AuthenticatedPrincipal;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.TokenService;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.TokenService.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,12 +21,12 @@ import java.util.Optional;
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final TokenRevocationRegistry revocationRegistry;
     private static final Logger logger = LoggerFactory.getLogger(SecurityFilter.class);
 
-    public SecurityFilter(TokenService tokenService, UserRepository userRepository) {
+    public SecurityFilter(TokenService tokenService, TokenRevocationRegistry revocationRegistry) {
         this.tokenService = tokenService;
-        this.userRepository = userRepository;
+        this.revocationRegistry = revocationRegistry;
     }
 
     @Override
@@ -37,18 +38,19 @@ public class SecurityFilter extends OncePerRequestFilter {
         if (tokenOpt.isPresent()) {
             String token = tokenOpt.get();
             try {
-                String subject = tokenService.validateToken(token);
-                logger.debug("Token válido para o usuário: {}", subject);
+                VerifiedToken verified = tokenService.verifyToken(token);
 
-                userRepository.findByUsername(subject).ifPresentOrElse(
-                        user -> {
-                            UsernamePasswordAuthenticationToken authentication =
-                                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-                            SecurityContextHolder.getContext().setAuthentication(authentication);
-                            logger.debug("Usuário {} autenticado com sucesso", user.getUsername());
-                        },
-                        () -> logger.warn("Usuário {} não encontrado no banco de dados", subject)
-                );
+                if (revocationRegistry.isRevoked(verified.userId(), verified.issuedAt())) {
+                    throw new InvalidTokenException("Token revogado para o usuário " + verified.subject());
+                }
+
+                // Built from the claims alone: no database read per request
+                AuthenticatedPrincipal principal =
+                        new AuthenticatedPrincipal(verified.userId(), verified.subject(), verified.role());
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                logger.debug("Usuário {} autenticado com sucesso", principal.username());
 
             } catch (InvalidTokenException e) {
                 logger.warn("Token inválido: {}", e.getMessage());
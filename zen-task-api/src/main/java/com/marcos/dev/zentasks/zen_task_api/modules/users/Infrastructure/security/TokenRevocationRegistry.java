@@ -0,0 +1,131 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChange;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChangeSubscriber;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+/**
+ * Rejects tokens issued before their user last changed, so a new role, email or
+ * password, or a deleted account, is not honoured through an older token. The
+ * change time is tb_users.updated_at, so it survives restarts and is the same on
+ * every node; a user without a row has all of its tokens revoked.
+ *
+ * <p>Change times are cached per user. Concurrent misses for a user share a single
+ * load, and entries past refresh-after-write are reloaded in the background while
+ * the old one keeps being served, so a hot user never sends a burst of queries.
+ * Entries are evicted after commit when this node changes the user, and when the
+ * tb_users notifications announce a change from another node; without them,
+ * expire-after-write bounds how long another node's change goes unseen.
+ *
+ * <p>Token issue times have second precision, so a token issued in the same second
+ * as the change is rejected too and the client has to log in again.
+ */
+@Component
+public class TokenRevocationRegistry implements TableChangeSubscriber {
+  private static final Logger logger = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+  private static final String USERS_TABLE = "tb_users";
+
+  private static final Instant NEVER_CHANGED = Instant.MIN;
+  private static final Instant DELETED = Instant.MAX;
+
+  private final LoadingCache<UUID, Instant> revokedBefore;
+
+  public TokenRevocationRegistry(
+      UserRepository userRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${api.security.token.revocation.maximum-size:10000}") long maximumSize,
+      @Value("${api.security.token.revocation.expire-after-write:5m}") Duration expireAfterWrite,
+      @Value("${api.security.token.revocation.refresh-after-write:1m}") Duration refreshAfterWrite) {
+    // Not read-only, so the lookup goes to the primary rather than a lagging replica
+    TransactionTemplate primary = new TransactionTemplate(transactionManager);
+
+    this.revokedBefore = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .refreshAfterWrite(refreshAfterWrite)
+        .recordStats()
+        .build(userId -> primary.execute(status -> load(userRepository, userId)));
+  }
+
+  public boolean isRevoked(UUID userId, Instant issuedAt) {
+    return !issuedAt.isAfter(revokedBefore.get(userId));
+  }
+
+  /**
+   * Revokes the user's current tokens once the transaction that changed it commits,
+   * by reading its new change time again.
+   */
+  public void revokeTokens(UUID userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      revokedBefore.invalidate(userId);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        revokedBefore.invalidate(userId);
+      }
+    });
+  }
+
+  @Override
+  public void tableChanged(TableChange change) {
+    if (!change.table().equals(USERS_TABLE)) {
+      return;
+    }
+
+    if (change.allRows()) {
+      revokedBefore.invalidateAll();
+    } else {
+      change.ids().forEach(id -> revokedBefore.invalidate(UUID.fromString(id)));
+    }
+  }
+
+  @Override
+  public void changesMissed() {
+    revokedBefore.invalidateAll();
+  }
+
+  public CacheStats stats() {
+    return revokedBefore.stats();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${api.security.token.revocation.stats-interval:5m}",
+      initialDelayString = "${api.security.token.revocation.stats-interval:5m}")
+  public void reportStats() {
+    CacheStats stats = revokedBefore.stats();
+    logger.info("[REVOCATION] {} usuários em cache, {} hits, {} misses, taxa de acerto {}%",
+        revokedBefore.estimatedSize(), stats.hitCount(), stats.missCount(),
+        String.format("%.1f", stats.hitRate() * 100));
+  }
+
+  private static Instant load(UserRepository userRepository, UUID userId) {
+    return userRepository.findChangeById(userId)
+        .map(change -> change.getUpdatedAt() == null
+            ? NEVER_CHANGED
+            : change.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS))
+        .orElse(DELETED);
+  }
+}
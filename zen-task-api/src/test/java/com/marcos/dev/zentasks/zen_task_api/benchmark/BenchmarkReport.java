@@ -0,0 +1,39 @@
+package com.marcos.dev.zentasks.zen_task_api.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reporting shared by the benchmark suites: results go through the benchmark's own
+ * logger under the {@code [BENCHMARK]} tag, and latencies are summarized the same way.
+ */
+final class BenchmarkReport {
+
+    private BenchmarkReport() {
+    }
+
+    /**
+     * Logs one result line, formatted with {@link String#format}.
+     */
+    static void log(Class<?> benchmark, String format, Object... args) {
+        Logger logger = LoggerFactory.getLogger(benchmark);
+        if (logger.isInfoEnabled()) {
+            logger.info("[BENCHMARK] {}", String.format(format, args));
+        }
+    }
+
+    /**
+     * The 99th percentile (nearest rank) of latencies measured in nanoseconds.
+     */
+    static Duration p99(Collection<Long> latencyNanos) {
+        List<Long> sorted = new ArrayList<>(latencyNanos);
+        Collections.sort(sorted);
+        return Duration.ofNanos(sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1));
+    }
+}
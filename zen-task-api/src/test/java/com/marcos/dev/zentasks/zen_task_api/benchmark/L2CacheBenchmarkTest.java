@@ -0,0 +1,176 @@
+package com.marcos.dev.zentasks.zen_task_api.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Throughput of a mixed workload with the second-level cache used and bypassed, in
+ * the same l2cache context. Reads look up a task by id and its owner by username;
+ * writes edit a task with the same bulk UPDATE as PATCH /v1/tasks/{id}. Only the
+ * users are cached, so the writes must not cost the reads their hits. Against the
+ * in-memory H2 database the gap understates what a network round trip to Postgres costs.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "l2cache"})
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Second-Level Cache Benchmark")
+class L2CacheBenchmarkTest {
+
+    private static final int HOT_TASKS = 500;
+    private static final int WARMUP_OPERATIONS = 20_000;
+    private static final int MEASURED_OPERATIONS = 100_000;
+    private static final int WRITE_PERCENT = Integer.getInteger("benchmark.writePercent", 20);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+    private UserModel user;
+    private List<Long> taskIds;
+
+    @BeforeAll
+    void seed() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+
+        user = userRepository.save(UserFactory.create("l2_bench_user", "l2-bench@example.com", "password123"));
+
+        Quadrant[] quadrants = Quadrant.values();
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO tb_tasks (id, title, description, due_date, is_urgent, is_important, is_completed,
+                                  task_status, quadrant, created_at, user_id, version)
+            VALUES (NEXT VALUE FOR tb_tasks_seq, ?, ?, ?, FALSE, FALSE, FALSE, 'CREATED', ?, CURRENT_TIMESTAMP, ?, 0)
+            """,
+            IntStream.range(0, HOT_TASKS)
+                .mapToObj(i -> new Object[] {
+                    "Cached task " + i,
+                    "Seed data for the second-level cache benchmark",
+                    Date.valueOf(LocalDate.now().plusDays(i % 30)),
+                    quadrants[i % quadrants.length].name(),
+                    user.getId() })
+                .toList());
+
+        taskIds = jdbcTemplate.queryForList("SELECT id FROM tb_tasks WHERE user_id = ?", Long.class, user.getId());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tb_tasks WHERE user_id = ?", user.getId());
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("Mixed reads and writes should hit the cache and outrun the database")
+    void mixedWorkloadShouldOutrunDatabase() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        double bypassed = measure(CacheRetrieveMode.BYPASS);
+
+        statistics.clear();
+        double cached = measure(CacheRetrieveMode.USE);
+        long hits = statistics.getQueryCacheHitCount();
+        long misses = statistics.getQueryCacheMissCount();
+
+        BenchmarkReport.log(getClass(), "%d hot tasks, %d%% writes | cache bypassed: %.0f ops/s"
+                + " | cache used: %.0f ops/s (%.1fx) | query cache: %d hits, %d misses",
+            HOT_TASKS, WRITE_PERCENT, bypassed, cached, cached / bypassed, hits, misses);
+
+        assertThat(hits).isGreaterThan(misses * 10);
+        assertThat(cached).isGreaterThan(bypassed);
+    }
+
+    /**
+     * @return operations per second, each one in its own transaction as in a request
+     */
+    private double measure(CacheRetrieveMode retrieveMode) {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            operate(retrieveMode, random);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_OPERATIONS; i++) {
+            operate(retrieveMode, random);
+        }
+
+        return MEASURED_OPERATIONS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private void operate(CacheRetrieveMode retrieveMode, SplittableRandom random) {
+        Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+
+        if (random.nextInt(100) < WRITE_PERCENT) {
+            edit(taskId, random.nextInt(30));
+        } else {
+            lookup(retrieveMode, taskId);
+        }
+    }
+
+    private void edit(Long taskId, int dueInDays) {
+        writeTransaction.executeWithoutResult(status -> assertThat(taskRepository.updateDetails(
+            taskId, user.getId(), "Edited task " + taskId, "Edited by the second-level cache benchmark",
+            LocalDate.now().plusDays(dueInDays), TaskModel.LOCKED_STATUSES, null)).isEqualTo(1));
+    }
+
+    private void lookup(CacheRetrieveMode retrieveMode, Long taskId) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            entityManager.setProperty("jakarta.persistence.cache.retrieveMode", retrieveMode);
+            entityManager.setProperty("jakarta.persistence.cache.storeMode", CacheStoreMode.USE);
+
+            assertThat(taskRepository.findByIdAndUserId(taskId, user.getId())).isPresent();
+            assertThat(userRepository.findByUsername(user.getUsername())).isPresent();
+        });
+    }
+}
@@ -0,0 +1,196 @@
+package com.marcos.dev.zentasks.zen_task_api.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.TokenService;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+/**
+ * Latency of GET /v1/tasks over real HTTP, alone and while far more clients than
+ * the password hashing pool admits keep posting to /v1/login. The pool should turn
+ * the excess logins into 429s so the task reads keep close to their baseline p99.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Login Storm Benchmark")
+class LoginStormBenchmarkTest {
+
+    private static final String PASSWORD = "stormPassword123";
+    private static final int TASKS = 50;
+    private static final int TASK_READERS = 8;
+    private static final int READS_PER_READER = 250;
+    private static final int LOGIN_CLIENTS = 128;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private UserModel user;
+    private String token;
+
+    @BeforeAll
+    void seed() {
+        user = userRepository.save(UserFactory.create("storm_user", "storm@example.com", PASSWORD, passwordEncoder));
+        token = tokenService.generateToken(user);
+
+        Quadrant[] quadrants = Quadrant.values();
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO tb_tasks (id, title, description, due_date, is_urgent, is_important, is_completed,
+                                  task_status, quadrant, created_at, user_id, version)
+            VALUES (NEXT VALUE FOR tb_tasks_seq, ?, ?, ?, FALSE, FALSE, FALSE, 'CREATED', ?, CURRENT_TIMESTAMP, ?, 0)
+            """,
+            IntStream.range(0, TASKS)
+                .mapToObj(i -> new Object[] {
+                    "Storm task " + i,
+                    "Seed data for the login storm benchmark",
+                    Date.valueOf(LocalDate.now().plusDays(i % 30)),
+                    quadrants[i % quadrants.length].name(),
+                    user.getId() })
+                .toList());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tb_tasks WHERE user_id = ?", user.getId());
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("Task reads should keep their p99 while logins are throttled")
+    void taskReadsShouldKeepTheirLatencyDuringLoginStorm() throws Exception {
+        readTasks(); // warm-up
+        Duration baseline = readTasks();
+
+        AtomicBoolean storming = new AtomicBoolean(true);
+        Map<Integer, AtomicInteger> loginStatuses = new ConcurrentHashMap<>();
+        ExecutorService loginClients = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            loginClients.submit(() -> {
+                while (storming.get()) {
+                    int status = login();
+                    loginStatuses.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        Duration duringStorm;
+        try {
+            Thread.sleep(500);
+            duringStorm = readTasks();
+        } finally {
+            storming.set(false);
+            loginClients.shutdown();
+            loginClients.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        BenchmarkReport.log(getClass(), "GET /v1/tasks p99 | alone: %d ms | during %d-client login storm: %d ms"
+                + " | login statuses: %s",
+            baseline.toMillis(), LOGIN_CLIENTS, duringStorm.toMillis(), loginStatuses);
+
+        assertThat(loginStatuses.keySet()).isSubsetOf(200, 429);
+        assertThat(loginStatuses).containsKey(429);
+        assertThat(duringStorm).isLessThan(baseline.multipliedBy(5).plusMillis(50));
+    }
+
+    /**
+     * @return p99 latency of GET /v1/tasks across concurrent readers
+     */
+    private Duration readTasks() throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService readers = Executors.newFixedThreadPool(TASK_READERS);
+
+        List<Future<?>> results = new ArrayList<>();
+        for (int r = 0; r < TASK_READERS; r++) {
+            results.add(readers.submit(() -> {
+                HttpRequest request = HttpRequest.newBuilder(uri("/v1/tasks"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+
+                for (int i = 0; i < READS_PER_READER; i++) {
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies.add(System.nanoTime() - start);
+                    assertThat(response.statusCode()).isEqualTo(200);
+                }
+                return null;
+            }));
+        }
+
+        for (Future<?> result : results) {
+            result.get();
+        }
+        readers.shutdown();
+
+        return BenchmarkReport.p99(latencies);
+    }
+
+    private int login() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/v1/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"username\":\"storm_user\",\"password\":\"" + PASSWORD + "\"}"))
+            .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,210 @@
+package com.marcos.dev.zentasks.zen_task_api.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.marcos.dev.zentasks.zen_task_api.ZenTaskApiApplication;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.TokenService;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Requests per second, p99 and failures of GET /v1/tasks and /dashboard over real
+ * HTTP with 5k clients holding a request open at once, served by the blocking
+ * controller on JPA and by the reactive-reads profile on R2DBC. Each mode runs in
+ * its own application context against the same in-memory H2 database.
+ *
+ * <p>r2dbc-h2 runs the embedded engine on the subscribing thread, so on H2 this
+ * mostly measures the request handling; point spring.datasource and
+ * api.tasks.reactive-reads at Postgres for the database side. Needs a file
+ * descriptor limit above twice the client count ({@code ulimit -n}); the count can
+ * be lowered with {@code -Dbenchmark.clients}. The most JDBC connections in use at
+ * once is sampled from the Hikari pool during the run: the reactive routes, change
+ * tag included, should not take any.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Reactive Reads Benchmark")
+class ReactiveReadsBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 5_000);
+    private static final int REQUESTS_PER_CLIENT = 4;
+    private static final int TASKS = 50;
+    private static final String PASSWORD = "reactivePassword123";
+
+    @Test
+    @DisplayName("Reactive reads should serve 5k concurrent clients without failures")
+    void reactiveReadsShouldServeConcurrentClients() throws Exception {
+        Result blocking = run("blocking", "test");
+        Result reactive = run("reactive", "test", "reactive-reads");
+
+        BenchmarkReport.log(getClass(), "%d clients x %d requests"
+                + " | JPA + MVC: %.0f req/s, p99 %d ms, statuses %s, peak JDBC connections %d"
+                + " | R2DBC + Mono: %.0f req/s, p99 %d ms, statuses %s, peak JDBC connections %d",
+            CLIENTS, REQUESTS_PER_CLIENT,
+            blocking.throughput(), blocking.p99().toMillis(), blocking.statuses(), blocking.peakJdbcConnections(),
+            reactive.throughput(), reactive.p99().toMillis(), reactive.statuses(), reactive.peakJdbcConnections());
+
+        assertThat(reactive.statuses().keySet()).containsOnly(200);
+        assertThat(reactive.peakJdbcConnections()).isZero();
+    }
+
+    private Result run(String mode, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ZenTaskApiApplication.class)
+                .profiles(profiles)
+                .properties(
+                    "server.port=0",
+                    "api.tasks.reactive-reads.url=r2dbc:h2:mem:///testdb",
+                    "api.tasks.reactive-reads.username=sa",
+                    "api.tasks.reactive-reads.password=")
+                .run()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            HikariPoolMXBean jdbcPool = context.getBean(DataSource.class)
+                .unwrap(HikariDataSource.class)
+                .getHikariPoolMXBean();
+            UserRepository userRepository = context.getBean(UserRepository.class);
+
+            UserModel user = userRepository.save(UserFactory.create(
+                "reactive_bench_" + mode, "reactive_bench_" + mode + "@example.com", PASSWORD,
+                context.getBean(PasswordEncoder.class)));
+            String token = context.getBean(TokenService.class).generateToken(user);
+            seedTasks(jdbcTemplate, user);
+
+            try {
+                load(port, token, 100, 2, jdbcPool); // warm-up
+                return load(port, token, CLIENTS, REQUESTS_PER_CLIENT, jdbcPool);
+            } finally {
+                jdbcTemplate.update("DELETE FROM tb_tasks WHERE user_id = ?", user.getId());
+                userRepository.delete(user);
+            }
+        }
+    }
+
+    /**
+     * Starts every client together and has each alternate between the listing and the dashboard.
+     */
+    private Result load(int port, String token, int clients, int requestsPerClient, HikariPoolMXBean jdbcPool)
+            throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+        List<HttpRequest> requests = List.of(
+            request(port, "/v1/tasks", token),
+            request(port, "/v1/tasks/dashboard", token));
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(clients * requestsPerClient));
+        Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger peakJdbcConnections = new AtomicInteger();
+        Thread sampler = Thread.ofVirtual().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peakJdbcConnections.accumulateAndGet(jdbcPool.getActiveConnections(), Math::max);
+                LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+            }
+        });
+
+        long start;
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                clientThreads.submit(() -> {
+                    startSignal.await();
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long sent = System.nanoTime();
+                        int status;
+                        try {
+                            status = httpClient.send(requests.get((client + i) % requests.size()),
+                                HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException ex) {
+                            status = -1;
+                        }
+                        latencies.add(System.nanoTime() - sent);
+                        statuses.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+
+            start = System.nanoTime();
+            startSignal.countDown();
+        } finally {
+            sampler.interrupt();
+        }
+        sampler.join();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(
+            latencies.size() / seconds,
+            BenchmarkReport.p99(latencies),
+            statuses.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get())),
+            peakJdbcConnections.get());
+    }
+
+    private static void seedTasks(JdbcTemplate jdbcTemplate, UserModel user) {
+        Quadrant[] quadrants = Quadrant.values();
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO tb_tasks (id, title, description, due_date, is_urgent, is_important, is_completed,
+                                  task_status, quadrant, created_at, user_id, version)
+            VALUES (NEXT VALUE FOR tb_tasks_seq, ?, ?, ?, FALSE, FALSE, FALSE, 'CREATED', ?, CURRENT_TIMESTAMP, ?, 0)
+            """,
+            IntStream.range(0, TASKS)
+                .mapToObj(i -> new Object[] {
+                    "Reactive task " + i,
+                    "Seed data for the reactive reads benchmark",
+                    Date.valueOf(LocalDate.now().plusDays(i % 30)),
+                    quadrants[i % quadrants.length].name(),
+                    user.getId() })
+                .toList());
+    }
+
+    private static HttpRequest request(int port, String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Authorization", "Bearer " + token)
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+    }
+
+    private record Result(
+            double throughput, Duration p99, Map<Integer, Integer> statuses, int peakJdbcConnections) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.marcos.dev.zentasks.zen_task_api.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Enumeration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFileFormat;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskImportResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.TaskImportService;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+/**
+ * Measures POST /v1/tasks/import throughput for a generated NDJSON file, which is
+ * produced line by line so the input itself never sits in memory.
+ * The target is 50k tasks per minute on local Postgres: run with
+ * {@code mvn test -Pbenchmark -Dspring.datasource.url=jdbc:postgresql://localhost/zentasks ...};
+ * against the default H2 test database the figure is only indicative.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Task Import Benchmark")
+class TaskImportBenchmarkTest {
+
+    private static final int TASKS = Integer.getInteger("benchmark.import.tasks", 100_000);
+    private static final long MIN_TASKS_PER_MINUTE = Long.getLong("benchmark.import.min-tasks-per-minute", 50_000);
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UserModel user;
+
+    @BeforeAll
+    void createUser() {
+        user = userRepository.save(UserFactory.create("import_bench_user", "import-bench@example.com", "password123"));
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tb_tasks WHERE user_id = ?", user.getId());
+        userRepository.delete(user);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Import should sustain the target throughput")
+    void importShouldSustainTargetThroughput() {
+        long start = System.nanoTime();
+        TaskImportResultDTO result = taskImportService.importTasks(generateNdjson(TASKS), TaskFileFormat.NDJSON);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double tasksPerMinute = result.imported() / elapsedSeconds * 60;
+
+        BenchmarkReport.log(getClass(), "import of %d tasks: %.2f s, %.0f tasks/min",
+            TASKS, elapsedSeconds, tasksPerMinute);
+
+        assertThat(result.imported()).isEqualTo(TASKS);
+        assertThat(result.failed()).isZero();
+        assertThat(tasksPerMinute).isGreaterThanOrEqualTo(MIN_TASKS_PER_MINUTE);
+    }
+
+    private InputStream generateNdjson(int count) {
+        String dueDate = LocalDate.now().plusDays(30).format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            private int next;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < count;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                int i = next++;
+                String line = "{\"title\":\"Imported task " + i + "\",\"description\":\"Generated by the import benchmark\","
+                    + "\"dueDate\":\"" + dueDate + "\",\"isUrgent\":" + (i % 2 == 0) + ",\"isImportant\":" + (i % 3 == 0) + "}\n";
+                return new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.marcos.dev.zentasks.zen_task_api.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.mappers.TaskMapper;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+/**
+ * Compares the entity read path (findAll + TaskMapper) with the DTO projection
+ * used by TaskServiceImpl, for a user with 10k tasks.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Task Read Path Benchmark")
+class TaskReadPathBenchmarkTest {
+
+    private static final int TASKS_PER_USER = 10_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+    private static final Sort SORT = Sort.by("dueDate", "id");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+    private UserModel user;
+
+    @BeforeAll
+    void seed() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        user = userRepository.save(UserFactory.create("bench_user", "bench@example.com", "password123"));
+
+        Quadrant[] quadrants = Quadrant.values();
+        LocalDate today = LocalDate.now();
+
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO tb_tasks (id, title, description, due_date, is_urgent, is_important, is_completed,
+                                  task_status, quadrant, created_at, user_id, version)
+            VALUES (NEXT VALUE FOR tb_tasks_seq, ?, ?, ?, FALSE, FALSE, FALSE, 'CREATED', ?, CURRENT_TIMESTAMP, ?, 0)
+            """,
+            IntStream.range(0, TASKS_PER_USER)
+                .mapToObj(i -> new Object[] {
+                    "Benchmark task " + i,
+                    "Seed data for the read path benchmark",
+                    Date.valueOf(today.plusDays(i % 365)),
+                    quadrants[i % quadrants.length].name(),
+                    user.getId() })
+                .toList());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tb_tasks WHERE user_id = ?", user.getId());
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("Projection should allocate less than entity hydration")
+    void projectionShouldAllocateLessThanEntities() {
+        Specification<TaskModel> spec = TaskRepository.Specifications.builder()
+            .forUserId(user.getId())
+            .build();
+
+        Measurement entities = measure(() -> readOnlyTransaction.execute(status ->
+            taskMapper.toResponseDTOList(taskRepository.findAll(spec, SORT))));
+
+        Measurement projection = measure(() -> readOnlyTransaction.execute(status ->
+            taskRepository.findResponses(spec, SORT)));
+
+        BenchmarkReport.log(getClass(), "%d tasks | entities: %.2f ms, %d KB | projection: %.2f ms, %d KB",
+            TASKS_PER_USER,
+            entities.meanMillis(), entities.meanAllocatedBytes() / 1024,
+            projection.meanMillis(), projection.meanAllocatedBytes() / 1024);
+
+        assertThat(projection.resultSize()).isEqualTo(TASKS_PER_USER);
+        assertThat(entities.resultSize()).isEqualTo(TASKS_PER_USER);
+        assertThat(projection.meanAllocatedBytes()).isLessThan(entities.meanAllocatedBytes());
+    }
+
+    private Measurement measure(Supplier<List<TaskResponseDTO>> readPath) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int resultSize = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            resultSize = readPath.get().size();
+        }
+
+        long allocatedBytes = 0;
+        long elapsedNanos = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+
+            resultSize = readPath.get().size();
+
+            elapsedNanos += System.nanoTime() - start;
+            allocatedBytes += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+
+        return new Measurement(
+            elapsedNanos / MEASURED_ITERATIONS / 1_000_000.0,
+            allocatedBytes / MEASURED_ITERATIONS,
+            resultSize);
+    }
+
+    private record Measurement(double meanMillis, long meanAllocatedBytes, int resultSize) {
+    }
+}
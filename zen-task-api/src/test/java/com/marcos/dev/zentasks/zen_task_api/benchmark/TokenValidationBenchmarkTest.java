@@ -0,0 +1,88 @@
+package com.marcos.dev.zentasks.zen_task_api.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.TokenService;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+
+/**
+ * Validations per second of the token check SecurityFilter runs on every request:
+ * building the algorithm and verifier per call (the previous TokenService), a
+ * prebuilt verifier, and TokenService with its verified-token cache. No Spring
+ * context, so the numbers are the token path alone.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Token Validation Benchmark")
+class TokenValidationBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret";
+    private static final String ISSUER = "zen-task-api";
+    private static final int ACTIVE_TOKENS = 1_000;
+    private static final int WARMUP_VALIDATIONS = 50_000;
+    private static final int MEASURED_VALIDATIONS = 200_000;
+
+    private TokenService tokenService;
+    private List<String> tokens;
+
+    @BeforeAll
+    void setUp() {
+        tokenService = new TokenService(SECRET, ISSUER, 2, 10_000);
+
+        tokens = IntStream.range(0, ACTIVE_TOKENS)
+            .mapToObj(i -> {
+                UserModel user = UserFactory.create("bench_user_" + i, "bench" + i + "@example.com", "password123");
+                ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+                return tokenService.generateToken(user);
+            })
+            .toList();
+    }
+
+    @Test
+    @DisplayName("Prebuilt verifier and verified-token cache should outrun per-call verification")
+    void cachedValidationShouldOutrunPerCallVerification() {
+        var prebuilt = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer(ISSUER).build();
+
+        double perCall = measure(token -> JWT.require(Algorithm.HMAC256(SECRET))
+            .withIssuer(ISSUER)
+            .build()
+            .verify(token));
+        double reused = measure(prebuilt::verify);
+        double cached = measure(tokenService::verifyToken);
+
+        BenchmarkReport.log(getClass(), "%d active tokens | verifier per call: %.0f/s | prebuilt verifier: %.0f/s"
+                + " | verified-token cache: %.0f/s (%.1fx)",
+            ACTIVE_TOKENS, perCall, reused, cached, cached / perCall);
+
+        assertThat(cached).isGreaterThan(perCall);
+    }
+
+    private double measure(Consumer<String> validation) {
+        for (int i = 0; i < WARMUP_VALIDATIONS; i++) {
+            validation.accept(tokens.get(i % ACTIVE_TOKENS));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_VALIDATIONS; i++) {
+            validation.accept(tokens.get(i % ACTIVE_TOKENS));
+        }
+
+        return MEASURED_VALIDATIONS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
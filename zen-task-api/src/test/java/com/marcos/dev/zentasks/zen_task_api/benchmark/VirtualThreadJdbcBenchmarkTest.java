@@ -0,0 +1,145 @@
+package com.marcos.dev.zentasks.zen_task_api.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.concurrency.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Requests per second and p99 of a JDBC-bound request on Tomcat's default 200
+ * platform threads and on one virtual thread per request, sharing the same Hikari
+ * pool. Each request holds a connection for a simulated database round trip and
+ * then waits on something outside the pool, as a login waits on BCrypt. With
+ * platform threads the worker count caps throughput; with virtual threads the
+ * pool does. Pinned waits seen during the virtual run are reported alongside.
+ * No Spring context. Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Virtual Thread JDBC Benchmark")
+class VirtualThreadJdbcBenchmarkTest {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int POOL_SIZE = 30;
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+    private static final long ROUND_TRIP_MILLIS = 2;
+    private static final long OFF_POOL_WAIT_MILLIS = 20;
+
+    private HikariDataSource dataSource;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:vthreads;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(30_000);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE tb_bench (id INT PRIMARY KEY, user_id INT, title VARCHAR(100))");
+            statement.execute("INSERT INTO tb_bench SELECT x, MOD(x, 100), 'Task ' || x FROM SYSTEM_RANGE(1, 10000)");
+            statement.execute("CREATE INDEX idx_bench_user ON tb_bench (user_id)");
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Virtual threads should outrun the platform worker pool when requests outnumber workers")
+    void virtualThreadsShouldOutrunPlatformWorkers() throws Exception {
+        run(Executors.newFixedThreadPool(PLATFORM_THREADS), REQUESTS / 10); // warm-up
+        Result platform = run(Executors.newFixedThreadPool(PLATFORM_THREADS), REQUESTS);
+
+        VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(Duration.ofMillis(1));
+        pinningMonitor.start();
+        Result virtual;
+        try {
+            virtual = run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+        } finally {
+            pinningMonitor.stop();
+        }
+
+        BenchmarkReport.log(getClass(), "%d requests, %d in flight, Hikari pool %d"
+                + " | %d platform threads: %.0f req/s, p99 %d ms"
+                + " | virtual threads: %.0f req/s, p99 %d ms, %d pinned waits over 1 ms",
+            REQUESTS, CONCURRENT_REQUESTS, POOL_SIZE,
+            PLATFORM_THREADS, platform.throughput(), platform.p99().toMillis(),
+            virtual.throughput(), virtual.p99().toMillis(), pinningMonitor.stats().count());
+
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+    }
+
+    /**
+     * Runs the requests in waves of {@link #CONCURRENT_REQUESTS}, the way clients
+     * keep that many requests open against the server.
+     */
+    private Result run(ExecutorService executor, int requests) throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        long start = System.nanoTime();
+
+        try (executor) {
+            for (int sent = 0; sent < requests; sent += CONCURRENT_REQUESTS) {
+                List<Future<?>> wave = new ArrayList<>(CONCURRENT_REQUESTS);
+                for (int i = 0; i < Math.min(CONCURRENT_REQUESTS, requests - sent); i++) {
+                    int userId = (sent + i) % 100;
+                    long submitted = System.nanoTime();
+                    wave.add(executor.submit(() -> {
+                        handleRequest(userId);
+                        latencies.add(System.nanoTime() - submitted);
+                        return null;
+                    }));
+                }
+                for (Future<?> request : wave) {
+                    request.get();
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(requests / seconds, BenchmarkReport.p99(latencies));
+    }
+
+    private void handleRequest(int userId) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT COUNT(*) FROM tb_bench WHERE user_id = ?")) {
+            statement.setInt(1, userId);
+            Thread.sleep(ROUND_TRIP_MILLIS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+            }
+        }
+
+        Thread.sleep(OFF_POOL_WAIT_MILLIS);
+    }
+
+    private record Result(double throughput, Duration p99) {
+    }
+}
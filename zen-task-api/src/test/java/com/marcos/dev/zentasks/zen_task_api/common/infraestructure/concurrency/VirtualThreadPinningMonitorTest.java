@@ -0,0 +1,92 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.concurrency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Virtual Thread Pinning Monitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        pinningMonitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+        pinningMonitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pinningMonitor.stop();
+    }
+
+    @Test
+    @DisplayName("Should count a virtual thread blocked inside a synchronized block")
+    void shouldCountPinnedSleep() throws Exception {
+        // Synchronized blocks stop pinning from JDK 24 on (JEP 491)
+        assumeTrue(Runtime.version().feature() < 24);
+
+        // When
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        // Then: JFR streams its events about once a second
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (pinningMonitor.stats().count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        VirtualThreadPinningMonitor.PinningStats stats = pinningMonitor.stats();
+        assertThat(stats.count()).isPositive();
+        assertThat(stats.pinnedTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+        assertThat(stats.bySite().keySet()).anySatisfy(site ->
+            assertThat(site).startsWith(VirtualThreadPinningMonitorTest.class.getName() + ".sleepWhileHoldingMonitor:"));
+    }
+
+    @Test
+    @DisplayName("Should stop recording once stopped")
+    void shouldStopRecording() {
+        pinningMonitor.stop();
+
+        assertThat(pinningMonitor.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should count new sites together once the site limit is reached")
+    void shouldCapTrackedSites() {
+        // Given
+        for (int i = 0; i < VirtualThreadPinningMonitor.MAX_SITES; i++) {
+            assertThat(pinningMonitor.countSite("site-" + i)).isTrue();
+        }
+
+        // When
+        boolean newSite = pinningMonitor.countSite("site-overflow");
+        pinningMonitor.countSite("site-another-overflow");
+        pinningMonitor.countSite("site-0");
+
+        // Then
+        assertThat(newSite).isFalse();
+        assertThat(pinningMonitor.stats().bySite())
+            .hasSize(VirtualThreadPinningMonitor.MAX_SITES + 1)
+            .containsEntry(VirtualThreadPinningMonitor.OTHER_SITES, 2L)
+            .containsEntry("site-0", 2L)
+            .doesNotContainKey("site-overflow");
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
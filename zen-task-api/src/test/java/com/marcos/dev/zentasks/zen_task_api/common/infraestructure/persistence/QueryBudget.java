@@ -0,0 +1,17 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a test may run after its last
+ * {@link QueryBudgetExtension#reset()}, checked when the test finishes.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,74 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Counts the SQL statements run on the test thread, including those of MockMvc
+ * requests, so integration tests can pin the query budget of an endpoint.
+ *
+ * <pre>
+ * &#64;RegisterExtension
+ * QueryBudgetExtension queries = new QueryBudgetExtension();
+ *
+ * queries.reset();
+ * mockMvc.perform(get("/v1/tasks/dashboard"));
+ * queries.assertStatementCount(1);
+ * </pre>
+ *
+ * A {@link QueryBudget} on the test method is checked against the statements run
+ * since the last {@link #reset()}.
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private QueryStats start = QueryStats.EMPTY;
+    private boolean opened;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        // The thread may already be counting for someone else, who closes it
+        opened = QueryCounter.open();
+        start = QueryCounter.snapshot();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        try {
+            QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+            if (budget != null && context.getExecutionException().isEmpty()) {
+                assertAtMost(budget.value());
+            }
+        } finally {
+            if (opened) {
+                QueryCounter.close();
+                opened = false;
+            }
+        }
+    }
+
+    /**
+     * Starts counting from zero, typically right after the test data is set up.
+     */
+    public void reset() {
+        start = QueryCounter.snapshot();
+    }
+
+    public long statementCount() {
+        return QueryCounter.snapshot().since(start).statements();
+    }
+
+    public void assertStatementCount(long expected) {
+        assertThat(statementCount())
+            .as("SQL statements executed")
+            .isEqualTo(expected);
+    }
+
+    public void assertAtMost(long budget) {
+        assertThat(statementCount())
+            .as("SQL statements executed (budget %d)", budget)
+            .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,70 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "debug"})
+@Transactional
+@DisplayName("Query Metrics Filter Integration Tests")
+class QueryMetricsFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        UserModel user = userRepository.saveAndFlush(
+            UserFactory.create("Metrics User", "metrics@test.com", "password123"));
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Should report the statement count and JDBC time of the request")
+    void shouldExposeQueryHeaders() throws Exception {
+        // The change tag lookup and the dashboard query
+        mockMvc.perform(get("/v1/tasks/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryMetricsFilter.QUERY_COUNT_HEADER, "2"))
+                .andExpect(header().string(QueryMetricsFilter.SERVER_TIMING_HEADER,
+                    allOf(startsWith("db;dur="), endsWith("desc=\"2 queries\""))))
+                .andExpect(jsonPath("$.doNowTasks").isArray());
+    }
+
+    @Test
+    @DisplayName("Should pass a streamed response through with its body")
+    void shouldPassAsyncResponsesThrough() throws Exception {
+        MvcResult started = mockMvc.perform(get("/v1/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(QueryMetricsFilter.QUERY_COUNT_HEADER))
+                .andExpect(content().string(startsWith("id,title,description,dueDate")));
+    }
+}
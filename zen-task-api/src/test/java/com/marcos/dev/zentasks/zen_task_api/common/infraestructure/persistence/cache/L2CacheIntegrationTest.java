@@ -0,0 +1,194 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.QueryBudgetExtension;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChange;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Not transactional: entries only reach the second-level cache when a transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "l2cache"})
+@DisplayName("Second-Level Cache Integration Tests")
+class L2CacheIntegrationTest {
+
+    @RegisterExtension
+    QueryBudgetExtension queries = new QueryBudgetExtension();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private L2CacheInvalidationListener invalidationListener;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Cache cache;
+    private UserModel user;
+    private TaskModel task;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictAllRegions();
+
+        user = userRepository.save(UserFactory.create("Cache User", "cache@test.com", "password123"));
+        task = taskRepository.save(TaskModel.builder()
+            .title("Uncached Task")
+            .description("Always read from the database")
+            .dueDate(LocalDate.now().plusDays(1))
+            .quadrant(Quadrant.SCHEDULE)
+            .user(user)
+            .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteById(task.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated username lookup without SQL")
+    void shouldServeRepeatedLookupFromCache() {
+        // Given
+        transaction.execute(status -> userRepository.findByUsername(user.getUsername()));
+        queries.reset();
+
+        // When
+        UserModel cached = (UserModel) transaction.execute(status ->
+            userRepository.findByUsername(user.getUsername()).orElseThrow());
+
+        // Then
+        queries.assertStatementCount(0);
+        assertThat(cached.getId()).isEqualTo(user.getId());
+        assertThat(cache.containsEntity(UserModel.class, user.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should read tasks from the database every time")
+    void shouldNotCacheTasks() {
+        // Given
+        transaction.execute(status -> taskRepository.findByIdAndUserId(task.getId(), user.getId()));
+        queries.reset();
+
+        // When
+        transaction.execute(status -> taskRepository.findByIdAndUserId(task.getId(), user.getId()));
+
+        // Then
+        queries.assertStatementCount(1);
+        assertThat(cache.containsEntity(TaskModel.class, task.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached results when this node updates the user")
+    void shouldInvalidateOnLocalUpdate() {
+        // Given
+        transaction.execute(status -> userRepository.findByUsername(user.getUsername()));
+
+        // When
+        transaction.execute(status -> userRepository.updatePasswordHash(user.getId(), "rehashed"));
+        UserModel reloaded = (UserModel) transaction.execute(status ->
+            userRepository.findByUsername(user.getUsername()).orElseThrow());
+
+        // Then
+        assertThat(reloaded.getPassword()).isEqualTo("rehashed");
+    }
+
+    @Test
+    @DisplayName("Should evict the rows another node announced as changed")
+    void shouldEvictOnRemoteNotification() {
+        // Given
+        transaction.execute(status -> userRepository.findByUsername(user.getUsername()));
+        assertThat(cache.containsEntity(UserModel.class, user.getId())).isTrue();
+
+        // When
+        invalidationListener.tableChanged(changed("tb_users", user.getId()));
+        queries.reset();
+        transaction.execute(status -> userRepository.findByUsername(user.getUsername()));
+
+        // Then
+        queries.assertStatementCount(1);
+        assertThat(cache.containsEntity(UserModel.class, user.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should evict again once a replica has had time to replay the write")
+    void shouldEvictAgainAfterReplicaLag() throws InterruptedException {
+        // Given
+        L2CacheInvalidationListener withReplicas = new L2CacheInvalidationListener(
+            entityManagerFactory, true, Duration.ofMillis(200));
+        withReplicas.tableChanged(changed("tb_users", user.getId()));
+
+        // When
+        // The reload a lagging replica could have answered with the old row
+        transaction.execute(status -> userRepository.findByUsername(user.getUsername()));
+        assertThat(cache.containsEntity(UserModel.class, user.getId())).isTrue();
+
+        // Then
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (cache.containsEntity(UserModel.class, user.getId()) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(cache.containsEntity(UserModel.class, user.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore notifications for tables it does not cache")
+    void shouldIgnoreUnknownNotifications() {
+        transaction.execute(status -> userRepository.findByUsername(user.getUsername()));
+
+        invalidationListener.tableChanged(changed("tb_tasks", task.getId()));
+
+        assertThat(cache.containsEntity(UserModel.class, user.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should empty the cache when notifications were missed")
+    void shouldEvictEverythingAfterMissedChanges() {
+        transaction.execute(status -> userRepository.findByUsername(user.getUsername()));
+
+        invalidationListener.changesMissed();
+
+        assertThat(cache.containsEntity(UserModel.class, user.getId())).isFalse();
+    }
+
+    private static TableChange changed(String table, Object id) {
+        return new TableChange(table, List.of(id.toString()), false);
+    }
+}
@@ -0,0 +1,41 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Table Change Tests")
+class TableChangeTest {
+
+    @Test
+    @DisplayName("Should parse the ids of the changed rows")
+    void shouldParseIds() {
+        assertThat(TableChange.parse("tb_users:a,b"))
+            .contains(new TableChange("tb_users", List.of("a", "b"), false));
+    }
+
+    @Test
+    @DisplayName("Should parse a change to too many rows to list")
+    void shouldParseAllRows() {
+        assertThat(TableChange.parse("tb_users:*"))
+            .contains(new TableChange("tb_users", List.of(), true));
+    }
+
+    @Test
+    @DisplayName("Should parse a change without ids")
+    void shouldParseEmptyIds() {
+        assertThat(TableChange.parse("tb_users:"))
+            .contains(new TableChange("tb_users", List.of(), false));
+    }
+
+    @Test
+    @DisplayName("Should reject payloads without a table")
+    void shouldRejectMalformedPayloads() {
+        assertThat(TableChange.parse("garbage")).isEmpty();
+        assertThat(TableChange.parse(":a")).isEmpty();
+        assertThat(TableChange.parse(null)).isEmpty();
+    }
+}
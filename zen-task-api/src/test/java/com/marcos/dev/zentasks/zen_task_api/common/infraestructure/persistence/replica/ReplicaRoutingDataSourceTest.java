@@ -0,0 +1,180 @@
+package com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.replica;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes between two embedded H2 databases, each holding a single row with its own name.
+ */
+@DisplayName("Replica Routing DataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should go to the replica")
+    void readOnlyTransactionsShouldUseReplica() {
+        // Given
+        Router router = new Router(replica);
+
+        // When & Then
+        assertThat(router.readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Read-write transactions should go to the primary")
+    void writeTransactionsShouldUsePrimary() {
+        // Given
+        Router router = new Router(replica);
+
+        // When & Then
+        assertThat(router.writeNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("A user should read from the primary right after committing a write")
+    void userShouldReadOwnWritesFromPrimary() {
+        // Given
+        Router router = new Router(replica);
+        authenticate("alice");
+        router.writeNode();
+
+        // When & Then
+        assertThat(router.readNode()).isEqualTo("primary");
+
+        authenticate("bob");
+        assertThat(router.readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Every statement of a read-only transaction should hit the same replica")
+    void readOnlyTransactionShouldStayOnOneReplica() {
+        // Given
+        Router router = new Router(List.of(replica, embeddedDatabase("replica-b")));
+
+        // When
+        List<String> nodes = router.readOnlyTransaction.execute(
+            status -> List.of(router.currentNode(), router.currentNode()));
+        List<String> nextNodes = router.readOnlyTransaction.execute(
+            status -> List.of(router.currentNode(), router.currentNode()));
+
+        // Then
+        assertThat(nodes).containsExactly("replica", "replica");
+        assertThat(nextNodes).containsExactly("replica-b", "replica-b");
+    }
+
+    @Test
+    @DisplayName("Should fail over to the primary when the replica refuses connections")
+    void shouldFailOverToPrimaryWhenReplicaIsDown() throws SQLException {
+        // Given
+        DataSource downReplica = mock(DataSource.class);
+        when(downReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        Router router = new Router(downReplica);
+
+        // When & Then
+        assertThat(router.readNode()).isEqualTo("primary");
+        assertThat(router.routing.isHealthy("replica-0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Health check should send reads back to a recovered replica")
+    void healthCheckShouldRestoreRecoveredReplica() throws SQLException {
+        // Given
+        DataSource flakyReplica = mock(DataSource.class);
+        when(flakyReplica.getConnection())
+            .thenThrow(new SQLException("Connection refused"))
+            .thenAnswer(invocation -> replica.getConnection());
+        Router router = new Router(flakyReplica);
+        assertThat(router.readNode()).isEqualTo("primary");
+
+        // When
+        router.routing.checkReplicas(1);
+
+        // Then
+        assertThat(router.routing.isHealthy("replica-0")).isTrue();
+        assertThat(router.readNode()).isEqualTo("replica");
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private DataSource embeddedDatabase(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+
+        return dataSource;
+    }
+
+    private class Router {
+        private final ReplicaRoutingDataSource routing;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnlyTransaction;
+        private final TransactionTemplate writeTransaction;
+
+        Router(DataSource replicaDataSource) {
+            this(List.of(replicaDataSource));
+        }
+
+        Router(List<DataSource> replicaDataSources) {
+            routing = new ReplicaRoutingDataSource(
+                primary, replicaDataSources, new ReadYourWritesTracker(Duration.ofMinutes(1)));
+
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            readOnlyTransaction = new TransactionTemplate(transactionManager);
+            readOnlyTransaction.setReadOnly(true);
+            writeTransaction = new TransactionTemplate(transactionManager);
+        }
+
+        String readNode() {
+            return readOnlyTransaction.execute(status -> currentNode());
+        }
+
+        String writeNode() {
+            return writeTransaction.execute(status -> currentNode());
+        }
+
+        private String currentNode() {
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -20,6 +21,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AuthenticationDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.RegisterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
 
 @SpringBootTest
@@ -147,6 +150,26 @@ class AuthenticationWorkflowIntegrationTest {
         assertThat(token1).isNotEqualTo(token2);
     }
 
+    @Test
+    @DisplayName("Should rehash a password stored with a lower cost on successful login")
+    void shouldUpgradeWeakerPasswordHashOnLogin() throws Exception {
+        // Given
+        UserModel legacyUser = userRepository.save(UserFactory.create(
+                "legacy_user", "legacy@example.com", "legacyPassword123", new BCryptPasswordEncoder(4)));
+        assertThat(legacyUser.getPasswordHash()).startsWith("$2a$04$");
+
+        // When
+        mockMvc.perform(post("/v1/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AuthenticationDTO("legacy_user", "legacyPassword123"))))
+                .andExpect(status().isOk());
+
+        // Then
+        UserModel upgraded = userRepository.findById(legacyUser.getId()).orElseThrow();
+        assertThat(upgraded.getPasswordHash()).startsWith("$2a$10$");
+        assertThat(new BCryptPasswordEncoder().matches("legacyPassword123", upgraded.getPasswordHash())).isTrue();
+    }
+
     @Test
     @DisplayName("Should prevent authentication with wrong credentials")
     void shouldPreventAuthenticationWithWrongCredentials() throws Exception {
@@ -0,0 +1,185 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+/**
+ * The R2DBC connection reads the committed state of the same in-memory database,
+ * so the tasks are saved outside a test transaction and removed afterwards.
+ */
+@SpringBootTest(properties = {
+    "api.tasks.reactive-reads.url=r2dbc:h2:mem:///testdb",
+    "api.tasks.reactive-reads.username=sa",
+    "api.tasks.reactive-reads.password=" })
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test", "reactive-reads" })
+@DisplayName("Reactive Task Read Controller Integration Tests")
+class ReactiveTaskReadControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private UserModel testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(UserFactory.create(
+            "Reactive Test User",
+            "reactive@test.com",
+            "password123"
+        ));
+
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(testUser, null, testUser.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        taskRepository.deleteAll(taskRepository.findByUser(testUser));
+        userRepository.delete(testUser);
+    }
+
+    @Test
+    @DisplayName("Should bucket the dashboard tasks as the JPA dashboard does")
+    void shouldBucketDashboardTasks() throws Exception {
+        // Given
+        TaskModel overdue = saveTask("Overdue Task", Quadrant.SCHEDULE, LocalDate.now().plusDays(1));
+        ReflectionTestUtils.setField(overdue, "dueDate", LocalDate.now().minusDays(2));
+        taskRepository.save(overdue);
+        saveTask("Today Do Now Task", Quadrant.DO_NOW, LocalDate.now());
+        saveTask("Later Task", Quadrant.DELEGATE, LocalDate.now().plusDays(5));
+
+        // When & Then
+        performAsync(get("/v1/tasks/dashboard"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andExpect(jsonPath("$.overdueTasks.length()").value(1))
+            .andExpect(jsonPath("$.overdueTasks[0].title").value("Overdue Task"))
+            .andExpect(jsonPath("$.todayTasks.length()").value(1))
+            .andExpect(jsonPath("$.doNowTasks.length()").value(1))
+            .andExpect(jsonPath("$.doNowTasks[0].title").value("Today Do Now Task"));
+    }
+
+    @Test
+    @DisplayName("Should page the filtered listing with the same cursor")
+    void shouldPageFilteredListing() throws Exception {
+        // Given
+        saveTask("First Task", Quadrant.DO_NOW, LocalDate.now().plusDays(1));
+        saveTask("Second Task", Quadrant.DO_NOW, LocalDate.now().plusDays(2));
+        saveTask("Third Task", Quadrant.DO_NOW, LocalDate.now().plusDays(3));
+        saveTask("Other Quadrant Task", Quadrant.ELIMINATE, LocalDate.now().plusDays(1));
+
+        // When
+        MvcResult firstPage = performAsync(get("/v1/tasks").param("quadrant", "DO_NOW").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].title").value("First Task"))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andReturn();
+        JsonNode body = objectMapper.readTree(firstPage.getResponse().getContentAsString());
+
+        // Then
+        performAsync(get("/v1/tasks")
+                .param("quadrant", "DO_NOW")
+                .param("size", "2")
+                .param("cursor", body.get("nextCursor").asText()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].title").value("Third Task"))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Should group the week by due date")
+    void shouldGroupWeekByDueDate() throws Exception {
+        // Given
+        LocalDate weekStart = LocalDate.now().plusDays(1);
+        saveTask("Monday Task", Quadrant.DO_NOW, weekStart);
+        saveTask("Another Monday Task", Quadrant.SCHEDULE, weekStart);
+        saveTask("Friday Task", Quadrant.DELEGATE, weekStart.plusDays(4));
+        saveTask("Next Week Task", Quadrant.DELEGATE, weekStart.plusDays(7));
+
+        // When & Then
+        performAsync(get("/v1/tasks/weekly/{weekStartDate}", weekStart))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$['" + weekStart + "'].length()").value(2))
+            .andExpect(jsonPath("$['" + weekStart.plusDays(4) + "'].length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the change tag")
+    void shouldAnswerNotModified() throws Exception {
+        // Given
+        saveTask("Conditional Task", Quadrant.DO_NOW, LocalDate.now().plusDays(1));
+        String etag = performAsync(get("/v1/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, private"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        performAsync(get("/v1/tasks").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag));
+    }
+
+    /**
+     * Performs the request and, once the Mono has completed, the async dispatch that
+     * writes its response.
+     */
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private TaskModel saveTask(String title, Quadrant quadrant, LocalDate dueDate) {
+        return taskRepository.save(TaskModel.builder()
+            .title(title)
+            .description("Description for " + title)
+            .dueDate(dueDate)
+            .quadrant(quadrant)
+            .user(testUser)
+            .build());
+    }
+}
@@ -4,11 +4,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -18,13 +24,25 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.QueryBudget;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.QueryBudgetExtension;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkMoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkStatusDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.MoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.UpdateTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
 
+import jakarta.persistence.EntityManager;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -44,6 +62,15 @@ class TaskControllerIntegrationTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${api.tasks.pagination.max-size}")
+    private int maxPageSize;
+
+    @RegisterExtension
+    QueryBudgetExtension queries = new QueryBudgetExtension();
+
     private UserModel testUser;
 
     @BeforeEach
@@ -336,4 +363,518 @@ class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.description").value("Testing headers"))
                 .andExpect(jsonPath("$.taskStatus").value("CREATED"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should paginate GET /v1/tasks with an opaque keyset cursor")
+    void shouldPaginateTasksWithKeysetCursor() throws Exception {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            taskRepository.save(TaskModel.builder()
+                .title("Paged Task " + i)
+                .description("Task used to test pagination")
+                .dueDate(LocalDate.now().plusDays(i % 2))
+                .urgent(true)
+                .important(true)
+                .user(testUser)
+                .build());
+        }
+
+        Set<Long> seenIds = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+
+        // When - follow the cursor until the last page
+        do {
+            var request = get("/v1/tasks").param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("items").forEach(item -> seenIds.add(item.get("id").asLong()));
+
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assert pages == 3;
+        assert seenIds.size() == 5;
+    }
+
+    @Test
+    @DisplayName("Should cap the page size at the configured maximum")
+    void shouldCapPageSizeAtConfiguredMaximum() throws Exception {
+        // Given
+        for (int i = 0; i <= maxPageSize; i++) {
+            saveTask("Capped Task " + i, Quadrant.SCHEDULE, testUser);
+        }
+
+        // When & Then
+        mockMvc.perform(get("/v1/tasks").param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(maxPageSize))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a malformed cursor")
+    void shouldReturn400ForMalformedCursor() throws Exception {
+        mockMvc.perform(get("/v1/tasks").param("cursor", "not-a-valid-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should search tasks via GET /v1/tasks/search")
+    void shouldSearchTasks() throws Exception {
+        saveTask("Renew passport", Quadrant.SCHEDULE, testUser);
+        saveTask("Buy groceries", Quadrant.DELEGATE, testUser);
+
+        mockMvc.perform(get("/v1/tasks/search").param("q", "passport"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].task.title").value("Renew passport"))
+                .andExpect(jsonPath("$[0].titleHighlight").value("Renew <mark>passport</mark>"));
+    }
+
+    @Test
+    @DisplayName("Should suggest task titles via GET /v1/tasks/suggest")
+    void shouldSuggestTaskTitles() throws Exception {
+        TaskModel task = saveTask("Renew passport", Quadrant.SCHEDULE, testUser);
+        saveTask("Buy groceries", Quadrant.DELEGATE, testUser);
+
+        mockMvc.perform(get("/v1/tasks/suggest").param("q", "pass"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(task.getId()))
+                .andExpect(jsonPath("$[0].title").value("Renew passport"));
+    }
+
+    @Test
+    @DisplayName("Should serve the task summary from the counters with a single statement")
+    void shouldServeTaskSummaryFromCounters() throws Exception {
+        // Given
+        for (boolean urgent : new boolean[] {true, false}) {
+            mockMvc.perform(post("/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new CreateTaskDTO(
+                        "Summary Task", "Counted on creation", LocalDate.now().plusDays(1), urgent, true))))
+                    .andExpect(status().isCreated());
+        }
+        startCountingStatements();
+
+        // When & Then
+        mockMvc.perform(get("/v1/tasks/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byQuadrant.DO_NOW").value(1))
+                .andExpect(jsonPath("$.byQuadrant.SCHEDULE").value(1))
+                .andExpect(jsonPath("$.byQuadrant.ELIMINATE").value(0))
+                .andExpect(jsonPath("$.byStatus.CREATED").value(2))
+                .andExpect(jsonPath("$.byQuadrantAndStatus.DO_NOW.CREATED").value(1));
+        queries.assertStatementCount(1);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown export format")
+    void shouldReturn400ForUnknownExportFormat() throws Exception {
+        mockMvc.perform(get("/v1/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should import a CSV file via POST /v1/tasks/import")
+    void shouldImportCsvFile() throws Exception {
+        String csv = "title,description,dueDate\n"
+            + "Imported task,Created from a CSV file," + LocalDate.now().plusDays(1) + "\n";
+
+        mockMvc.perform(post("/v1/tasks/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(1))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject CSV rows whose flags are neither true nor false")
+    void shouldRejectCsvRowsWithInvalidFlags() throws Exception {
+        LocalDate dueDate = LocalDate.now().plusDays(1);
+        String csv = "title,description,dueDate,isUrgent,isImportant\n"
+            + "Valid task,Flags in any case," + dueDate + ",TRUE,false\n"
+            + "Typo task,Urgent flag misspelled," + dueDate + ",ture,false\n"
+            + "Yes task,Important flag as yes," + dueDate + ",false,yes\n";
+
+        mockMvc.perform(post("/v1/tasks/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(3))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[1].line").value(4));
+    }
+
+    @Test
+    @DisplayName("Should return 415 when importing an unsupported content type")
+    void shouldReturn415ForUnsupportedImportContentType() throws Exception {
+        mockMvc.perform(post("/v1/tasks/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @DisplayName("Should create every task of a valid batch via POST /v1/tasks/batch")
+    void shouldCreateAllTasksOfValidBatch() throws Exception {
+        // Given
+        List<CreateTaskDTO> batch = List.of(
+            new CreateTaskDTO("Batch Task 1", "First task of the batch", LocalDate.now(), true, true),
+            new CreateTaskDTO("Batch Task 2", "Second task of the batch", LocalDate.now().plusDays(1), false, true),
+            new CreateTaskDTO("Batch Task 3", "Third task of the batch", LocalDate.now().plusDays(2), false, false));
+
+        // When & Then
+        mockMvc.perform(post("/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.created").value(3))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].task.id").exists())
+                .andExpect(jsonPath("$.results[2].task.quadrant").value("ELIMINATE"));
+
+        assert taskRepository.findByUser(testUser).size() == 3;
+    }
+
+    @Test
+    @DisplayName("Should report a result for each item of a partially invalid batch")
+    void shouldReportPerItemResultsForPartiallyInvalidBatch() throws Exception {
+        // Given
+        List<CreateTaskDTO> batch = List.of(
+            new CreateTaskDTO("Valid Batch Task", "This one is valid", LocalDate.now().plusDays(1), true, false),
+            new CreateTaskDTO("", "Blank title", LocalDate.now().plusDays(1), false, false),
+            new CreateTaskDTO("Past Batch Task", "Due date in the past", LocalDate.now().minusDays(1), false, false));
+
+        // When & Then
+        mockMvc.perform(post("/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].created").value(true))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].created").value(false))
+                .andExpect(jsonPath("$.results[1].errors").isNotEmpty())
+                .andExpect(jsonPath("$.results[2].created").value(false));
+
+        assert taskRepository.findByUser(testUser).size() == 1;
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an empty batch")
+    void shouldReturn400ForEmptyBatch() throws Exception {
+        mockMvc.perform(post("/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a null batch")
+    void shouldReturn400ForNullBatch() throws Exception {
+        mockMvc.perform(post("/v1/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("null"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should move only the owner's modifiable tasks via PATCH /v1/tasks/move")
+    void shouldMoveOwnedModifiableTasksInBulk() throws Exception {
+        // Given
+        TaskModel first = saveTask("Bulk Task 1", Quadrant.ELIMINATE, testUser);
+        TaskModel second = saveTask("Bulk Task 2", Quadrant.ELIMINATE, testUser);
+        TaskModel completed = saveTask("Bulk Task 3", Quadrant.ELIMINATE, testUser);
+        completed.updateStatus(TaskStatus.DONE);
+        taskRepository.save(completed);
+
+        UserModel otherUser = userRepository.save(UserFactory.create("Other Bulk User", "other-bulk@test.com", "password123"));
+        TaskModel foreign = saveTask("Foreign Task", Quadrant.ELIMINATE, otherUser);
+
+        BulkMoveQuadrantDTO request = new BulkMoveQuadrantDTO(
+            List.of(first.getId(), second.getId(), completed.getId(), foreign.getId(), first.getId()),
+            Quadrant.SCHEDULE);
+
+        // When & Then
+        mockMvc.perform(patch("/v1/tasks/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(4))
+                .andExpect(jsonPath("$.updated").value(2));
+
+        assert taskRepository.findById(first.getId()).orElseThrow().getQuadrant() == Quadrant.SCHEDULE;
+        assert taskRepository.findById(first.getId()).orElseThrow().isImportant();
+        assert taskRepository.findById(completed.getId()).orElseThrow().getQuadrant() == Quadrant.ELIMINATE;
+        assert taskRepository.findById(foreign.getId()).orElseThrow().getQuadrant() == Quadrant.ELIMINATE;
+    }
+
+    @Test
+    @DisplayName("Should move every task matching the filter via PATCH /v1/tasks/move/by-filter")
+    void shouldMoveTasksMatchingFilter() throws Exception {
+        // Given
+        saveTask("Eliminate Task 1", Quadrant.ELIMINATE, testUser);
+        saveTask("Eliminate Task 2", Quadrant.ELIMINATE, testUser);
+        saveTask("Schedule Task", Quadrant.SCHEDULE, testUser);
+
+        // When & Then
+        mockMvc.perform(patch("/v1/tasks/move/by-filter")
+                .param("quadrant", "ELIMINATE")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveQuadrantDTO(Quadrant.DELEGATE))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        assert taskRepository.findByUserAndQuadrant(testUser, Quadrant.DELEGATE).size() == 2;
+        assert taskRepository.findByUserAndQuadrant(testUser, Quadrant.ELIMINATE).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should complete tasks and skip locked ones via PATCH /v1/tasks/status")
+    void shouldUpdateStatusInBulkSkippingLockedTasks() throws Exception {
+        // Given
+        TaskModel open = saveTask("Open Task", Quadrant.DO_NOW, testUser);
+        TaskModel closed = saveTask("Closed Task", Quadrant.DO_NOW, testUser);
+        closed.updateStatus(TaskStatus.CLOSED);
+        taskRepository.save(closed);
+
+        BulkStatusDTO request = new BulkStatusDTO(List.of(open.getId(), closed.getId()), TaskStatus.DONE);
+
+        // When & Then
+        mockMvc.perform(patch("/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.updated").value(1));
+
+        TaskModel done = taskRepository.findById(open.getId()).orElseThrow();
+        assert done.getStatus() == TaskStatus.DONE;
+        assert done.isCompleted();
+        assert taskRepository.findById(closed.getId()).orElseThrow().getStatus() == TaskStatus.CLOSED;
+    }
+
+    @Test
+    @DisplayName("Should keep completion of done tasks and reopen them via PATCH /v1/tasks/status")
+    void shouldKeepCompletionOfDoneTasksAndReopenThem() throws Exception {
+        // Given
+        TaskModel task = saveTask("Done Task", Quadrant.DO_NOW, testUser);
+        BulkStatusDTO done = new BulkStatusDTO(List.of(task.getId()), TaskStatus.DONE);
+        mockMvc.perform(patch("/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(done)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+        LocalDateTime completedAt = taskRepository.findById(task.getId()).orElseThrow().getCompletedAt();
+
+        // When & Then
+        mockMvc.perform(patch("/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(done)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(0));
+        assert completedAt.equals(taskRepository.findById(task.getId()).orElseThrow().getCompletedAt());
+
+        mockMvc.perform(patch("/v1/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkStatusDTO(List.of(task.getId()), TaskStatus.IN_PROGRESS))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+
+        TaskModel reopened = taskRepository.findById(task.getId()).orElseThrow();
+        assert reopened.getStatus() == TaskStatus.IN_PROGRESS;
+        assert !reopened.isCompleted();
+        assert reopened.getCompletedAt() == null;
+    }
+
+    @Test
+    @DisplayName("Should send the task version as ETag and enforce If-Match on PATCH")
+    void shouldEnforceIfMatchWithTaskVersion() throws Exception {
+        // Given
+        TaskModel task = saveTask("Versioned Task", Quadrant.ELIMINATE, testUser);
+        UpdateTaskDTO update = new UpdateTaskDTO(
+            "Edited Versioned Task", "Edited description", LocalDate.now().plusDays(2), null, null, null);
+        startCountingStatements();
+
+        // When & Then
+        mockMvc.perform(get("/v1/tasks/{id}", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version").doesNotExist());
+
+        mockMvc.perform(patch("/v1/tasks/{id}", task.getId())
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"1\""));
+
+        mockMvc.perform(patch("/v1/tasks/{id}", task.getId())
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/v1/tasks/move/{id}", task.getId())
+                .header("If-Match", "W/\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveQuadrantDTO(Quadrant.DO_NOW))))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/v1/tasks/move/{id}", task.getId())
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveQuadrantDTO(Quadrant.DO_NOW))))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"2\""));
+
+        mockMvc.perform(patch("/v1/tasks/{id}", task.getId())
+                .header("If-Match", "\"0\", W/\"2\", \"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        mockMvc.perform(patch("/v1/tasks/{id}", task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    @DisplayName("List views should answer 304 from the change tag without the list query")
+    void listViewsShouldAnswerNotModifiedFromChangeTag() throws Exception {
+        // Given
+        saveTask("Conditional Task", Quadrant.DO_NOW, testUser);
+        startCountingStatements();
+
+        for (String path : List.of("/v1/tasks", "/v1/tasks/dashboard", "/v1/tasks/weekly/" + LocalDate.now())) {
+            queries.reset();
+            String etag = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(header().string("Cache-Control", "no-cache, private"))
+                    .andReturn().getResponse().getHeader("ETag");
+            // The weekly view also reads the archive segments overlapping the week
+            queries.assertStatementCount(path.contains("/weekly/") ? 3 : 2);
+
+            // When & Then
+            queries.reset();
+            mockMvc.perform(get(path).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag));
+            // Only the change tag lookup
+            queries.assertStatementCount(1);
+
+            mockMvc.perform(get(path).header("If-None-Match", "\"stale\""))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @DisplayName("Read endpoints should each run a single query besides the change tag")
+    void readEndpointsShouldRunSingleStatement() throws Exception {
+        // Given
+        TaskModel task = saveTask("Budget Task", Quadrant.DO_NOW, testUser);
+        saveTask("Another Budget Task", Quadrant.SCHEDULE, testUser);
+        startCountingStatements();
+
+        // When & Then
+        mockMvc.perform(get("/v1/tasks/{id}", task.getId())).andExpect(status().isOk());
+        queries.assertStatementCount(1);
+
+        queries.reset();
+        // List views also look up the change tag
+        mockMvc.perform(get("/v1/tasks")).andExpect(status().isOk());
+        queries.assertStatementCount(2);
+
+        queries.reset();
+        // Plus the archive segments overlapping the week
+        mockMvc.perform(get("/v1/tasks/weekly/{weekStartDate}", LocalDate.now())).andExpect(status().isOk());
+        queries.assertStatementCount(3);
+    }
+
+    @Test
+    @QueryBudget(2)
+    @DisplayName("Dashboard should stay within a two statement budget")
+    void dashboardShouldStayWithinBudget() throws Exception {
+        // Given
+        saveTask("Dashboard Task 1", Quadrant.DO_NOW, testUser);
+        saveTask("Dashboard Task 2", Quadrant.DO_NOW, testUser);
+        startCountingStatements();
+
+        // When & Then
+        mockMvc.perform(get("/v1/tasks/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.doNowTasks.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("Write endpoints should stay within their statement budgets")
+    void writeEndpointsShouldStayWithinStatementBudgets() throws Exception {
+        // Given
+        TaskModel task = saveTask("Budget Write Task", Quadrant.ELIMINATE, testUser);
+        startCountingStatements();
+
+        // When & Then
+        mockMvc.perform(patch("/v1/tasks/{id}", task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateTaskDTO(
+                    "Edited Budget Task", "Edited description", LocalDate.now().plusDays(2), null, null, null))))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"1\""));
+        // Without If-Match the row is locked to learn the version, then updated,
+        // and every write bumps the change version
+        queries.assertStatementCount(3);
+
+        queries.reset();
+        mockMvc.perform(patch("/v1/tasks/move/{id}", task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MoveQuadrantDTO(Quadrant.DO_NOW))))
+                .andExpect(status().isNoContent());
+        // Lock, UPDATE, counter upsert and change version bump
+        queries.assertStatementCount(4);
+
+        queries.reset();
+        mockMvc.perform(delete("/v1/tasks/{id}", task.getId()))
+                .andExpect(status().isNoContent());
+        queries.assertStatementCount(4);
+    }
+
+    private void startCountingStatements() {
+        entityManager.flush();
+        entityManager.clear();
+        queries.reset();
+    }
+
+    private TaskModel saveTask(String title, Quadrant quadrant, UserModel owner) {
+        return taskRepository.save(TaskModel.builder()
+            .title(title)
+            .description("Task used to test bulk updates")
+            .dueDate(LocalDate.now().plusDays(1))
+            .quadrant(quadrant)
+            .user(owner)
+            .build());
+    }
+}
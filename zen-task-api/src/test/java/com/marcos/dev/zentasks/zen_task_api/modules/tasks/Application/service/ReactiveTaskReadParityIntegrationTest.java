@@ -0,0 +1,201 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSliceDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskArchiveEntryRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskArchiveSegmentRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+/**
+ * Runs the same reads through the JPA {@link TaskService} and the R2DBC
+ * {@link ReactiveTaskReadService} on the same rows, which must give the same DTOs.
+ * The R2DBC connection reads the committed state of the same in-memory database,
+ * so the tasks are saved outside a test transaction and removed afterwards.
+ */
+@SpringBootTest(properties = {
+    "api.tasks.reactive-reads.url=r2dbc:h2:mem:///testdb",
+    "api.tasks.reactive-reads.username=sa",
+    "api.tasks.reactive-reads.password=" })
+@ActiveProfiles({ "test", "reactive-reads" })
+@DisplayName("Reactive Task Read Parity Integration Tests")
+class ReactiveTaskReadParityIntegrationTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReactiveTaskReadService reactiveTaskReadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskArchiveSegmentRepository segmentRepository;
+
+    @Autowired
+    private TaskArchiveEntryRepository entryRepository;
+
+    private UserModel testUser;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        testUser = userRepository.save(UserFactory.create(
+            "Parity Test User",
+            "parity@test.com",
+            "password123"
+        ));
+
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(testUser, null, testUser.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        TaskModel overdue = saveTask("Overdue Task", Quadrant.SCHEDULE, today.plusDays(1), TaskStatus.CREATED);
+        ReflectionTestUtils.setField(overdue, "dueDate", today.minusDays(2));
+        taskRepository.save(overdue);
+
+        saveTask("Today Do Now Task", Quadrant.DO_NOW, today, TaskStatus.CREATED);
+        saveTask("Today In Progress Task", Quadrant.DO_NOW, today, TaskStatus.IN_PROGRESS);
+        saveTask("Same Day Task A", Quadrant.SCHEDULE, today.plusDays(2), TaskStatus.CREATED);
+        saveTask("Same Day Task B", Quadrant.SCHEDULE, today.plusDays(2), TaskStatus.IN_PROGRESS);
+        saveTask("Done Task", Quadrant.DELEGATE, today.plusDays(3), TaskStatus.DONE);
+        saveTask("Canceled Task", Quadrant.ELIMINATE, today.plusDays(4), TaskStatus.CANCELED);
+        saveTask("Next Week Task", Quadrant.DELEGATE, today.plusDays(9), TaskStatus.CREATED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        taskRepository.deleteAll(taskRepository.findByUser(testUser));
+        entryRepository.deleteAll();
+        segmentRepository.deleteAll();
+        userRepository.delete(testUser);
+    }
+
+    @Test
+    @DisplayName("Should list every page of every filter exactly as JPA does")
+    void shouldListFilteredPagesLikeJpa() {
+        List<TaskFilterDTO> filters = List.of(
+            new TaskFilterDTO(null, null, null, null, null),
+            new TaskFilterDTO(Quadrant.DO_NOW, null, null, null, null),
+            new TaskFilterDTO(Quadrant.SCHEDULE, TaskStatus.IN_PROGRESS, null, null, null),
+            new TaskFilterDTO(null, TaskStatus.DONE, null, null, null),
+            new TaskFilterDTO(null, null, today, today.plusDays(3), null),
+            new TaskFilterDTO(null, null, today.plusDays(2), null, null),
+            new TaskFilterDTO(null, null, null, today.plusDays(2), null),
+            new TaskFilterDTO(null, null, null, null, true),
+            new TaskFilterDTO(null, null, null, null, false),
+            new TaskFilterDTO(Quadrant.DELEGATE, null, today, today.plusDays(30), false));
+
+        for (TaskFilterDTO filter : filters) {
+            List<TaskSliceDTO> jpaPages = allPages(filter, false);
+            List<TaskSliceDTO> reactivePages = allPages(filter, true);
+
+            assertThat(reactivePages).as("páginas de %s", filter).isEqualTo(jpaPages);
+        }
+    }
+
+    @Test
+    @DisplayName("Should bucket the dashboard exactly as JPA does")
+    void shouldBuildDashboardLikeJpa() {
+        assertThat(reactiveTaskReadService.getDashboardTasks().block())
+            .isEqualTo(taskService.getDashboardTasks());
+    }
+
+    @Test
+    @DisplayName("Should group the week exactly as JPA does")
+    void shouldBuildWeeklyViewLikeJpa() {
+        for (LocalDate weekStart : List.of(today.minusDays(3), today, today.plusDays(5))) {
+            assertThat(reactiveTaskReadService.getWeeklyView(weekStart).block())
+                .as("semana de %s", weekStart)
+                .isEqualTo(taskService.getWeeklyView(weekStart));
+        }
+    }
+
+    @Test
+    @DisplayName("Should merge archived tasks into the week exactly as JPA does")
+    void shouldMergeArchivedTasksIntoWeeklyViewLikeJpa() {
+        // Given
+        TaskModel archived = saveTask("Archived Task", Quadrant.DELEGATE, today.plusDays(1), TaskStatus.DONE);
+        ReflectionTestUtils.setField(archived, "completedAt", LocalDateTime.now().minusDays(60));
+        taskRepository.save(archived);
+        taskArchiveService.archiveFinishedTasks();
+
+        // When
+        Map<LocalDate, List<TaskResponseDTO>> jpaWeek = taskService.getWeeklyView(today);
+        Map<LocalDate, List<TaskResponseDTO>> reactiveWeek = reactiveTaskReadService.getWeeklyView(today).block();
+
+        // Then
+        assertThat(taskRepository.findById(archived.getId())).isEmpty();
+        assertThat(jpaWeek.get(today.plusDays(1)))
+            .extracting(TaskResponseDTO::id)
+            .containsExactly(archived.getId());
+        assertThat(reactiveWeek).isEqualTo(jpaWeek);
+    }
+
+    private List<TaskSliceDTO> allPages(TaskFilterDTO filter, boolean reactive) {
+        List<TaskSliceDTO> pages = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            TaskSliceDTO page = reactive
+                ? reactiveTaskReadService.findTasksByFilter(filter, cursor, PAGE_SIZE).block()
+                : taskService.findTasksByFilter(filter, cursor, PAGE_SIZE);
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        return pages;
+    }
+
+    private TaskModel saveTask(String title, Quadrant quadrant, LocalDate dueDate, TaskStatus status) {
+        TaskModel task = taskRepository.save(TaskModel.builder()
+            .title(title)
+            .description("Description for " + title)
+            .dueDate(dueDate)
+            .quadrant(quadrant)
+            .user(testUser)
+            .build());
+
+        if (status != TaskStatus.CREATED) {
+            task.updateStatus(status);
+            task = taskRepository.save(task);
+        }
+        return task;
+    }
+}
@@ -0,0 +1,281 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BusinessRuleException;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.ResourceNotFoundException;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.MoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSliceDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskArchiveEntryRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskArchiveSegmentRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Task Archive Service Integration Tests")
+class TaskArchiveServiceIntegrationTest {
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskArchiveSegmentRepository segmentRepository;
+
+    @Autowired
+    private TaskArchiveEntryRepository entryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserModel testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(UserFactory.create("Archive User", "archive@test.com", "password123"));
+
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(testUser, null, testUser.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @Test
+    @DisplayName("Should move old finished tasks to an archive segment")
+    void shouldMoveOldFinishedTasksToArchiveSegment() {
+        // Given
+        TaskModel oldDone = saveTask("Old done", 1, TaskStatus.DONE, 60);
+        TaskModel oldCanceled = saveTask("Old canceled", 2, TaskStatus.CANCELED, 45);
+        TaskModel recentDone = saveTask("Recent done", 3, TaskStatus.DONE, 1);
+        TaskModel open = saveTask("Open", 4, null, 0);
+        entityManager.flush();
+
+        // When
+        int archived = taskArchiveService.archiveFinishedTasks();
+        entityManager.clear();
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        assertThat(taskRepository.findById(oldDone.getId())).isEmpty();
+        assertThat(taskRepository.findById(oldCanceled.getId())).isEmpty();
+        assertThat(taskRepository.findById(recentDone.getId())).isPresent();
+        assertThat(taskRepository.findById(open.getId())).isPresent();
+        assertThat(segmentRepository.findAll())
+            .singleElement()
+            .satisfies(segment -> {
+                assertThat(segment.getUserId()).isEqualTo(testUser.getId());
+                assertThat(segment.getTaskCount()).isEqualTo(2);
+            });
+        assertThat(entryRepository.findByTaskIdAndUserId(oldDone.getId(), testUser.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should list archived tasks only when the filter asks for finished tasks or a date range")
+    void shouldListArchivedTasksOnlyForHistoryFilters() {
+        // Given
+        TaskModel oldDone = saveTask("Old done", 1, TaskStatus.DONE, 60);
+        TaskModel recentDone = saveTask("Recent done", 2, TaskStatus.DONE, 1);
+        TaskModel open = saveTask("Open", 3, null, 0);
+        entityManager.flush();
+
+        taskArchiveService.archiveFinishedTasks();
+        entityManager.clear();
+
+        // When
+        TaskSliceDTO completed = taskService.findTasksByFilter(
+            new TaskFilterDTO(null, null, null, null, true), null, null);
+        TaskSliceDTO all = taskService.findTasksByFilter(
+            new TaskFilterDTO(null, null, null, null, null), null, null);
+        TaskSliceDTO range = taskService.findTasksByFilter(
+            new TaskFilterDTO(null, null, LocalDate.now(), LocalDate.now().plusDays(3), null), null, null);
+        TaskSliceDTO openOnly = taskService.findTasksByFilter(
+            new TaskFilterDTO(null, TaskStatus.CREATED, null, null, false), null, null);
+
+        // Then
+        assertThat(ids(completed.items())).containsExactly(oldDone.getId(), recentDone.getId());
+        assertThat(completed.hasNext()).isFalse();
+        assertThat(ids(all.items())).containsExactly(recentDone.getId(), open.getId());
+        assertThat(ids(range.items())).containsExactly(oldDone.getId(), recentDone.getId(), open.getId());
+        assertThat(ids(openOnly.items())).containsExactly(open.getId());
+    }
+
+    @Test
+    @DisplayName("Should list an archived canceled task that was never completed by its status")
+    void shouldListArchivedCanceledTaskByStatus() {
+        // Given
+        TaskModel oldCanceled = saveTask("Old canceled", 1, TaskStatus.CANCELED, 45);
+        TaskModel open = saveTask("Open", 2, null, 0);
+        entityManager.flush();
+
+        taskArchiveService.archiveFinishedTasks();
+        entityManager.clear();
+
+        // When
+        TaskSliceDTO canceled = taskService.findTasksByFilter(
+            new TaskFilterDTO(null, TaskStatus.CANCELED, null, null, null), null, null);
+        TaskSliceDTO incomplete = taskService.findTasksByFilter(
+            new TaskFilterDTO(null, null, null, null, false), null, null);
+
+        // Then
+        assertThat(taskRepository.findById(oldCanceled.getId())).isEmpty();
+        assertThat(ids(canceled.items())).containsExactly(oldCanceled.getId());
+        assertThat(ids(incomplete.items())).containsExactly(open.getId());
+    }
+
+    @Test
+    @DisplayName("Should page through hot and archived tasks in due date order")
+    void shouldPageThroughHotAndArchivedTasks() {
+        // Given
+        TaskModel first = saveTask("First", 1, TaskStatus.DONE, 60);
+        TaskModel second = saveTask("Second", 2, TaskStatus.DONE, 1);
+        TaskModel third = saveTask("Third", 3, TaskStatus.DONE, 60);
+        entityManager.flush();
+
+        taskArchiveService.archiveFinishedTasks();
+        entityManager.clear();
+
+        TaskFilterDTO completedOnly = new TaskFilterDTO(null, null, null, null, true);
+
+        // When
+        TaskSliceDTO firstPage = taskService.findTasksByFilter(completedOnly, null, 2);
+        TaskSliceDTO secondPage = taskService.findTasksByFilter(completedOnly, firstPage.nextCursor(), 2);
+
+        // Then
+        assertThat(ids(firstPage.items())).containsExactly(first.getId(), second.getId());
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(ids(secondPage.items())).containsExactly(third.getId());
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should find an archived task by id and reject changes to it as a finished task")
+    void shouldFindArchivedTaskByIdAndRejectChanges() {
+        // Given
+        TaskModel oldDone = saveTask("Old done", 1, TaskStatus.DONE, 60);
+        entityManager.flush();
+
+        taskArchiveService.archiveFinishedTasks();
+        entityManager.clear();
+
+        // When
+        TaskResponseDTO found = taskService.getTaskById(oldDone.getId());
+
+        // Then
+        assertThat(found.id()).isEqualTo(oldDone.getId());
+        assertThat(found.taskStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(found.version()).isNull();
+        assertThatThrownBy(() -> taskService.moveQuadrant(
+                oldDone.getId(), new MoveQuadrantDTO(Quadrant.DO_NOW), Set.of()))
+            .isInstanceOf(BusinessRuleException.class);
+        assertThatThrownBy(() -> taskService.getTaskById(oldDone.getId() + 1000))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should delete an archived task by id and drop its segment once empty")
+    void shouldDeleteArchivedTaskById() {
+        // Given
+        TaskModel oldDone = saveTask("Old done", 1, TaskStatus.DONE, 60);
+        TaskModel oldCanceled = saveTask("Old canceled", 2, TaskStatus.CANCELED, 45);
+        entityManager.flush();
+
+        taskArchiveService.archiveFinishedTasks();
+        entityManager.clear();
+
+        // When
+        taskService.deleteTask(oldDone.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThatThrownBy(() -> taskService.getTaskById(oldDone.getId()))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(taskService.getTaskById(oldCanceled.getId()).id()).isEqualTo(oldCanceled.getId());
+        assertThat(segmentRepository.findAll())
+            .singleElement()
+            .satisfies(segment -> assertThat(segment.getTaskCount()).isEqualTo(1));
+
+        taskService.deleteTask(oldCanceled.getId());
+        entityManager.flush();
+
+        assertThat(segmentRepository.findAll()).isEmpty();
+        assertThat(entryRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge archived tasks into the weekly view")
+    void shouldMergeArchivedTasksIntoWeeklyView() {
+        // Given
+        TaskModel oldDone = saveTask("Old done", 1, TaskStatus.DONE, 60);
+        TaskModel open = saveTask("Open", 1, null, 0);
+        TaskModel nextWeek = saveTask("Next week", 9, TaskStatus.DONE, 60);
+        entityManager.flush();
+
+        taskArchiveService.archiveFinishedTasks();
+        entityManager.clear();
+
+        // When
+        Map<LocalDate, List<TaskResponseDTO>> week = taskService.getWeeklyView(LocalDate.now());
+
+        // Then
+        assertThat(taskRepository.findById(nextWeek.getId())).isEmpty();
+        assertThat(week).containsOnlyKeys(LocalDate.now().plusDays(1));
+        assertThat(ids(week.get(LocalDate.now().plusDays(1)))).containsExactly(oldDone.getId(), open.getId());
+    }
+
+    private TaskModel saveTask(String title, int dueInDays, TaskStatus status, int finishedDaysAgo) {
+        TaskModel task = TaskModel.builder()
+            .title(title)
+            .description("Archive test task")
+            .dueDate(LocalDate.now().plusDays(dueInDays))
+            .quadrant(Quadrant.SCHEDULE)
+            .user(testUser)
+            .build();
+
+        if (status != null) {
+            task.updateStatus(status);
+            ReflectionTestUtils.setField(task, "completedAt", LocalDateTime.now().minusDays(finishedDaysAgo));
+        }
+
+        return taskRepository.save(task);
+    }
+
+    private List<Long> ids(List<TaskResponseDTO> tasks) {
+        return tasks.stream().map(TaskResponseDTO::id).toList();
+    }
+}
@@ -0,0 +1,156 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkMoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.BulkStatusDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.MoveQuadrantDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSummaryDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Task Counter Service Integration Tests")
+class TaskCounterServiceIntegrationTest {
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserModel testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(UserFactory.create("Counter User", "counter@test.com", "password123"));
+
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(testUser, null, testUser.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @Test
+    @DisplayName("Should keep the counters in step with creates, moves, status changes and deletes")
+    void shouldKeepCountersInStepWithWrites() {
+        // Given
+        TaskResponseDTO doNow = taskService.createNewTask(createTask("Do now task", true, true));
+        TaskResponseDTO schedule = taskService.createNewTask(createTask("Schedule task", false, true));
+        taskService.createTasksInBatch(List.of(
+            createTask("Delegate task", true, false),
+            createTask("Eliminate task", false, false)));
+
+        // When
+        taskService.moveQuadrant(schedule.id(), new MoveQuadrantDTO(Quadrant.DO_NOW), Set.of());
+        taskService.updateStatusInBulk(new BulkStatusDTO(List.of(doNow.id(), schedule.id()), TaskStatus.IN_PROGRESS));
+        taskService.updateStatusInBulk(new BulkStatusDTO(List.of(doNow.id()), TaskStatus.DONE));
+        taskService.moveQuadrantByFilter(
+            new TaskFilterDTO(Quadrant.ELIMINATE, null, null, null, null), new MoveQuadrantDTO(Quadrant.SCHEDULE));
+        taskService.deleteTask(taskRepository.findByUser(testUser).stream()
+            .filter(task -> task.getQuadrant() == Quadrant.DELEGATE)
+            .findFirst().orElseThrow().getId());
+
+        TaskSummaryDTO summary = taskService.getTaskSummary();
+
+        // Then
+        assertThat(summary.total()).isEqualTo(3);
+        assertThat(summary.byQuadrant())
+            .containsEntry(Quadrant.DO_NOW, 2L)
+            .containsEntry(Quadrant.SCHEDULE, 1L)
+            .containsEntry(Quadrant.DELEGATE, 0L)
+            .containsEntry(Quadrant.ELIMINATE, 0L);
+        assertThat(summary.byStatus())
+            .containsEntry(TaskStatus.CREATED, 1L)
+            .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+            .containsEntry(TaskStatus.DONE, 1L);
+        assertThat(summary.byQuadrantAndStatus().get(Quadrant.DO_NOW))
+            .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+            .containsEntry(TaskStatus.DONE, 1L);
+        assertThat(taskCounterService.reconcile(testUser.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only count the tasks a bulk update actually changed")
+    void shouldOnlyCountChangedTasksInBulk() {
+        // Given
+        TaskResponseDTO open = taskService.createNewTask(createTask("Open task", false, false));
+        TaskResponseDTO closed = taskService.createNewTask(createTask("Closed task", false, false));
+        taskService.updateStatusInBulk(new BulkStatusDTO(List.of(closed.id()), TaskStatus.CLOSED));
+
+        // When - the closed task is locked and must stay where it is
+        taskService.moveQuadrantInBulk(new BulkMoveQuadrantDTO(List.of(open.id(), closed.id()), Quadrant.DO_NOW));
+
+        TaskSummaryDTO summary = taskService.getTaskSummary();
+
+        // Then
+        assertThat(summary.byQuadrantAndStatus().get(Quadrant.DO_NOW)).containsEntry(TaskStatus.CREATED, 1L);
+        assertThat(summary.byQuadrantAndStatus().get(Quadrant.ELIMINATE)).containsEntry(TaskStatus.CLOSED, 1L);
+        assertThat(taskCounterService.reconcile(testUser.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should repair counters that drifted from the tasks")
+    void shouldRepairDriftedCounters() {
+        // Given - tasks saved straight through the repository bypass the counters
+        taskService.createNewTask(createTask("Counted task", true, true));
+        taskRepository.save(TaskModel.builder()
+            .title("Uncounted task")
+            .description("Saved without the service")
+            .dueDate(LocalDate.now().plusDays(1))
+            .quadrant(Quadrant.SCHEDULE)
+            .user(testUser)
+            .build());
+        entityManager.flush();
+
+        // When
+        boolean repaired = taskCounterService.reconcile(testUser.getId());
+        TaskSummaryDTO summary = taskService.getTaskSummary();
+
+        // Then
+        assertThat(repaired).isTrue();
+        assertThat(summary.total()).isEqualTo(2);
+        assertThat(summary.byQuadrant())
+            .containsEntry(Quadrant.DO_NOW, 1L)
+            .containsEntry(Quadrant.SCHEDULE, 1L);
+        assertThat(taskCounterService.reconcile(testUser.getId())).isFalse();
+    }
+
+    private CreateTaskDTO createTask(String title, boolean urgent, boolean important) {
+        return new CreateTaskDTO(title, "Counter test task", LocalDate.now().plusDays(1), urgent, important);
+    }
+}
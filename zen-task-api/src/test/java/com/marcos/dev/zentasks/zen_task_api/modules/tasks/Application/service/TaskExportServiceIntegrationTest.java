@@ -0,0 +1,123 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFileFormat;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFilterDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Task Export Service Integration Tests")
+class TaskExportServiceIntegrationTest {
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UserModel testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(UserFactory.create("Export User", "export@test.com", "password123"));
+        UserModel otherUser = userRepository.save(UserFactory.create("Other Export User", "other-export@test.com", "password123"));
+
+        saveTask("Second", "Plain description", 2, Quadrant.SCHEDULE, testUser);
+        saveTask("First", "Has a comma, and \"quotes\"\nover two lines", 1, Quadrant.DO_NOW, testUser);
+        saveTask("Someone else's", "Must not be exported", 1, Quadrant.DO_NOW, otherUser);
+
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(testUser, null, testUser.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @Test
+    @DisplayName("Should export the user's tasks as one JSON object per line")
+    void shouldExportTasksAsNdjson() throws Exception {
+        // When
+        String output = export(new TaskFilterDTO(null, null, null, null, null), TaskFileFormat.NDJSON);
+
+        // Then
+        List<String> lines = output.lines().toList();
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("title").asText()).isEqualTo("First");
+        assertThat(first.get("description").asText()).isEqualTo("Has a comma, and \"quotes\"\nover two lines");
+        assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo("Second");
+    }
+
+    @Test
+    @DisplayName("Should export the tasks matching the filter as quoted CSV")
+    void shouldExportFilteredTasksAsCsv() throws Exception {
+        // When
+        String output = export(new TaskFilterDTO(Quadrant.DO_NOW, null, null, null, null), TaskFileFormat.CSV);
+
+        // Then
+        assertThat(output).startsWith("id,title,description,dueDate,taskStatus,quadrant,isCompleted\n");
+        assertThat(output).contains(",First,\"Has a comma, and \"\"quotes\"\"\nover two lines\","
+            + LocalDate.now().plusDays(1) + ",CREATED,DO_NOW,false\n");
+        assertThat(output).doesNotContain("Second", "Someone else's");
+    }
+
+    @Test
+    @DisplayName("Should neutralize CSV cells that a spreadsheet would run as formulas")
+    void shouldNeutralizeFormulaCellsInCsv() throws Exception {
+        // Given
+        saveTask("=HYPERLINK(\"http://example.com\",\"open\")", "@SUM(1+1)", 3, Quadrant.ELIMINATE, testUser);
+
+        // When
+        String output = export(new TaskFilterDTO(Quadrant.ELIMINATE, null, null, null, null), TaskFileFormat.CSV);
+
+        // Then
+        assertThat(output).contains(",\"'=HYPERLINK(\"\"http://example.com\"\",\"\"open\"\")\",'@SUM(1+1),"
+            + LocalDate.now().plusDays(3) + ",CREATED,ELIMINATE,false\n");
+    }
+
+    private String export(TaskFilterDTO filter, TaskFileFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.exportTasks(filter, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void saveTask(String title, String description, int dueInDays, Quadrant quadrant, UserModel owner) {
+        taskRepository.save(TaskModel.builder()
+            .title(title)
+            .description(description)
+            .dueDate(LocalDate.now().plusDays(dueInDays))
+            .quadrant(quadrant)
+            .user(owner)
+            .build());
+    }
+}
@@ -0,0 +1,124 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BadRequestException;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskFileFormat;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskImportResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Task Import Service Integration Tests")
+class TaskImportServiceIntegrationTest {
+
+    private static final DateTimeFormatter API_DATE = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserModel testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(UserFactory.create("Import User", "import@test.com", "password123"));
+
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(testUser, null, testUser.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @Test
+    @DisplayName("Should import valid NDJSON lines and report the invalid ones by line")
+    void shouldImportNdjsonAndReportInvalidLines() {
+        // Given
+        String tomorrow = LocalDate.now().plusDays(1).format(API_DATE);
+        String yesterday = LocalDate.now().minusDays(1).format(API_DATE);
+        String input = String.join("\n",
+            "{\"title\":\"First task\",\"description\":\"Imported task\",\"dueDate\":\"" + tomorrow + "\",\"isUrgent\":true,\"isImportant\":true}",
+            "",
+            "{\"title\":\"\",\"description\":\"Missing title\",\"dueDate\":\"" + tomorrow + "\"}",
+            "{not json",
+            "{\"title\":\"Late task\",\"description\":\"Due in the past\",\"dueDate\":\"" + yesterday + "\"}",
+            "{\"title\":\"Second task\",\"description\":\"Imported task\",\"dueDate\":\"" + tomorrow + "\"}");
+
+        // When
+        TaskImportResultDTO result = importTasks(input, TaskFileFormat.NDJSON);
+
+        // Then
+        assertThat(result.processed()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.errorsTruncated()).isFalse();
+        assertThat(result.errors()).extracting("line").containsExactly(3L, 4L, 5L);
+
+        assertThat(taskRepository.findByUser(testUser))
+            .extracting(TaskModel::getTitle, TaskModel::getQuadrant)
+            .containsExactlyInAnyOrder(
+                tuple("First task", Quadrant.DO_NOW),
+                tuple("Second task", Quadrant.ELIMINATE));
+    }
+
+    @Test
+    @DisplayName("Should import CSV with quoted multi-line fields and ISO dates")
+    void shouldImportCsvWithQuotedFields() {
+        // Given
+        String input = "dueDate,title,description,isUrgent,isImportant,ignored\r\n"
+            + LocalDate.now().plusDays(2) + ",\"Quoted, title\",\"Line one\nwith \"\"quotes\"\"\",false,true,x\r\n"
+            + "not-a-date,Bad date,Some description,false,false,x\r\n"
+            + LocalDate.now().plusDays(3).format(API_DATE) + ",Plain title,Plain description,true,false,x\r\n";
+
+        // When
+        TaskImportResultDTO result = importTasks(input, TaskFileFormat.CSV);
+
+        // Then
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).singleElement()
+            .satisfies(error -> assertThat(error.line()).isEqualTo(4L));
+
+        assertThat(taskRepository.findByUser(testUser))
+            .extracting(TaskModel::getTitle, TaskModel::getDescription, TaskModel::getQuadrant)
+            .containsExactlyInAnyOrder(
+                tuple("Quoted, title", "Line one\nwith \"quotes\"", Quadrant.SCHEDULE),
+                tuple("Plain title", "Plain description", Quadrant.DELEGATE));
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV without the required header columns")
+    void shouldRejectCsvWithoutRequiredHeader() {
+        assertThatThrownBy(() -> importTasks("title,description\nA task,Description\n", TaskFileFormat.CSV))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    private TaskImportResultDTO importTasks(String input, TaskFileFormat format) {
+        return taskImportService.importTasks(
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format);
+    }
+}
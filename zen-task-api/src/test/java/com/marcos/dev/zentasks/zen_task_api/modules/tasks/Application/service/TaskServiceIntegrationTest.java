@@ -3,26 +3,43 @@ package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BadRequestException;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.BusinessRuleException;
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.ForbiddenAccessException;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.PreconditionFailedException;
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.ResourceNotFoundException;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.QueryBudgetExtension;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.DashboardTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.MoveQuadrantDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSearchResultDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.UpdateTaskDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
 
+import jakarta.persistence.EntityManager;
+
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
@@ -38,6 +55,12 @@ class TaskServiceIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @RegisterExtension
+    QueryBudgetExtension queries = new QueryBudgetExtension();
+
     private UserModel testUser;
 
     @BeforeEach
@@ -285,4 +308,271 @@ class TaskServiceIntegrationTest {
         var titles = savedTasks.stream().map(task -> task.getTitle()).toList();
         assertThat(titles).containsExactlyInAnyOrder("Concurrent Task 1", "Concurrent Task 2");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should load every dashboard bucket with a single SQL statement")
+    void shouldLoadDashboardWithSingleStatement() {
+        // Given - an overdue DO_NOW task belongs to two buckets
+        TaskModel overdueDoNow = saveTask("Overdue Do Now", Quadrant.DO_NOW, LocalDate.now().plusDays(1));
+        ReflectionTestUtils.setField(overdueDoNow, "dueDate", LocalDate.now().minusDays(2));
+        saveTask("Due Today", Quadrant.SCHEDULE, LocalDate.now());
+        saveTask("Do Now Later", Quadrant.DO_NOW, LocalDate.now().plusDays(5));
+        saveTask("Not On Dashboard", Quadrant.ELIMINATE, LocalDate.now().plusDays(5));
+
+        startCountingStatements();
+
+        // When
+        DashboardTaskDTO dashboard = taskService.getDashboardTasks();
+
+        // Then
+        queries.assertStatementCount(1);
+
+        assertThat(dashboard.overdueTasks()).extracting(TaskResponseDTO::title)
+            .containsExactly("Overdue Do Now");
+        assertThat(dashboard.todayTasks()).extracting(TaskResponseDTO::title)
+            .containsExactly("Due Today");
+        assertThat(dashboard.doNowTasks()).extracting(TaskResponseDTO::title)
+            .containsExactly("Overdue Do Now", "Do Now Later");
+
+        // The shared task is mapped once and reused across buckets
+        assertThat(dashboard.overdueTasks().get(0)).isSameAs(dashboard.doNowTasks().get(0));
+    }
+
+    @Test
+    @DisplayName("getTaskById should run a single owner-scoped statement")
+    void getTaskByIdShouldRunSingleStatement() {
+        // Given
+        TaskModel task = saveTask("Single Read", Quadrant.SCHEDULE, LocalDate.now().plusDays(1));
+        startCountingStatements();
+
+        // When
+        TaskResponseDTO result = taskService.getTaskById(task.getId());
+
+        // Then
+        queries.assertStatementCount(1);
+        assertThat(result.title()).isEqualTo("Single Read");
+    }
+
+    @Test
+    @DisplayName("editTask should run one conditional UPDATE for a known version")
+    void editTaskShouldRunSingleStatement() {
+        // Given
+        TaskModel task = saveTask("Before Edit", Quadrant.SCHEDULE, LocalDate.now().plusDays(1));
+        Long version = task.getVersion();
+        startCountingStatements();
+
+        // When
+        Long newVersion = taskService.editTask(task.getId(), new UpdateTaskDTO(
+            "After Edit", "Edited description", LocalDate.now().plusDays(3), null, null, null), Set.of(version));
+
+        // Then
+        // The conditional UPDATE and the change version bump
+        queries.assertStatementCount(2);
+        assertThat(newVersion).isEqualTo(version + 1);
+        TaskModel edited = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(edited.getTitle()).isEqualTo("After Edit");
+        assertThat(edited.getDueDate()).isEqualTo(LocalDate.now().plusDays(3));
+    }
+
+    @Test
+    @DisplayName("editTask without an expected version should lock the task and return its new version")
+    void editTaskShouldReturnNewVersionWithoutExpectedOne() {
+        // Given
+        TaskModel task = saveTask("Unversioned Edit", Quadrant.SCHEDULE, LocalDate.now().plusDays(1));
+        Long version = task.getVersion();
+        startCountingStatements();
+
+        // When
+        Long newVersion = taskService.editTask(task.getId(), new UpdateTaskDTO(
+            "Edited Blindly", "Edited description", LocalDate.now().plusDays(3), null, null, null), Set.of());
+
+        // Then
+        queries.assertStatementCount(3);
+        assertThat(newVersion).isEqualTo(version + 1);
+        assertThat(taskService.getTaskById(task.getId()).version()).isEqualTo(newVersion);
+    }
+
+    @Test
+    @DisplayName("editTask should reject a completed task through the domain rules")
+    void editTaskShouldRejectCompletedTask() {
+        // Given
+        TaskModel task = saveTask("Completed Task", Quadrant.SCHEDULE, LocalDate.now().plusDays(1));
+        task.updateStatus(TaskStatus.DONE);
+        entityManager.flush();
+
+        UpdateTaskDTO update = new UpdateTaskDTO(
+            "New Title", "New description", LocalDate.now().plusDays(3), null, null, null);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.editTask(task.getId(), update, Set.of()))
+            .isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    @DisplayName("deleteTask should lock the task, DELETE it and adjust the counters and change version")
+    void deleteTaskShouldStayWithinStatementBudget() {
+        // Given
+        TaskModel task = saveTask("To Delete", Quadrant.ELIMINATE, LocalDate.now().plusDays(1));
+        Long taskId = task.getId();
+        startCountingStatements();
+
+        // When
+        taskService.deleteTask(taskId);
+
+        // Then
+        queries.assertStatementCount(4);
+        assertThat(taskRepository.findById(taskId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteTask should report another user's task as not found")
+    void deleteTaskShouldNotDeleteForeignTask() {
+        // Given
+        UserModel otherUser = userRepository.save(UserFactory.create("Other Owner", "other-owner@test.com", "password123"));
+        TaskModel foreignTask = taskRepository.save(TaskModel.builder()
+            .title("Foreign Task")
+            .description("Belongs to someone else")
+            .dueDate(LocalDate.now().plusDays(1))
+            .quadrant(Quadrant.DO_NOW)
+            .user(otherUser)
+            .build());
+        startCountingStatements();
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.deleteTask(foreignTask.getId()))
+            .isInstanceOf(ResourceNotFoundException.class);
+        queries.assertStatementCount(1);
+        assertThat(taskRepository.findById(foreignTask.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("moveQuadrant should lock the task, UPDATE it and adjust the counters and change version")
+    void moveQuadrantShouldStayWithinStatementBudget() {
+        // Given
+        TaskModel task = saveTask("To Move", Quadrant.ELIMINATE, LocalDate.now().plusDays(1));
+        startCountingStatements();
+
+        // When
+        taskService.moveQuadrant(task.getId(), new MoveQuadrantDTO(Quadrant.DO_NOW), Set.of());
+
+        // Then
+        queries.assertStatementCount(4);
+        TaskModel moved = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(moved.getQuadrant()).isEqualTo(Quadrant.DO_NOW);
+        assertThat(moved.isUrgent()).isTrue();
+        assertThat(moved.isImportant()).isTrue();
+    }
+
+    @Test
+    @DisplayName("moveQuadrant should keep rejecting a move to the current quadrant")
+    void moveQuadrantShouldRejectSameQuadrant() {
+        // Given
+        TaskModel task = saveTask("Already There", Quadrant.SCHEDULE, LocalDate.now().plusDays(1));
+        MoveQuadrantDTO sameQuadrant = new MoveQuadrantDTO(Quadrant.SCHEDULE);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.moveQuadrant(task.getId(), sameQuadrant, Set.of()))
+            .isInstanceOf(BusinessRuleException.class)
+            .hasMessage("Task is already in this quadrant");
+    }
+
+    @Test
+    @DisplayName("editTask should reject a stale version and bump a matching one")
+    void editTaskShouldCheckExpectedVersion() {
+        // Given
+        TaskModel task = saveTask("Versioned Task", Quadrant.SCHEDULE, LocalDate.now().plusDays(1));
+        Long version = task.getVersion();
+        UpdateTaskDTO update = new UpdateTaskDTO(
+            "Edited Once", "Edited description", LocalDate.now().plusDays(2), null, null, null);
+
+        // When
+        Long newVersion = taskService.editTask(task.getId(), update, Set.of(version));
+
+        // Then
+        assertThat(newVersion).isEqualTo(version + 1);
+        assertThat(taskService.getTaskById(task.getId()).version()).isEqualTo(newVersion);
+        assertThatThrownBy(() -> taskService.editTask(task.getId(), update, Set.of(version)))
+            .isInstanceOf(PreconditionFailedException.class);
+        assertThat(taskService.editTask(task.getId(), update, Set.of(version, newVersion))).isEqualTo(newVersion + 1);
+    }
+
+    @Test
+    @DisplayName("moveQuadrant should reject a stale version and bump a matching one")
+    void moveQuadrantShouldCheckExpectedVersion() {
+        // Given
+        TaskModel task = saveTask("Versioned Move", Quadrant.ELIMINATE, LocalDate.now().plusDays(1));
+        Long version = task.getVersion();
+
+        // When
+        Long newVersion = taskService.moveQuadrant(task.getId(), new MoveQuadrantDTO(Quadrant.DO_NOW), Set.of(version));
+
+        // Then
+        assertThat(newVersion).isEqualTo(version + 1);
+        assertThatThrownBy(() -> taskService.moveQuadrant(task.getId(), new MoveQuadrantDTO(Quadrant.SCHEDULE), Set.of(version)))
+            .isInstanceOf(PreconditionFailedException.class);
+        assertThat(taskService.getTaskById(task.getId()).quadrant()).isEqualTo(Quadrant.DO_NOW);
+    }
+
+    @Test
+    @DisplayName("searchTasks should rank title matches first and escape the highlights")
+    void searchTasksShouldRankTitleMatchesFirst() {
+        // Given
+        TaskModel inDescription = taskRepository.save(TaskModel.builder()
+            .title("Monthly accounting")
+            .description("Send the invoice to the accountant")
+            .dueDate(LocalDate.now().plusDays(1))
+            .quadrant(Quadrant.SCHEDULE)
+            .user(testUser)
+            .build());
+        TaskModel inTitle = saveTask("Pay <b>Invoice</b>", Quadrant.DO_NOW, LocalDate.now().plusDays(2));
+        saveTask("Call supplier", Quadrant.DELEGATE, LocalDate.now().plusDays(3));
+
+        // When
+        List<TaskSearchResultDTO> results = taskService.searchTasks("invoice", null);
+
+        // Then
+        assertThat(results).extracting(result -> result.task().id())
+            .containsExactly(inTitle.getId(), inDescription.getId());
+        assertThat(results.get(0).rank()).isGreaterThan(results.get(1).rank());
+        assertThat(results.get(0).titleHighlight()).isEqualTo("Pay &lt;b&gt;<mark>Invoice</mark>&lt;/b&gt;");
+        assertThat(results.get(1).descriptionHighlight()).isEqualTo("Send the <mark>invoice</mark> to the accountant");
+    }
+
+    @Test
+    @DisplayName("searchTasks should keep the highlight tags balanced when the text holds the delimiters")
+    void searchTasksShouldStripDelimitersFromText() {
+        // Given
+        saveTask("Invoice\u0003 review \u0002draft", Quadrant.DO_NOW, LocalDate.now().plusDays(1));
+
+        // When
+        List<TaskSearchResultDTO> results = taskService.searchTasks("invoice", null);
+
+        // Then
+        assertThat(results).singleElement()
+            .extracting(TaskSearchResultDTO::titleHighlight)
+            .isEqualTo("<mark>Invoice</mark> review draft");
+    }
+
+    @Test
+    @DisplayName("searchTasks should reject a blank query")
+    void searchTasksShouldRejectBlankQuery() {
+        assertThatThrownBy(() -> taskService.searchTasks("   ", null))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    private void startCountingStatements() {
+        entityManager.flush();
+        entityManager.clear();
+        queries.reset();
+    }
+
+    private TaskModel saveTask(String title, Quadrant quadrant, LocalDate dueDate) {
+        return taskRepository.save(TaskModel.builder()
+            .title(title)
+            .description("Description for " + title)
+            .dueDate(dueDate)
+            .quadrant(quadrant)
+            .user(testUser)
+            .build());
+    }
+}
@@ -294,6 +294,26 @@ class TaskModelTest {
     assertThat(task.getCompletedAt()).isNotNull();
   }
 
+  @Test
+  void shouldReopenDoneTaskWhenMovedBackToOpenStatus() {
+    // Given
+    TaskModel task = TaskModel.builder()
+        .title("Task")
+        .description("Description")
+        .dueDate(LocalDate.now().plusDays(1))
+        .user(mockUser)
+        .build();
+    task.updateStatus(TaskStatus.DONE);
+
+    // When
+    task.updateStatus(TaskStatus.IN_PROGRESS);
+
+    // Then
+    assertThat(task.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    assertThat(task.isCompleted()).isFalse();
+    assertThat(task.getCompletedAt()).isNull();
+  }
+
   @Test
   void shouldThrowExceptionWhenUpdatingClosedTask() {
     // Given
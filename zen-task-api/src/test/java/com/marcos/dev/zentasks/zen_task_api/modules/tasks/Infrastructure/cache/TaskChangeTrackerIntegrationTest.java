@@ -0,0 +1,84 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskChangeVersionRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Task Change Tracker Integration Tests")
+class TaskChangeTrackerIntegrationTest {
+
+    @Autowired
+    private TaskChangeTracker tracker;
+
+    @Autowired
+    private TaskChangeVersionRepository taskChangeVersionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserModel user;
+    private UserModel otherUser;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserFactory.create("Tracked User", "tracked@test.com", "password123"));
+        otherUser = userRepository.save(UserFactory.create("Other Tracked User", "other-tracked@test.com", "password123"));
+    }
+
+    @Test
+    @DisplayName("Should keep the tag until the user's tasks change")
+    void shouldChangeTagOnlyOnWrites() {
+        // Given
+        String before = tracker.currentTag(user.getId());
+        String otherBefore = tracker.currentTag(otherUser.getId());
+
+        // When
+        tracker.tasksChanged(user.getId());
+
+        // Then
+        String after = tracker.currentTag(user.getId());
+        assertThat(after).isNotEqualTo(before);
+        assertThat(tracker.currentTag(user.getId())).isEqualTo(after);
+        assertThat(tracker.currentTag(otherUser.getId())).isEqualTo(otherBefore);
+    }
+
+    @Test
+    @DisplayName("Should never give two users the same tag")
+    void shouldKeepTagsDistinctPerUser() {
+        // Given
+        tracker.tasksChanged(user.getId());
+        tracker.tasksChanged(otherUser.getId());
+
+        // When & Then
+        assertThat(tracker.currentTag(user.getId())).isNotEqualTo(tracker.currentTag(otherUser.getId()));
+    }
+
+    @Test
+    @DisplayName("Should give every instance the tag of the last write, wherever it ran")
+    void shouldShareTagsAcrossInstances() {
+        // Given
+        TaskChangeTracker otherInstance = new TaskChangeTracker(taskChangeVersionRepository);
+
+        // When
+        otherInstance.tasksChanged(user.getId());
+        otherInstance.tasksChanged(user.getId());
+
+        // Then
+        assertThat(tracker.currentTag(user.getId())).isEqualTo(otherInstance.currentTag(user.getId()));
+        assertThat(tracker.currentTag(user.getId())).endsWith("-2");
+    }
+}
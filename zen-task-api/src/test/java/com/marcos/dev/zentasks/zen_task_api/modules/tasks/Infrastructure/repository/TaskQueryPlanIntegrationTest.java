@@ -0,0 +1,212 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import org.yaml.snakeyaml.Yaml;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+
+/**
+ * Regression suite for the access paths used by TaskServiceImpl.
+ * The schema test checks that every index of the tb_tasks changesets exists, with
+ * the same columns in the same order, in the schema built from TaskModel. Each plan
+ * test runs EXPLAIN for the SQL shape of one service query and fails unless the
+ * database picks the index that changeset added for it. H2 also indexes the
+ * user_id foreign key, so merely avoiding a table scan would not catch a dropped index.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Task Query Plan Integration Tests")
+class TaskQueryPlanIntegrationTest {
+
+    private static final String TABLE_SCAN_MARKER = "tableScan";
+    private static final List<String> INDEX_CHANGESETS = List.of(
+        "db/changelog/changeset/add-indexes-in-tb_tasks.yml",
+        "db/changelog/changeset/add-keyset-index-in-tb_tasks.yml");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UserModel testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = UserFactory.create("Plan User", "plan@example.com", "password123");
+        UserModel anotherUser = UserFactory.create("Other Plan User", "other-plan@example.com", "password123");
+
+        entityManager.persist(testUser);
+        entityManager.persist(anotherUser);
+
+        Quadrant[] quadrants = Quadrant.values();
+        for (int i = 0; i < 40; i++) {
+            UserModel owner = i % 2 == 0 ? testUser : anotherUser;
+            Quadrant quadrant = quadrants[i % quadrants.length];
+
+            entityManager.persist(TaskModel.builder()
+                .title("Plan Task " + i)
+                .description("Seed data for query plan checks")
+                .dueDate(LocalDate.now().plusDays(i % 10))
+                .quadrant(quadrant)
+                .user(owner)
+                .build());
+        }
+
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Schema should carry every tb_tasks index of the changesets")
+    void schemaShouldMatchIndexChangesets() throws IOException {
+        Map<String, List<String>> expected = changesetIndexes();
+
+        assertThat(expected).isNotEmpty();
+        expected.forEach((indexName, columns) -> assertThat(schemaIndexColumns(indexName))
+            .as("Columns of %s", indexName)
+            .containsExactlyElementsOf(columns));
+    }
+
+    @Test
+    @DisplayName("getTaskById should use the primary key")
+    void getTaskByIdShouldUsePrimaryKey() {
+        assertNoTableScan("SELECT * FROM tb_tasks WHERE id = 1");
+    }
+
+    @Test
+    @DisplayName("Dashboard query should use an index")
+    void dashboardQueryShouldUseIndex() {
+        assertUsesIndex("idx_tasks_user_completed_due_date",
+            forUser("AND is_completed = FALSE AND (due_date <= " + date(LocalDate.now()) + " OR quadrant = 'DO_NOW')"));
+    }
+
+    @Test
+    @DisplayName("Filter by quadrant and status should use an index")
+    void filterByQuadrantAndStatusShouldUseIndex() {
+        assertUsesIndex("idx_tasks_user_quadrant_completed",
+            forUser("AND quadrant = 'SCHEDULE' AND task_status = 'CREATED'"));
+    }
+
+    @Test
+    @DisplayName("Filter by date range and completion should use an index")
+    void filterByDateRangeAndCompletionShouldUseIndex() {
+        LocalDate today = LocalDate.now();
+        assertUsesIndex("idx_tasks_user_completed_due_date",
+            forUser("AND is_completed = TRUE AND due_date BETWEEN " + date(today) + " AND " + date(today.plusDays(30))));
+    }
+
+    @Test
+    @DisplayName("Keyset page query should use an index range seek")
+    void keysetPageQueryShouldUseIndex() {
+        // Only user_id is an index condition here, which H2 costs alike on every user_id-leading
+        // index; the schema test is what pins idx_tasks_user_due_date_id
+        String after = date(LocalDate.now().plusDays(3));
+        assertNoTableScan(forUser("AND (due_date > " + after + " OR (due_date = " + after + " AND id > 10))"
+            + " ORDER BY due_date, id LIMIT 51"));
+    }
+
+    @Test
+    @DisplayName("Weekly view query should use an index")
+    void weeklyViewQueryShouldUseIndex() {
+        LocalDate weekStart = LocalDate.now();
+        assertUsesIndex("idx_tasks_user_due_date_id",
+            forUser("AND due_date BETWEEN " + date(weekStart) + " AND " + date(weekStart.plusDays(6))));
+    }
+
+    @Test
+    @DisplayName("Incomplete task count should use an index")
+    void countIncompleteTasksShouldUseIndex() {
+        assertUsesIndex("idx_tasks_user_completed_due_date",
+            "SELECT COUNT(*) FROM tb_tasks WHERE user_id = " + userId() + " AND is_completed = FALSE");
+    }
+
+    private String forUser(String predicates) {
+        return "SELECT * FROM tb_tasks WHERE user_id = " + userId() + " " + predicates;
+    }
+
+    private String userId() {
+        return "CAST('" + testUser.getId() + "' AS UUID)";
+    }
+
+    private String date(LocalDate date) {
+        return "DATE '" + date + "'";
+    }
+
+    private void assertNoTableScan(String sql) {
+        assertThat(explain(sql))
+            .as("Query plan for: %s", sql)
+            .doesNotContain(TABLE_SCAN_MARKER);
+    }
+
+    private void assertUsesIndex(String indexName, String sql) {
+        assertThat(explain(sql))
+            .as("Query plan for: %s", sql)
+            .containsIgnoringCase("." + indexName + ":");
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.getEntityManager()
+            .createNativeQuery("EXPLAIN " + sql)
+            .getSingleResult());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> schemaIndexColumns(String indexName) {
+        return entityManager.getEntityManager()
+            .createNativeQuery("""
+                SELECT LOWER(COLUMN_NAME) FROM INFORMATION_SCHEMA.INDEX_COLUMNS
+                WHERE TABLE_NAME = 'TB_TASKS' AND INDEX_NAME = UPPER(?1)
+                ORDER BY ORDINAL_POSITION
+                """)
+            .setParameter(1, indexName)
+            .getResultList();
+    }
+
+    /**
+     * The createIndex entries on tb_tasks of the index changesets, by index name.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<String>> changesetIndexes() throws IOException {
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+
+        for (String changeset : INDEX_CHANGESETS) {
+            try (InputStream in = new ClassPathResource(changeset).getInputStream()) {
+                Map<String, Object> root = new Yaml().load(in);
+
+                for (Map<String, Object> entry : (List<Map<String, Object>>) root.get("databaseChangeLog")) {
+                    Map<String, Object> changeSet = (Map<String, Object>) entry.get("changeSet");
+
+                    for (Map<String, Object> change : (List<Map<String, Object>>) changeSet.get("changes")) {
+                        Map<String, Object> createIndex = (Map<String, Object>) change.get("createIndex");
+                        if (createIndex == null || !"tb_tasks".equals(createIndex.get("tableName"))) {
+                            continue;
+                        }
+
+                        indexes.put((String) createIndex.get("indexName"),
+                            ((List<Map<String, Map<String, Object>>>) createIndex.get("columns")).stream()
+                                .map(column -> (String) column.get("column").get("name"))
+                                .toList());
+                    }
+                }
+            }
+        }
+
+        return indexes;
+    }
+}
@@ -0,0 +1,132 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.suggest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskSuggestionDTO;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskTitleRow;
+
+@DisplayName("Task Title Suggest Index Tests")
+class TaskTitleSuggestIndexTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private TaskRepository taskRepository;
+    private TaskTitleSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        when(taskRepository.findTitlesByUserId(userId)).thenReturn(List.of(
+            new TaskTitleRow(1L, "Pagar fatura do cartão"),
+            new TaskTitleRow(2L, "Reunião de planejamento"),
+            new TaskTitleRow(3L, "Pagar aluguel")));
+
+        index = new TaskTitleSuggestIndex(taskRepository, DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("Should suggest titles by word prefix, ignoring case and accents")
+    void shouldSuggestByWordPrefix() {
+        assertThat(titles(index.suggest(userId, "PAG", 10)))
+            .containsExactly("Pagar fatura do cartão", "Pagar aluguel");
+        assertThat(titles(index.suggest(userId, "reuniao", 10)))
+            .containsExactly("Reunião de planejamento");
+        assertThat(titles(index.suggest(userId, "cart", 10)))
+            .containsExactly("Pagar fatura do cartão");
+    }
+
+    @Test
+    @DisplayName("Should require the words typed before the prefix")
+    void shouldRequireCompleteWords() {
+        assertThat(titles(index.suggest(userId, "pagar fat", 10)))
+            .containsExactly("Pagar fatura do cartão");
+    }
+
+    @Test
+    @DisplayName("Should load the index once and serve later lookups from memory")
+    void shouldLoadIndexOnce() {
+        index.suggest(userId, "pag", 10);
+        index.suggest(userId, "reu", 10);
+
+        verify(taskRepository, times(1)).findTitlesByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should apply renames and deletions to a loaded index")
+    void shouldApplyChangesToLoadedIndex() {
+        // Given
+        index.suggest(userId, "pag", 10);
+
+        // When
+        index.titleChanged(userId, 3L, "Quitar aluguel");
+        index.taskRemoved(userId, 1L);
+        index.titleChanged(userId, 4L, "Pagar escola");
+
+        // Then
+        assertThat(titles(index.suggest(userId, "pag", 10))).containsExactly("Pagar escola");
+        assertThat(titles(index.suggest(userId, "quit", 10))).containsExactly("Quitar aluguel");
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used index when over the memory budget")
+    void shouldEvictLeastRecentlyUsedIndex() {
+        // Given
+        UUID otherUser = UUID.randomUUID();
+        when(taskRepository.findTitlesByUserId(otherUser)).thenReturn(List.of(new TaskTitleRow(9L, "Outra tarefa")));
+
+        index.suggest(userId, "pag", 10);
+        long oneUser = index.usedBytes();
+        index = new TaskTitleSuggestIndex(taskRepository, DataSize.ofBytes(oneUser + 10));
+
+        // When
+        index.suggest(userId, "pag", 10);
+        index.suggest(otherUser, "out", 10);
+
+        // Then
+        assertThat(index.indexedUsers()).isEqualTo(1);
+        index.suggest(userId, "pag", 10);
+        verify(taskRepository, times(3)).findTitlesByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should build the same index in bulk as one title at a time")
+    void shouldBuildSameIndexInBulk() {
+        // Given
+        Map<Long, String> titlesById = Map.of(
+            1L, "Pagar pagar fatura",
+            2L, "Pagar aluguel",
+            3L, "Planejar viagem");
+        UserTitleIndex incremental = new UserTitleIndex();
+        titlesById.forEach(incremental::put);
+
+        // When
+        UserTitleIndex bulk = UserTitleIndex.of(titlesById);
+
+        // Then
+        assertThat(bulk.estimatedBytes()).isEqualTo(incremental.estimatedBytes());
+        for (String prefix : List.of("p", "pag", "fat", "al", "v")) {
+            assertThat(bulk.suggest(List.of(), prefix, 10))
+                .as("prefixo %s", prefix)
+                .isEqualTo(incremental.suggest(List.of(), prefix, 10));
+        }
+
+        bulk.remove(1L);
+        bulk.put(4L, "Pagar escola");
+        assertThat(titles(bulk.suggest(List.of(), "pag", 10))).containsExactly("Pagar aluguel", "Pagar escola");
+    }
+
+    private List<String> titles(List<TaskSuggestionDTO> suggestions) {
+        return suggestions.stream().map(TaskSuggestionDTO::title).toList();
+    }
+}
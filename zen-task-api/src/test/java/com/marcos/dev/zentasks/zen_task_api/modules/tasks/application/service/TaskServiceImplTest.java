@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -21,10 +22,12 @@ import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security.Auth
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.CreateTaskDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.dtos.TaskResponseDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.mappers.TaskMapper;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.TaskCounterService;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Application.service.TaskServiceImpl;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.Quadrant;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.enums.TaskStatus;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Domain.model.TaskModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.cache.TaskChangeTracker;
 import com.marcos.dev.zentasks.zen_task_api.modules.tasks.Infrastructure.repository.TaskRepository;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 
@@ -44,6 +47,12 @@ class TaskServiceImplTest {
   @Mock
   private TaskMapper taskMapper;
 
+  @Mock
+  private TaskCounterService taskCounterService;
+
+  @Mock
+  private TaskChangeTracker taskChangeTracker;
+
   @InjectMocks
   private TaskServiceImpl taskService;
 
@@ -92,6 +101,8 @@ class TaskServiceImplTest {
     verify(authenticatedUserService).getCurrentUserId();
     verify(taskMapper).toEntity(createTaskDTO, userReference);
     verify(taskRepository).save(createdTask);
+    verify(taskCounterService).tasksCreated(userId, List.of(createdTask));
+    verify(taskChangeTracker).tasksChanged(userId);
     verify(taskMapper).toResponseDTO(createdTask);
   }
 
@@ -112,7 +123,7 @@ class TaskServiceImplTest {
         .hasMessage("Usuário não autenticado");
 
     verify(authenticatedUserService).getCurrentUserId();
-    verifyNoInteractions(taskRepository, taskMapper, entityManager);
+    verifyNoInteractions(taskRepository, taskMapper, entityManager, taskCounterService);
   }
 
 }
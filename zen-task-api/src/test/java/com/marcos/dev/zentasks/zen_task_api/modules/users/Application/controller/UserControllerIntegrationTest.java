@@ -1,5 +1,6 @@
 package com.marcos.dev.zentasks.zen_task_api.modules.users.Application.controller;
 
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -10,14 +11,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.security.AuthenticatedPrincipal;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.AuthenticationDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.dtos.RegisterDTO;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.UserServiceInterface;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
 
 @SpringBootTest
@@ -73,6 +78,27 @@ class UserControllerIntegrationTest {
         assert userRepository.existsByEmail("test@example.com");
     }
 
+    @Test
+    @DisplayName("Should answer GET /v1/register/availability without authentication")
+    void shouldCheckUsernameAndEmailAvailability() throws Exception {
+        // Given
+        userRepository.saveAndFlush(UserFactory.create("taken_user", "taken@example.com", "password123"));
+
+        // When & Then
+        mockMvc.perform(get("/v1/register/availability")
+                .param("username", "taken_user")
+                .param("email", "free@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(false))
+                .andExpect(jsonPath("$.emailAvailable").value(true));
+
+        mockMvc.perform(get("/v1/register/availability")
+                .param("email", "taken@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").doesNotExist())
+                .andExpect(jsonPath("$.emailAvailable").value(false));
+    }
+
     @Test
     @DisplayName("Should authenticate user successfully via POST /v1/login")
     void shouldAuthenticateUserSuccessfullyViaPost() throws Exception {
@@ -372,4 +398,31 @@ class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$.email").value("header@example.com"))
                 .andExpect(jsonPath("$.role").value("USER"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return the user of a token principal via GET /v1/auth/status")
+    void shouldReturnStatusForTokenPrincipal() throws Exception {
+        // Given
+        UserModel user = userRepository.save(UserFactory.create("status_user", "status@example.com", "password123"));
+        AuthenticatedPrincipal principal = AuthenticatedPrincipal.of(user);
+
+        // When & Then
+        mockMvc.perform(get("/v1/auth/status")
+                .with(authentication(new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("status_user"))
+                .andExpect(jsonPath("$.email").value("status@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should return the user of a UserModel principal via GET /v1/auth/status")
+    void shouldReturnStatusForUserModelPrincipal() throws Exception {
+        // Given
+        UserModel user = userRepository.save(UserFactory.create("status_model", "model@example.com", "password123"));
+
+        // When & Then
+        mockMvc.perform(get("/v1/auth/status").with(user(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("status_model"));
+    }
+}
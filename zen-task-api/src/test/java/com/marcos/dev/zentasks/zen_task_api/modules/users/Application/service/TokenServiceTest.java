@@ -0,0 +1,75 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.InvalidTokenException;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.TokenService.VerifiedToken;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+
+@DisplayName("Token Service Tests")
+class TokenServiceTest {
+
+    private TokenService tokenService;
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService("test-secret", "zen-task-api", 2, 100);
+
+        user = UserFactory.create("Token User", "token@example.com", "password123");
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Should return subject, userId and role from a single verification")
+    void shouldReturnAllClaims() {
+        // Given
+        String token = tokenService.generateToken(user);
+
+        // When
+        VerifiedToken verified = tokenService.verifyToken(token);
+
+        // Then
+        assertThat(verified.subject()).isEqualTo(user.getUsername());
+        assertThat(verified.userId()).isEqualTo(user.getId());
+        assertThat(verified.role()).isEqualTo(user.getRole());
+        assertThat(tokenService.validateToken(token)).isEqualTo(user.getUsername());
+        assertThat(tokenService.extractUserId(token)).isEqualTo(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated token from the verified-token cache")
+    void shouldReuseVerifiedToken() {
+        String token = tokenService.generateToken(user);
+
+        VerifiedToken first = tokenService.verifyToken(token);
+        VerifiedToken second = tokenService.verifyToken(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered tokens and tokens signed with another secret")
+    void shouldRejectInvalidTokens() {
+        // Given
+        String token = tokenService.generateToken(user);
+        tokenService.verifyToken(token);
+        int signature = token.lastIndexOf('.') + 1;
+        char replaced = token.charAt(signature) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signature) + replaced + token.substring(signature + 1);
+        String foreign = new TokenService("other-secret", "zen-task-api", 2, 100).generateToken(user);
+
+        // When / Then
+        assertThatThrownBy(() -> tokenService.verifyToken(tampered)).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenService.verifyToken(foreign)).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenService.verifyToken("")).isInstanceOf(InvalidTokenException.class);
+    }
+}
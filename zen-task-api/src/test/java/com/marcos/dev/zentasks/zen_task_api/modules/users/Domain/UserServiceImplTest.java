@@ -13,11 +13,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.DataConflictException;
 import com.marcos.dev.zentasks.zen_task_api.common.exceptions.InvalidInputException;
@@ -32,6 +36,7 @@ import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.To
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Application.service.UserServiceImpl;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.factories.UserFactory;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Domain.model.UserModel;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.availability.UserAvailabilityIndex;
 import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +54,12 @@ class UserServiceImplTest {
   @Mock
   private TokenService tokenService;
 
+  @Spy
+  private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+  @Mock
+  private UserAvailabilityIndex availabilityIndex;
+
   @InjectMocks
   private UserServiceImpl userService;
 
@@ -68,12 +79,6 @@ class UserServiceImplTest {
   @Test
   @DisplayName("Should create user with valid data")
   void createUser_WithValidData_ShouldSucceed() {
-    when(userRepository.existsByEmail(anyString()))
-        .thenReturn(false);
-
-    when(userRepository.existsByUsername(anyString()))
-        .thenReturn(false);
-
     when(userMapper.toResultDTO(any(UserModel.class)))
         .thenReturn(new RegistrationResultDTO(
             userModel.getUsername(),
@@ -89,13 +94,18 @@ class UserServiceImplTest {
     assertNotNull(result);
     assertEquals(userModel.getUsername(), result.username());
 
-    // Verifica se o método save() do repositório foi chamado exatamente uma vez
-    verify(userRepository, times(1)).save(any(UserModel.class));
+    // Verifica se o método saveAndFlush() do repositório foi chamado exatamente uma vez
+    verify(userRepository, times(1)).saveAndFlush(any(UserModel.class));
+
+    // Nome e email ausentes dos filtros de disponibilidade não consultam o banco
+    verify(userRepository, never()).existsByEmail(anyString());
+    verify(userRepository, never()).existsByUsername(anyString());
   }
 
   @Test
   @DisplayName("Should return  DataConflictException if email already exists")
   void createUser_WhenEmailExists_ShouldThrowDataConflictException() {
+    when(availabilityIndex.mightHaveEmail("test@test.com")).thenReturn(true);
     when(userRepository.existsByEmail("test@test.com")).thenReturn(true);
 
     DataConflictException exception = assertThrows(DataConflictException.class, () -> {
@@ -103,12 +113,13 @@ class UserServiceImplTest {
     });
 
     assertEquals("Email já em uso", exception.getMessage());
-    verify(userRepository, never()).save(any());
+    verify(userRepository, never()).saveAndFlush(any());
   }
 
   @Test
   @DisplayName("Should return DataConflictException if username already exists")
   void createUser_WhenUsernameExists_ShouldThrowDataConflictException() {
+    when(availabilityIndex.mightHaveUsername("testuser")).thenReturn(true);
     when(userRepository.existsByUsername("testuser")).thenReturn(true);
 
     DataConflictException exception = assertThrows(DataConflictException.class, () -> {
@@ -116,7 +127,20 @@ class UserServiceImplTest {
     });
 
     assertEquals("Nome de usuário já em uso", exception.getMessage());
-    verify(userRepository, never()).save(any());
+    verify(userRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  @DisplayName("Should return DataConflictException when the unique constraints reject a concurrent registration")
+  void createUser_WhenConstraintRejectsInsert_ShouldThrowDataConflictException() {
+    when(userRepository.saveAndFlush(any(UserModel.class)))
+        .thenThrow(new DataIntegrityViolationException("unique constraint"));
+
+    DataConflictException exception = assertThrows(DataConflictException.class, () -> {
+      userService.createUser(registerDTO);
+    });
+
+    assertEquals("Nome de usuário ou email já em uso", exception.getMessage());
   }
 
   @Test
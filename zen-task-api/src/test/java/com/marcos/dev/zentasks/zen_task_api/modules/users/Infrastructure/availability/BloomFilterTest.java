@@ -0,0 +1,48 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.availability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Bloom Filter Tests")
+class BloomFilterTest {
+
+    private static final int VALUES = 10_000;
+
+    @Test
+    @DisplayName("Should never report an added value as absent")
+    void shouldHaveNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(VALUES, 0.01);
+
+        IntStream.range(0, VALUES).forEach(i -> filter.add("user_" + i));
+
+        assertThat(IntStream.range(0, VALUES).allMatch(i -> filter.mightContain("user_" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured rate")
+    void shouldKeepFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(VALUES, 0.01);
+        IntStream.range(0, VALUES).forEach(i -> filter.add("user_" + i + "@example.com"));
+
+        long falsePositives = IntStream.range(0, VALUES)
+            .filter(i -> filter.mightContain("other_" + i + "@example.com"))
+            .count();
+
+        assertThat(falsePositives).isLessThan(VALUES / 50);
+    }
+
+    @Test
+    @DisplayName("Should be case sensitive, like the username and email columns")
+    void shouldBeCaseSensitive() {
+        BloomFilter filter = new BloomFilter(100, 0.001);
+
+        filter.add("TestUser");
+
+        assertThat(filter.mightContain("TestUser")).isTrue();
+        assertThat(filter.mightContain("testuser")).isFalse();
+    }
+}
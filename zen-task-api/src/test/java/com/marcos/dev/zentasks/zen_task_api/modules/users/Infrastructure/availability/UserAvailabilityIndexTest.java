@@ -0,0 +1,108 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.availability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChange;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserIdentityRow;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Availability Index Tests")
+class UserAvailabilityIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserAvailabilityIndex(userRepository, transactionManager, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should report every value as a possible hit until the first build")
+    void shouldReportPossibleHitsBeforeWarmUp() {
+        assertThat(index.mightHaveUsername("anyone")).isTrue();
+        assertThat(index.mightHaveEmail("anyone@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should know the users streamed at startup")
+    void shouldLoadUsersAtWarmUp() {
+        // Given
+        when(userRepository.streamIdentities()).thenReturn(Stream.of(new UserIdentityRow("alice", "alice@example.com")));
+
+        // When
+        index.warmUp();
+
+        // Then
+        assertThat(index.mightHaveUsername("alice")).isTrue();
+        assertThat(index.mightHaveEmail("alice@example.com")).isTrue();
+        assertThat(index.mightHaveUsername("bob")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should add the users another node announced as inserted")
+    void shouldAddAnnouncedUsers() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(userRepository.streamIdentities()).thenReturn(Stream.empty());
+        when(userRepository.findIdentitiesById(List.of(userId)))
+            .thenReturn(List.of(new UserIdentityRow("remote", "remote@example.com")));
+        index.warmUp();
+
+        // When
+        index.tableChanged(new TableChange("tb_users", List.of(userId.toString()), false));
+
+        // Then
+        assertThat(index.mightHaveUsername("remote")).isTrue();
+        assertThat(index.mightHaveEmail("remote@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should ignore notifications for other tables")
+    void shouldIgnoreOtherTables() {
+        index.tableChanged(new TableChange("tb_tasks", List.of(UUID.randomUUID().toString()), false));
+
+        verify(userRepository, never()).findIdentitiesById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should drop freed values on rebuild and keep those added meanwhile")
+    void shouldRebuildWithoutLosingConcurrentAdds() {
+        // Given
+        when(userRepository.streamIdentities())
+            .thenReturn(Stream.of(new UserIdentityRow("freed", "freed@example.com")))
+            .thenAnswer(invocation -> {
+                index.add("during", "during@example.com");
+                return Stream.of(new UserIdentityRow("kept", "kept@example.com"));
+            });
+        index.warmUp();
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.mightHaveUsername("freed")).isFalse();
+        assertThat(index.mightHaveUsername("kept")).isTrue();
+        assertThat(index.mightHaveUsername("during")).isTrue();
+    }
+}
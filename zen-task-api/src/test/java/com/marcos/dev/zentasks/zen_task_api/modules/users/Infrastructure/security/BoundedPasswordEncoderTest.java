@@ -0,0 +1,79 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.marcos.dev.zentasks.zen_task_api.common.exceptions.TooManyRequestsException;
+
+@DisplayName("Bounded Password Encoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Should hash and match with the configured cost")
+    void shouldHashWithConfiguredCost() {
+        encoder = new BoundedPasswordEncoder(6, 2, 4, Duration.ofSeconds(5));
+
+        String hash = encoder.encode("password123");
+
+        assertThat(hash).startsWith("$2a$06$");
+        assertThat(encoder.matches("password123", hash)).isTrue();
+        assertThat(encoder.matches("wrong-password", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ask to upgrade only hashes weaker than the configured cost")
+    void shouldUpgradeWeakerHashes() {
+        encoder = new BoundedPasswordEncoder(6, 1, 1, Duration.ofSeconds(5));
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refuse with TooManyRequestsException when the pool stays busy past max-wait")
+    void shouldRefuseWhenSaturated() throws Exception {
+        // Given: the only hashing thread busy with a slow hash
+        encoder = new BoundedPasswordEncoder(14, 1, 1, Duration.ofMillis(50));
+        CompletableFuture<String> slowHash = CompletableFuture.supplyAsync(() -> encoder.encode("password123"));
+        while (encoder.pendingHashes() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> encoder.encode("another-password"))
+            .isInstanceOf(TooManyRequestsException.class)
+            .extracting(ex -> ((TooManyRequestsException) ex).getRetryAfter())
+            .isEqualTo(Duration.ofMillis(50));
+        assertThat(encoder.pendingHashes()).isEqualTo(1);
+
+        slowHash.cancel(true);
+    }
+
+    @Test
+    @DisplayName("Should wait past max-wait for a hash that has already started")
+    void shouldFinishStartedHashPastMaxWait() {
+        // Given: an idle pool and a hash far slower than max-wait
+        encoder = new BoundedPasswordEncoder(12, 1, 1, Duration.ofMillis(10));
+
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertThat(hash).startsWith("$2a$12$");
+        assertThat(encoder.matches("password123", hash)).isTrue();
+    }
+}
@@ -0,0 +1,149 @@
+package com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.marcos.dev.zentasks.zen_task_api.common.infraestructure.persistence.notify.TableChange;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository;
+import com.marcos.dev.zentasks.zen_task_api.modules.users.Infrastructure.repository.UserRepository.UserChange;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Revocation Registry Tests")
+class TokenRevocationRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TokenRevocationRegistry registry;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry(userRepository, transactionManager,
+            100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should accept tokens of users that never changed")
+    void shouldAcceptUnchangedUsers() {
+        Optional<UserChange> unchanged = changedAt(null);
+        when(userRepository.findChangeById(userId)).thenReturn(unchanged);
+
+        assertThat(registry.isRevoked(userId, Instant.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued up to the change and accept later ones")
+    void shouldRejectTokensIssuedBeforeChange() {
+        // Given
+        Optional<UserChange> change = changedAt(LocalDateTime.now().minusMinutes(30));
+        when(userRepository.findChangeById(userId)).thenReturn(change);
+
+        // When & Then
+        assertThat(registry.isRevoked(userId, Instant.now().minus(1, ChronoUnit.HOURS))).isTrue();
+        assertThat(registry.isRevoked(userId, Instant.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject every token of a deleted user, also after a restart")
+    void shouldRejectTokensOfDeletedUsers() {
+        when(userRepository.findChangeById(userId)).thenReturn(Optional.empty());
+
+        assertThat(registry.isRevoked(userId, Instant.now().plusSeconds(60))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should read each user once and serve the next checks from the cache")
+    void shouldCacheChangeTimes() {
+        // Given
+        Optional<UserChange> unchanged = changedAt(null);
+        when(userRepository.findChangeById(userId)).thenReturn(unchanged);
+
+        // When
+        registry.isRevoked(userId, Instant.now());
+        registry.isRevoked(userId, Instant.now());
+
+        // Then
+        verify(userRepository, times(1)).findChangeById(userId);
+        assertThat(registry.stats().missCount()).isEqualTo(1);
+        assertThat(registry.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read the user again after this node changes it")
+    void shouldReloadAfterLocalChange() {
+        // Given
+        Instant issuedAt = Instant.now().minus(10, ChronoUnit.MINUTES);
+        Optional<UserChange> unchanged = changedAt(null);
+        Optional<UserChange> changed = changedAt(LocalDateTime.now());
+        when(userRepository.findChangeById(userId)).thenReturn(unchanged, changed);
+        assertThat(registry.isRevoked(userId, issuedAt)).isFalse();
+
+        // When
+        registry.revokeTokens(userId);
+
+        // Then
+        assertThat(registry.isRevoked(userId, issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should read the user again when another node announces a change")
+    void shouldReloadOnRemoteChange() {
+        // Given
+        Instant issuedAt = Instant.now().minus(10, ChronoUnit.MINUTES);
+        Optional<UserChange> unchanged = changedAt(null);
+        when(userRepository.findChangeById(userId)).thenReturn(unchanged, Optional.empty());
+        assertThat(registry.isRevoked(userId, issuedAt)).isFalse();
+
+        // When
+        registry.tableChanged(new TableChange("tb_tasks", List.of(userId.toString()), false));
+        assertThat(registry.isRevoked(userId, issuedAt)).isFalse();
+        registry.tableChanged(new TableChange("tb_users", List.of(userId.toString()), false));
+
+        // Then
+        assertThat(registry.isRevoked(userId, issuedAt)).isTrue();
+        verify(userRepository, times(2)).findChangeById(userId);
+    }
+
+    @Test
+    @DisplayName("Should read every user again when notifications were missed")
+    void shouldReloadEverythingAfterMissedChanges() {
+        // Given
+        Optional<UserChange> unchanged = changedAt(null);
+        when(userRepository.findChangeById(userId)).thenReturn(unchanged);
+        registry.isRevoked(userId, Instant.now());
+
+        // When
+        registry.changesMissed();
+        registry.isRevoked(userId, Instant.now());
+
+        // Then
+        verify(userRepository, times(2)).findChangeById(userId);
+    }
+
+    private Optional<UserChange> changedAt(LocalDateTime updatedAt) {
+        UserChange change = mock(UserChange.class);
+        when(change.getUpdatedAt()).thenReturn(updatedAt);
+        return Optional.of(change);
+    }
+}
@@ -3,10 +3,24 @@ import { QUERY_KEYS } from '../constants';
 import { tasksApi } from '../services/api';
 import type { CreateTaskRequest, Task, UpdateTaskRequest } from '../types';
 
+// The board shows every task, so follow the cursor until the last page
+const fetchAllTasks = async (): Promise<Task[]> => {
+  const tasks: Task[] = [];
+  let cursor: string | undefined;
+
+  do {
+    const slice = await tasksApi.getTasks(cursor);
+    tasks.push(...slice.items);
+    cursor = slice.hasNext && slice.nextCursor ? slice.nextCursor : undefined;
+  } while (cursor);
+
+  return tasks;
+};
+
 export const useTasks = () => {
   return useQuery<Task[], Error>({
     queryKey: QUERY_KEYS.TASKS,
-    queryFn: tasksApi.getTasks,
+    queryFn: fetchAllTasks,
   });
 };
 
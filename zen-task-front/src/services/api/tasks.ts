@@ -2,13 +2,15 @@ import { API_ENDPOINTS } from '../../constants';
 import type {
   CreateTaskRequest,
   Task,
+  TaskSlice,
   UpdateTaskRequest,
 } from '../../types';
 import { apiClient } from './client';
 
 export const tasksApi = {
-  getTasks: async (): Promise<Task[]> => {
-    return apiClient.get<Task[]>(API_ENDPOINTS.TASKS.BASE);
+  getTasks: async (cursor?: string): Promise<TaskSlice> => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    return apiClient.get<TaskSlice>(`${API_ENDPOINTS.TASKS.BASE}${query}`);
   },
 
   getTask: async (id: string): Promise<Task> => {
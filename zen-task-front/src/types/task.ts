@@ -10,6 +10,12 @@ export interface Task {
   updatedAt: string;
 }
 
+export interface TaskSlice {
+  items: Task[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 export enum TaskStatus {
   TODO = 'TODO',
   IN_PROGRESS = 'IN_PROGRESS',